@@ -14,6 +14,8 @@ import java.util.List;
 
 public class BidsScanner {
 
+    private static final String SUBMIT_BIDS_FUNCTION_KEY = "function_submit_bids";
+
     private final RedisParser redisParser;
 
     private final String apiKey;
@@ -24,6 +26,9 @@ public class BidsScanner {
 
     private volatile Boolean isScanDisabled = true;
 
+    // hash of the scan function is refreshed along with scan state and dropped if the function call fails
+    private volatile String submitBidsFunctionHash;
+
     private final ObjectMapper objectMapper;
 
     public BidsScanner(
@@ -62,10 +67,10 @@ public class BidsScanner {
                 && readRedisNodeAPI != null && bids.getBresps().size() > 0;
 
         if (shouldSubmit) {
-            readRedisNodeAPI.get("function_submit_bids", submitHash -> {
-                final Object submitHashResult = submitHash.result();
+            submitBidsFunctionHash(readRedisNodeAPI).onComplete(submitHash -> {
+                final String submitHashResult = submitHash.result();
                 if (submitHashResult != null) {
-                    final List<String> readArgs = List.of(submitHashResult.toString(), "0", toBidsAsJson(bids), apiKey, "true");
+                    final List<String> readArgs = List.of(submitHashResult, "0", toBidsAsJson(bids), apiKey, "true");
 
                     readRedisNodeAPI.evalsha(readArgs, response -> {
                         if (response.result() != null) {
@@ -80,6 +85,9 @@ public class BidsScanner {
                                 scanResult.complete(parserResult);
                             }
                         } else {
+                            if (response.failed()) {
+                                submitBidsFunctionHash = null;
+                            }
                             scanResult.complete(getEmptyScanResult());
                         }
                     });
@@ -94,6 +102,23 @@ public class BidsScanner {
         return Future.succeededFuture(getEmptyScanResult());
     }
 
+    private Future<String> submitBidsFunctionHash(RedisAPI redisAPI) {
+        final String cachedHash = submitBidsFunctionHash;
+        return cachedHash != null
+                ? Future.succeededFuture(cachedHash)
+                : fetchSubmitBidsFunctionHash(redisAPI);
+    }
+
+    private Future<String> fetchSubmitBidsFunctionHash(RedisAPI redisAPI) {
+        return redisAPI.get(SUBMIT_BIDS_FUNCTION_KEY)
+                .map(response -> {
+                    final String hash = response != null ? response.toString() : null;
+                    submitBidsFunctionHash = hash;
+                    return hash;
+                })
+                .otherwiseEmpty();
+    }
+
     private void reSubmitBidsToWriteNode(List<String> readArgs, Promise<BidsScanResult> scanResult) {
         final RedisAPI writeRedisAPI = this.writeRedisNode.getRedisAPI();
         if (writeRedisAPI != null) {
@@ -118,6 +143,9 @@ public class BidsScanner {
         final Promise<Boolean> isDisabled = Promise.promise();
 
         if (redisAPI != null) {
+            // pipelined on the connection together with scan state request
+            fetchSubmitBidsFunctionHash(redisAPI);
+
             redisAPI.get("scan-disabled", scanDisabledValue -> {
                 final Response scanDisabled = scanDisabledValue.result();
                 isDisabled.complete(scanDisabled != null && scanDisabled.toString().equals("true"));
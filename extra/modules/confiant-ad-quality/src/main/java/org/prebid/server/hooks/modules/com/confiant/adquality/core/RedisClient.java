@@ -1,5 +1,6 @@
 package org.prebid.server.hooks.modules.com.confiant.adquality.core;
 
+import com.codahale.metrics.MetricRegistry;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -18,9 +19,11 @@ public class RedisClient {
 
     private final RedisOptions options;
 
-    private RedisConnection connection;
+    private static final String METRIC_PREFIX = "modules.module.confiant-ad-quality.redis.";
 
-    private RedisAPI redisAPI;
+    private volatile RedisConnection connection;
+
+    private final RedisAPI redisAPI;
 
     private final RedisRetryConfig retryConfig;
 
@@ -34,12 +37,14 @@ public class RedisClient {
             int port,
             String password,
             RedisRetryConfig retryConfig,
+            MetricRegistry metricRegistry,
             String type) {
 
         this.vertx = vertx;
         this.retryConfig = retryConfig;
         this.options = new RedisOptions().setConnectionString("redis://:" + password + "@" + host + ":" + port);
         this.type = type;
+        this.redisAPI = new TimedRedisAPI(() -> connection, metricRegistry, METRIC_PREFIX + type.replace(' ', '-'));
     }
 
     public void start(Promise<Void> startFuture) {
@@ -51,8 +56,11 @@ public class RedisClient {
         }, false);
     }
 
+    /**
+     * Returns API of the current connection, or null if connection is not established.
+     */
     public RedisAPI getRedisAPI() {
-        return redisAPI;
+        return connection != null ? redisAPI : null;
     }
 
     /**
@@ -78,7 +86,6 @@ public class RedisClient {
                                 attemptReconnect(0, handler);
                             }
                         });
-                        redisAPI = RedisAPI.api(connection);
                         handler.handle(onConnect);
                     } else if (!isReconnect) {
                         attemptReconnect(0, handler);
@@ -0,0 +1,62 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.codahale.metrics.MetricRegistry;
+import io.vertx.core.Future;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link RedisAPI} over the current connection which records round trip time of each command.
+ * <p>
+ * Commands sent concurrently are pipelined by the connection itself.
+ */
+public class TimedRedisAPI implements RedisAPI {
+
+    private final Supplier<RedisConnection> connectionSupplier;
+    private final MetricRegistry metricRegistry;
+    private final String metricPrefix;
+
+    public TimedRedisAPI(Supplier<RedisConnection> connectionSupplier,
+                         MetricRegistry metricRegistry,
+                         String metricPrefix) {
+
+        this.connectionSupplier = connectionSupplier;
+        this.metricRegistry = metricRegistry;
+        this.metricPrefix = metricPrefix;
+    }
+
+    @Override
+    public Future<Response> send(Command command, String... args) {
+        final RedisConnection connection = connectionSupplier.get();
+        if (connection == null) {
+            return Future.failedFuture("Redis connection is not established");
+        }
+
+        final long startTime = System.nanoTime();
+        return connection.send(toRequest(command, args))
+                .onComplete(ignored -> metricRegistry.timer(metricPrefix + ".round-trip-time")
+                        .update(System.nanoTime() - startTime, TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void close() {
+        final RedisConnection connection = connectionSupplier.get();
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private static Request toRequest(Command command, String... args) {
+        final Request request = Request.cmd(command);
+        for (String arg : args) {
+            request.arg(arg);
+        }
+        return request;
+    }
+}
@@ -20,6 +20,7 @@ import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidResp
 import org.prebid.server.hooks.modules.com.confiant.adquality.model.RedisBidsData;
 import org.prebid.server.hooks.modules.com.confiant.adquality.util.AdQualityModuleTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -209,7 +210,34 @@ public class BidsScannerTest {
         assertThat(groupByIssues.getWithoutIssues().size()).isEqualTo(0);
     }
 
+    @Test()
+    public void shouldReuseSubmitBidsFunctionHashForSubsequentScans() {
+        // given
+        final String redisResponse = "[[[{\"tag_key\": \"key_a\", \"imp_id\": \"imp_a\"}]]]";
+        final List<Command> sentCommands = new ArrayList<>();
+        final RedisAPI redisAPI = getRedisEmulationWithAnswer(redisResponse, sentCommands);
+        final RedisBidsData bidsData = RedisBidsData.builder()
+                .breq(BidRequest.builder().build())
+                .bresps(List.of(RedisBidResponseData.builder()
+                        .dspId("dsp_id")
+                        .bidresponse(BidResponse.builder().build())
+                        .build())).build();
+        bidsScannerTest.enableScan();
+        doReturn(redisAPI).when(readRedisNode).getRedisAPI();
+
+        // when
+        bidsScannerTest.submitBids(bidsData);
+        bidsScannerTest.submitBids(bidsData);
+
+        // then
+        assertThat(sentCommands).containsExactly(Command.GET, Command.EVALSHA, Command.EVALSHA);
+    }
+
     private RedisAPI getRedisEmulationWithAnswer(String sendAnswer) {
+        return getRedisEmulationWithAnswer(sendAnswer, new ArrayList<>());
+    }
+
+    private RedisAPI getRedisEmulationWithAnswer(String sendAnswer, List<Command> sentCommands) {
         return new RedisAPI() {
             @Override
             public void close() {
@@ -217,6 +245,7 @@ public class BidsScannerTest {
 
             @Override
             public Future<Response> send(Command command, String... strings) {
+                sentCommands.add(command);
                 return Future.succeededFuture(new Response() {
                     @Override
                     public ResponseType type() {
@@ -0,0 +1,96 @@
+package org.prebid.server.hooks.modules.com.confiant.adquality.core;
+
+import com.codahale.metrics.MetricRegistry;
+import io.vertx.core.Future;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TimedRedisAPITest {
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private Response response;
+
+    private MetricRegistry metricRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+    }
+
+    @Test
+    public void sendShouldSendCommandToConnectionAndRecordRoundTripTime() {
+        // given
+        final TimedRedisAPI target = new TimedRedisAPI(() -> connection, metricRegistry, "redis.read-node");
+        given(connection.send(any())).willReturn(Future.succeededFuture(response));
+
+        // when
+        final Future<Response> result = target.evalsha(List.of("hash", "0"));
+
+        // then
+        assertThat(result.result()).isSameAs(response);
+
+        final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(connection).send(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().command()).isEqualTo(Command.EVALSHA);
+
+        assertThat(metricRegistry.timer("redis.read-node.round-trip-time").getCount()).isOne();
+    }
+
+    @Test
+    public void sendShouldRecordRoundTripTimeOfFailedCommand() {
+        // given
+        final TimedRedisAPI target = new TimedRedisAPI(() -> connection, metricRegistry, "redis.read-node");
+        given(connection.send(any())).willReturn(Future.failedFuture("NOSCRIPT No matching script"));
+
+        // when
+        final Future<Response> result = target.evalsha(List.of("hash", "0"));
+
+        // then
+        assertThat(result.cause()).hasMessage("NOSCRIPT No matching script");
+        assertThat(metricRegistry.timer("redis.read-node.round-trip-time").getCount()).isOne();
+    }
+
+    @Test
+    public void sendShouldFailWhenConnectionIsNotEstablished() {
+        // given
+        final TimedRedisAPI target = new TimedRedisAPI(() -> null, metricRegistry, "redis.read-node");
+
+        // when
+        final Future<Response> result = target.get("key");
+
+        // then
+        assertThat(result.cause()).hasMessage("Redis connection is not established");
+        assertThat(metricRegistry.timer("redis.read-node.round-trip-time").getCount()).isZero();
+    }
+
+    @Test
+    public void closeShouldCloseConnection() {
+        // given
+        final TimedRedisAPI target = new TimedRedisAPI(() -> connection, metricRegistry, "redis.read-node");
+
+        // when
+        target.close();
+
+        // then
+        verify(connection).close();
+    }
+}
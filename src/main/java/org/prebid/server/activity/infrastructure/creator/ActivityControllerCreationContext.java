@@ -6,7 +6,6 @@ import lombok.Setter;
 import lombok.Value;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier;
-import org.prebid.server.auction.gpp.model.GppContext;
 import org.prebid.server.settings.model.activity.privacy.AccountPrivacyModuleConfig;
 
 import java.util.EnumSet;
@@ -24,8 +23,6 @@ public class ActivityControllerCreationContext {
     @Setter(AccessLevel.NONE)
     Set<PrivacyModuleQualifier> usedPrivacyModules = EnumSet.noneOf(PrivacyModuleQualifier.class);
 
-    GppContext gppContext;
-
     public boolean isUsed(PrivacyModuleQualifier qualifier) {
         return usedPrivacyModules.contains(qualifier);
     }
@@ -1,9 +1,11 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.collections4.ListUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.ActivityController;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
+import org.prebid.server.activity.infrastructure.creator.rule.CompiledRule;
 import org.prebid.server.activity.infrastructure.debug.ActivityInfrastructureDebug;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier;
 import org.prebid.server.activity.infrastructure.rule.Rule;
@@ -46,8 +48,12 @@ public class ActivityInfrastructureCreator {
     private final Metrics metrics;
     private final JacksonMapper jacksonMapper;
 
+    private final Map<AccountPrivacyConfig, Map<Activity, CompiledActivity>> compiledActivitiesCache;
+    private final Map<Activity, CompiledActivity> defaultCompiledActivities;
+
     public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
                                          GdprConfig gdprConfig,
+                                         boolean cacheCompiledActivities,
                                          Metrics metrics,
                                          JacksonMapper jacksonMapper) {
 
@@ -58,6 +64,10 @@ public class ActivityInfrastructureCreator {
                 .orElse(null);
         this.metrics = Objects.requireNonNull(metrics);
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
+
+        // accounts are the same instances between requests only when settings are cached
+        compiledActivitiesCache = cacheCompiledActivities ? compiledActivitiesCache() : null;
+        defaultCompiledActivities = compile(null, null);
     }
 
     public ActivityInfrastructure create(Account account, GppContext gppContext, TraceLevel traceLevel) {
@@ -70,33 +80,51 @@ public class ActivityInfrastructureCreator {
     }
 
     Map<Activity, ActivityController> parse(Account account, GppContext gppContext, ActivityInfrastructureDebug debug) {
-        final Optional<AccountPrivacyConfig> accountPrivacyConfig = Optional.ofNullable(account.getPrivacy());
+        final Map<Activity, CompiledActivity> compiledActivities = compiledActivities(account);
+
+        final Map<Activity, ActivityController> activitiesControllers = new EnumMap<>(Activity.class);
+        compiledActivities.forEach((activity, compiledActivity) ->
+                activitiesControllers.put(activity, compiledActivity.bind(gppContext, debug)));
+
+        return activitiesControllers;
+    }
+
+    private Map<Activity, CompiledActivity> compiledActivities(Account account) {
+        final AccountPrivacyConfig accountPrivacyConfig = account.getPrivacy();
+        if (accountPrivacyConfig == null) {
+            return defaultCompiledActivities;
+        }
+
+        return compiledActivitiesCache != null
+                ? compiledActivitiesCache.computeIfAbsent(
+                        accountPrivacyConfig,
+                        privacyConfig -> compile(account.getId(), privacyConfig))
+                : compile(account.getId(), accountPrivacyConfig);
+    }
 
-        final Map<Activity, AccountActivityConfiguration> activitiesConfiguration = accountPrivacyConfig
+    private Map<Activity, CompiledActivity> compile(String accountId, AccountPrivacyConfig accountPrivacyConfig) {
+        final Optional<AccountPrivacyConfig> privacyConfig = Optional.ofNullable(accountPrivacyConfig);
+
+        final Map<Activity, AccountActivityConfiguration> activitiesConfiguration = privacyConfig
                 .map(AccountPrivacyConfig::getActivities)
                 .orElseGet(Collections::emptyMap);
-        final Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs = accountPrivacyConfig
+        final Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs = privacyConfig
                 .map(AccountPrivacyConfig::getModules)
                 .orElseGet(Collections::emptyList)
                 .stream()
                 .collect(Collectors.toMap(
                         AccountPrivacyModuleConfig::getCode,
                         UnaryOperator.identity(),
-                        takeFirstAndLogDuplicates(account.getId())));
+                        takeFirstAndLogDuplicates(accountId)));
 
-        return Arrays.stream(Activity.values()).collect(Collectors.toMap(
+        return Collections.unmodifiableMap(Arrays.stream(Activity.values()).collect(Collectors.toMap(
                 UnaryOperator.identity(),
                 fallbackActivity(
                         activitiesConfiguration,
-                        accountPrivacyConfig,
-                        activity -> from(
-                                activity,
-                                activitiesConfiguration.get(activity),
-                                modulesConfigs,
-                                gppContext,
-                                debug)),
+                        privacyConfig,
+                        activity -> from(activity, activitiesConfiguration.get(activity), modulesConfigs)),
                 (oldValue, newValue) -> oldValue,
-                enumMapFactory()));
+                enumMapFactory())));
     }
 
     private BinaryOperator<AccountPrivacyModuleConfig> takeFirstAndLogDuplicates(String accountId) {
@@ -110,10 +138,10 @@ public class ActivityInfrastructureCreator {
     }
 
     // TODO: remove this wrapper after transition period
-    private Function<Activity, ActivityController> fallbackActivity(
+    private Function<Activity, CompiledActivity> fallbackActivity(
             Map<Activity, AccountActivityConfiguration> activitiesConfiguration,
             Optional<AccountPrivacyConfig> accountPrivacyConfig,
-            Function<Activity, ActivityController> activityControllerCreator) {
+            Function<Activity, CompiledActivity> activityControllerCreator) {
 
         final boolean imitateTransmitEids = !activitiesConfiguration.containsKey(Activity.TRANSMIT_EIDS)
                 && activitiesConfiguration.containsKey(Activity.TRANSMIT_UFPD)
@@ -131,38 +159,53 @@ public class ActivityInfrastructureCreator {
                 : activityControllerCreator.apply(originalActivity);
     }
 
-    private ActivityController from(Activity activity,
-                                    AccountActivityConfiguration activityConfiguration,
-                                    Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs,
-                                    GppContext gppContext,
-                                    ActivityInfrastructureDebug debug) {
+    private CompiledActivity from(Activity activity,
+                                  AccountActivityConfiguration activityConfiguration,
+                                  Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs) {
 
         if (activityConfiguration == null) {
-            return ActivityController.of(
-                    ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT,
-                    Collections.emptyList(),
-                    debug);
+            return CompiledActivity.DEFAULT;
         }
 
         final ActivityControllerCreationContext creationContext = ActivityControllerCreationContext.of(
                 activity,
-                modulesConfigs,
-                gppContext);
+                modulesConfigs);
 
         final boolean allow = allowFromConfig(activityConfiguration.getAllow());
-        final List<Rule> rules = ListUtils.emptyIfNull(activityConfiguration.getRules()).stream()
+        final List<CompiledRule> rules = ListUtils.emptyIfNull(activityConfiguration.getRules()).stream()
                 .filter(Objects::nonNull)
                 .map(ruleConfiguration -> activityRuleFactory.from(ruleConfiguration, creationContext))
                 .toList();
 
-        return ActivityController.of(allow, rules, debug);
+        return new CompiledActivity(allow, rules);
     }
 
     private static boolean allowFromConfig(Boolean configValue) {
         return configValue != null ? configValue : ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT;
     }
 
-    private static Supplier<Map<Activity, ActivityController>> enumMapFactory() {
+    private static Map<AccountPrivacyConfig, Map<Activity, CompiledActivity>> compiledActivitiesCache() {
+        return Caffeine.newBuilder()
+                .weakKeys()
+                .<AccountPrivacyConfig, Map<Activity, CompiledActivity>>build()
+                .asMap();
+    }
+
+    private static Supplier<Map<Activity, CompiledActivity>> enumMapFactory() {
         return () -> new EnumMap<>(Activity.class);
     }
+
+    private record CompiledActivity(boolean allow, List<CompiledRule> rules) {
+
+        private static final CompiledActivity DEFAULT =
+                new CompiledActivity(ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT, Collections.emptyList());
+
+        ActivityController bind(GppContext gppContext, ActivityInfrastructureDebug debug) {
+            final List<Rule> boundRules = rules.isEmpty()
+                    ? Collections.emptyList()
+                    : rules.stream().map(rule -> rule.bind(gppContext)).toList();
+
+            return ActivityController.of(allow, boundRules, debug);
+        }
+    }
 }
@@ -1,8 +1,8 @@
 package org.prebid.server.activity.infrastructure.creator;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.activity.infrastructure.creator.rule.CompiledRule;
 import org.prebid.server.activity.infrastructure.creator.rule.RuleCreator;
-import org.prebid.server.activity.infrastructure.rule.Rule;
 
 import java.util.List;
 import java.util.Map;
@@ -20,7 +20,9 @@ public class ActivityRuleFactory {
                         Function.identity()));
     }
 
-    public Rule from(Object ruleConfiguration, ActivityControllerCreationContext activityControllerCreationContext) {
+    public CompiledRule from(Object ruleConfiguration,
+                             ActivityControllerCreationContext activityControllerCreationContext) {
+
         final Class<?> ruleConfigurationClass = ruleConfiguration.getClass();
         final RuleCreator<?> ruleCreator = ruleCreators.get(ruleConfigurationClass);
         if (ruleCreator == null) {
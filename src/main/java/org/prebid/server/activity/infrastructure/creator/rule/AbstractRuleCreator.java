@@ -1,7 +1,6 @@
 package org.prebid.server.activity.infrastructure.creator.rule;
 
 import org.prebid.server.activity.infrastructure.creator.ActivityControllerCreationContext;
-import org.prebid.server.activity.infrastructure.rule.Rule;
 
 import java.util.Objects;
 
@@ -19,7 +18,7 @@ public abstract class AbstractRuleCreator<T> implements RuleCreator<T> {
     }
 
     @Override
-    public Rule from(Object ruleConfiguration, ActivityControllerCreationContext creationContext) {
+    public CompiledRule from(Object ruleConfiguration, ActivityControllerCreationContext creationContext) {
         if (!relatedConfigurationClass.isInstance(ruleConfiguration)) {
             throw new AssertionError();
         }
@@ -29,5 +28,6 @@ public abstract class AbstractRuleCreator<T> implements RuleCreator<T> {
                 creationContext);
     }
 
-    protected abstract Rule fromConfiguration(T ruleConfiguration, ActivityControllerCreationContext creationContext);
+    protected abstract CompiledRule fromConfiguration(T ruleConfiguration,
+                                                      ActivityControllerCreationContext creationContext);
 }
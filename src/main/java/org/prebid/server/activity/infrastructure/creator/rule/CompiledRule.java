@@ -0,0 +1,14 @@
+package org.prebid.server.activity.infrastructure.creator.rule;
+
+import org.prebid.server.activity.infrastructure.rule.Rule;
+import org.prebid.server.auction.gpp.model.GppContext;
+
+/**
+ * Account-level rule representation that does not depend on request data and can be shared between requests.
+ * The request-specific {@link GppContext} is bound to it right before activities evaluation.
+ */
+@FunctionalInterface
+public interface CompiledRule {
+
+    Rule bind(GppContext gppContext);
+}
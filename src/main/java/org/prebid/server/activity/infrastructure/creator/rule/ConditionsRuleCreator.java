@@ -6,7 +6,6 @@ import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
 import org.prebid.server.activity.infrastructure.creator.ActivityControllerCreationContext;
 import org.prebid.server.activity.infrastructure.rule.ConditionsRule;
-import org.prebid.server.activity.infrastructure.rule.Rule;
 import org.prebid.server.settings.model.activity.rule.AccountActivityConditionsRuleConfig;
 
 import java.util.Collection;
@@ -23,19 +22,33 @@ public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityCo
     }
 
     @Override
-    protected Rule fromConfiguration(AccountActivityConditionsRuleConfig ruleConfiguration,
-                                     ActivityControllerCreationContext creationContext) {
+    protected CompiledRule fromConfiguration(AccountActivityConditionsRuleConfig ruleConfiguration,
+                                             ActivityControllerCreationContext creationContext) {
 
         final boolean allow = allowFromConfig(ruleConfiguration.getAllow());
         final AccountActivityConditionsRuleConfig.Condition condition = ruleConfiguration.getCondition();
 
-        return new ConditionsRule(
-                condition != null ? setOf(condition.getComponentTypes()) : null,
-                condition != null ? caseInsensitiveSetOf(condition.getComponentNames()) : null,
-                sidsMatched(condition, creationContext.getGppContext().scope().getSectionsIds()),
-                condition != null ? geoCodes(condition.getGeoCodes()) : null,
-                condition != null ? condition.getGpc() : null,
-                allow);
+        final Set<ComponentType> componentTypes = condition != null ? setOf(condition.getComponentTypes()) : null;
+        final Set<String> componentNames = condition != null
+                ? caseInsensitiveSetOf(condition.getComponentNames())
+                : null;
+        final List<ConditionsRule.GeoCode> geoCodes = condition != null ? geoCodes(condition.getGeoCodes()) : null;
+        final String gpc = condition != null ? condition.getGpc() : null;
+
+        final ConditionsRule sidsMatchedRule =
+                new ConditionsRule(componentTypes, componentNames, true, geoCodes, gpc, allow);
+
+        final List<Integer> sids = condition != null ? condition.getSids() : null;
+        if (sids == null) {
+            return gppContext -> sidsMatchedRule;
+        }
+
+        final ConditionsRule sidsNotMatchedRule =
+                new ConditionsRule(componentTypes, componentNames, false, geoCodes, gpc, allow);
+
+        return gppContext -> intersects(sids, gppContext.scope().getSectionsIds())
+                ? sidsMatchedRule
+                : sidsNotMatchedRule;
     }
 
     private static boolean allowFromConfig(Boolean configValue) {
@@ -56,11 +69,6 @@ public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityCo
         return caseInsensitiveSet;
     }
 
-    private static boolean sidsMatched(AccountActivityConditionsRuleConfig.Condition condition, Set<Integer> gppSids) {
-        final List<Integer> sids = condition != null ? condition.getSids() : null;
-        return sids == null || intersects(sids, gppSids);
-    }
-
     private static boolean intersects(Collection<Integer> configurationSids, Collection<Integer> gppSids) {
         return CollectionUtils.isNotEmpty(configurationSids) && CollectionUtils.isNotEmpty(gppSids)
                 && !CollectionUtils.intersection(configurationSids, gppSids).isEmpty();
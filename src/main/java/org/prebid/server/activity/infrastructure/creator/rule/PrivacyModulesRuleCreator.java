@@ -2,6 +2,7 @@ package org.prebid.server.activity.infrastructure.creator.rule;
 
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.creator.ActivityControllerCreationContext;
 import org.prebid.server.activity.infrastructure.creator.PrivacyModuleCreationContext;
 import org.prebid.server.activity.infrastructure.creator.privacy.PrivacyModuleCreator;
@@ -34,20 +35,32 @@ public class PrivacyModulesRuleCreator extends AbstractRuleCreator<AccountActivi
     }
 
     @Override
-    protected Rule fromConfiguration(AccountActivityPrivacyModulesRuleConfig ruleConfiguration,
-                                     ActivityControllerCreationContext creationContext) {
+    protected CompiledRule fromConfiguration(AccountActivityPrivacyModulesRuleConfig ruleConfiguration,
+                                             ActivityControllerCreationContext creationContext) {
 
         final List<String> configuredModulesNames = ruleConfiguration.getPrivacyModules();
 
-        final List<PrivacyModule> privacyModules = ListUtils.emptyIfNull(configuredModulesNames).stream()
+        final List<PrivacyModuleQualifier> qualifiers = ListUtils.emptyIfNull(configuredModulesNames).stream()
                 .map(configuredModuleName -> mapToModulesQualifiers(configuredModuleName, creationContext))
                 .flatMap(Collection::stream)
                 .filter(qualifier -> !creationContext.isUsed(qualifier))
                 .peek(creationContext::use)
-                .map(qualifier -> createPrivacyModule(qualifier, creationContext))
                 .toList();
 
-        return new AndRule(privacyModules);
+        if (qualifiers.isEmpty()) {
+            final Rule emptyRule = new AndRule(Collections.emptyList());
+            return gppContext -> emptyRule;
+        }
+
+        final Activity activity = creationContext.getActivity();
+        final Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs =
+                creationContext.getPrivacyModulesConfigs();
+
+        return gppContext -> new AndRule(qualifiers.stream()
+                .map(qualifier -> createPrivacyModule(
+                        qualifier,
+                        PrivacyModuleCreationContext.of(activity, modulesConfigs.get(qualifier), gppContext)))
+                .toList());
     }
 
     private List<PrivacyModuleQualifier> mapToModulesQualifiers(
@@ -80,18 +93,8 @@ public class PrivacyModulesRuleCreator extends AbstractRuleCreator<AccountActivi
     }
 
     private PrivacyModule createPrivacyModule(PrivacyModuleQualifier privacyModuleQualifier,
-                                              ActivityControllerCreationContext creationContext) {
-
-        return privacyModulesCreators.get(privacyModuleQualifier)
-                .from(creationContext(privacyModuleQualifier, creationContext));
-    }
-
-    private static PrivacyModuleCreationContext creationContext(PrivacyModuleQualifier privacyModuleQualifier,
-                                                                ActivityControllerCreationContext creationContext) {
+                                              PrivacyModuleCreationContext creationContext) {
 
-        return PrivacyModuleCreationContext.of(
-                creationContext.getActivity(),
-                creationContext.getPrivacyModulesConfigs().get(privacyModuleQualifier),
-                creationContext.getGppContext());
+        return privacyModulesCreators.get(privacyModuleQualifier).from(creationContext);
     }
 }
@@ -1,11 +1,10 @@
 package org.prebid.server.activity.infrastructure.creator.rule;
 
 import org.prebid.server.activity.infrastructure.creator.ActivityControllerCreationContext;
-import org.prebid.server.activity.infrastructure.rule.Rule;
 
 public interface RuleCreator<T> {
 
     Class<T> relatedConfigurationClass();
 
-    Rule from(Object ruleConfiguration, ActivityControllerCreationContext activityControllerCreationContext);
+    CompiledRule from(Object ruleConfiguration, ActivityControllerCreationContext activityControllerCreationContext);
 }
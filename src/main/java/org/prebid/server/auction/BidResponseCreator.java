@@ -15,6 +15,7 @@ import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.Response;
 import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import org.apache.commons.collections4.CollectionUtils;
@@ -61,6 +62,8 @@ import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.identity.IdGeneratorType;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtImp;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpAuctionEnvironment;
 import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
@@ -139,6 +142,7 @@ public class BidResponseCreator {
     private final Clock clock;
     private final JacksonMapper mapper;
     private final CacheTtl mediaTypeCacheTtl;
+    private final Metrics metrics;
 
     private final String cacheHost;
     private final String cachePath;
@@ -156,7 +160,8 @@ public class BidResponseCreator {
                               int truncateAttrChars,
                               Clock clock,
                               JacksonMapper mapper,
-                              CacheTtl mediaTypeCacheTtl) {
+                              CacheTtl mediaTypeCacheTtl,
+                              Metrics metrics) {
 
         this.coreCacheService = Objects.requireNonNull(coreCacheService);
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
@@ -171,6 +176,7 @@ public class BidResponseCreator {
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
         this.mediaTypeCacheTtl = Objects.requireNonNull(mediaTypeCacheTtl);
+        this.metrics = Objects.requireNonNull(metrics);
 
         cacheHost = Objects.requireNonNull(coreCacheService.getEndpointHost());
         cachePath = Objects.requireNonNull(coreCacheService.getEndpointPath());
@@ -207,9 +213,11 @@ public class BidResponseCreator {
                                BidRequestCacheInfo cacheInfo,
                                Map<String, MultiBidConfig> bidderToMultiBids) {
 
+        final long startTime = System.nanoTime();
         return videoStoredDataResult(auctionContext)
                 .compose(videoStoredData -> create(videoStoredData, auctionContext, cacheInfo, bidderToMultiBids))
-                .map(bidResponse -> populateSeatNonBid(auctionContext, bidResponse));
+                .map(bidResponse -> populateSeatNonBid(auctionContext, bidResponse))
+                .onComplete(result -> recordStage(MetricName.response_creation, auctionContext, startTime, result));
     }
 
     private Future<BidResponse> create(VideoStoredDataResult videoStoredDataResult,
@@ -237,6 +245,11 @@ public class BidResponseCreator {
                         eventsContext));
     }
 
+    private void recordStage(MetricName stage, AuctionContext auctionContext, long startTime, AsyncResult<?> result) {
+        metrics.updateAuctionStageTime(stage, System.nanoTime() - startTime);
+        auctionContext.getTrace().addSpan(stage.toString(), startTime, Collections.emptyMap(), result.failed());
+    }
+
     private Future<List<BidderResponse>> updateBids(List<BidderResponse> bidderResponses,
                                                     VideoStoredDataResult videoStoredDataResult,
                                                     AuctionContext auctionContext,
@@ -866,7 +879,9 @@ public class BidResponseCreator {
                 .shouldCacheVideoBids(cacheInfo.isShouldCacheVideoBids())
                 .build();
 
+        final long startTime = System.nanoTime();
         return coreCacheService.cacheBidsOpenrtb(bidsValidToBeCached, auctionContext, cacheContext, eventsContext)
+                .onComplete(result -> recordStage(MetricName.cache, auctionContext, startTime, result))
                 .map(cacheResult -> addNotCachedBids(cacheResult, bidsToCache));
     }
 
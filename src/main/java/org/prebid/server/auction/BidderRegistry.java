@@ -0,0 +1,100 @@
+package org.prebid.server.auction;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Bidders taking part in an auction, each with a dense integer id assigned at auction start.
+ * <p>
+ * Lets per-bidder auction state be kept in arrays and bidder lists of the request be matched
+ * against auction bidders once instead of for each bidder.
+ */
+public class BidderRegistry {
+
+    private final String[] bidders;
+
+    private final String[] resolvedBidders;
+
+    private final String[] lowerCaseBidders;
+
+    private final Map<String, Integer> bidderToId;
+
+    private BidderRegistry(List<String> bidders, BidderAliases aliases) {
+        final int size = bidders.size();
+        this.bidders = new String[size];
+        this.resolvedBidders = new String[size];
+        this.lowerCaseBidders = new String[size];
+        this.bidderToId = new HashMap<>(size * 2);
+
+        for (int id = 0; id < size; id++) {
+            final String bidder = bidders.get(id);
+            this.bidders[id] = bidder;
+            resolvedBidders[id] = aliases.resolveBidder(bidder);
+            lowerCaseBidders[id] = bidder.toLowerCase(Locale.ROOT);
+            bidderToId.putIfAbsent(bidder, id);
+        }
+    }
+
+    public static BidderRegistry of(List<String> bidders, BidderAliases aliases) {
+        return new BidderRegistry(Objects.requireNonNull(bidders), Objects.requireNonNull(aliases));
+    }
+
+    public int size() {
+        return bidders.length;
+    }
+
+    public String bidder(int id) {
+        return bidders[id];
+    }
+
+    /**
+     * Returns name of the bidder with given id with request alias resolved.
+     */
+    public String resolvedBidder(int id) {
+        return resolvedBidders[id];
+    }
+
+    /**
+     * Returns id of the auction bidder with exactly given name or -1 if there is no such bidder.
+     */
+    public int id(String bidder) {
+        final Integer id = bidderToId.get(bidder);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns ids of auction bidders matching any of given names case-insensitively.
+     */
+    public BitSet ids(Collection<String> names) {
+        final BitSet ids = new BitSet(bidders.length);
+        if (names.isEmpty()) {
+            return ids;
+        }
+
+        final Set<String> lowerCaseNames = new HashSet<>();
+        for (String name : names) {
+            if (name != null) {
+                lowerCaseNames.add(name.toLowerCase(Locale.ROOT));
+            }
+        }
+        for (int id = 0; id < lowerCaseBidders.length; id++) {
+            if (lowerCaseNames.contains(lowerCaseBidders[id])) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+
+    public BitSet allIds() {
+        final BitSet ids = new BitSet(bidders.length);
+        ids.set(0, bidders.length);
+        return ids;
+    }
+}
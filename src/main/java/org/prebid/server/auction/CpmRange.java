@@ -3,6 +3,7 @@ package org.prebid.server.auction;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.util.MicroPriceUtil;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -57,6 +58,12 @@ public class CpmRange {
             return rangeMax;
         }
 
+        final MicroRanges microRanges = priceGranularity.getMicroRanges();
+        final long cpmMicros = microRanges != null ? MicroPriceUtil.toMicros(cpm) : MicroPriceUtil.NOT_REPRESENTABLE;
+        if (cpmMicros != MicroPriceUtil.NOT_REPRESENTABLE) {
+            return microRanges.fromCpm(cpmMicros);
+        }
+
         BigDecimal min = BigDecimal.ZERO;
         BigDecimal increment = null;
         for (ExtGranularityRange range : priceGranularity.getRanges()) {
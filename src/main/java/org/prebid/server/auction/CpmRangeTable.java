@@ -0,0 +1,198 @@
+package org.prebid.server.auction;
+
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Precomputed buckets of {@link PriceGranularity} with their formatted values.
+ * <p>
+ * Gives the same results as {@link CpmRange}, but rounding a price is a binary search among bucket values,
+ * so neither arithmetic nor formatting is performed per bid. Tables are built once for named granularities only,
+ * which are used by most requests, including custom granularities with the same precision and ranges. Other custom
+ * granularities come from requests and aren't worth building thousands of buckets for, so they are rounded by
+ * {@link CpmRange} as is.
+ */
+public class CpmRangeTable {
+
+    private static final Map<Key, CpmRangeTable> NAMED_TABLES =
+            Stream.of(PriceGranularity.PriceGranularityType.values())
+                    .map(type -> PriceGranularity.createFromString(type.name()))
+                    .collect(Collectors.toUnmodifiableMap(
+                            priceGranularity -> new Key(priceGranularity.getPrecision(), priceGranularity.getRanges()),
+                            CpmRangeTable::create,
+                            // medium and med are the same granularity
+                            (table, sameTable) -> table));
+
+    private final PriceGranularity priceGranularity;
+    private final BigDecimal[] rangeMaxes;
+    private final BigDecimal[][] bucketValues;
+    private final String[][] formattedBucketValues;
+    private final String formattedRangesMax;
+
+    private CpmRangeTable(PriceGranularity priceGranularity,
+                          BigDecimal[] rangeMaxes,
+                          BigDecimal[][] bucketValues,
+                          String[][] formattedBucketValues,
+                          String formattedRangesMax) {
+
+        this.priceGranularity = priceGranularity;
+        this.rangeMaxes = rangeMaxes;
+        this.bucketValues = bucketValues;
+        this.formattedBucketValues = formattedBucketValues;
+        this.formattedRangesMax = formattedRangesMax;
+    }
+
+    /**
+     * Returns table for the given {@link PriceGranularity}.
+     * <p>
+     * Granularity which doesn't match any named one gets a table which delegates to {@link CpmRange},
+     * so the result (or the failure) stays the same.
+     */
+    public static CpmRangeTable of(PriceGranularity priceGranularity) {
+        final List<ExtGranularityRange> ranges = priceGranularity.getRanges();
+        final CpmRangeTable namedTable = isValid(ranges)
+                ? NAMED_TABLES.get(new Key(priceGranularity.getPrecision(), ranges))
+                : null;
+
+        return namedTable != null ? namedTable : delegating(priceGranularity);
+    }
+
+    /**
+     * Rounds price by the rules of the granularity and returns it in string format,
+     * the same way as {@link CpmRange#fromCpm(BigDecimal, PriceGranularity)} does.
+     */
+    public String fromCpm(BigDecimal cpm) {
+        if (bucketValues == null) {
+            return CpmRange.fromCpm(cpm, priceGranularity);
+        }
+
+        if (cpm.compareTo(BigDecimal.ZERO) <= 0) {
+            return StringUtils.EMPTY;
+        }
+        if (cpm.compareTo(priceGranularity.getRangesMax()) > 0) {
+            return formattedRangesMax;
+        }
+
+        final int rangeIndex = rangeIndex(cpm);
+        return formattedBucketValues[rangeIndex][bucketIndex(bucketValues[rangeIndex], cpm)];
+    }
+
+    /**
+     * Rounds price by the rules of the granularity and returns it in {@link BigDecimal} format,
+     * the same way as {@link CpmRange#fromCpmAsNumber(BigDecimal, PriceGranularity)} does.
+     */
+    public BigDecimal fromCpmAsNumber(BigDecimal cpm) {
+        if (bucketValues == null) {
+            return CpmRange.fromCpmAsNumber(cpm, priceGranularity);
+        }
+
+        if (cpm.compareTo(BigDecimal.ZERO) <= 0) {
+            return null;
+        }
+        final BigDecimal rangesMax = priceGranularity.getRangesMax();
+        if (cpm.compareTo(rangesMax) > 0) {
+            return rangesMax;
+        }
+
+        final int rangeIndex = rangeIndex(cpm);
+        return bucketValues[rangeIndex][bucketIndex(bucketValues[rangeIndex], cpm)];
+    }
+
+    /**
+     * Returns index of the first range with max not less than the given price.
+     * <p>
+     * Such range always exists, since the price does not exceed max among all ranges.
+     */
+    private int rangeIndex(BigDecimal cpm) {
+        int index = 0;
+        while (cpm.compareTo(rangeMaxes[index]) > 0) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns index of the greatest bucket value not exceeding the given price.
+     * <p>
+     * Price found within a range is always greater than its min, which is the first bucket value.
+     */
+    private static int bucketIndex(BigDecimal[] values, BigDecimal cpm) {
+        final int index = Arrays.binarySearch(values, cpm);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static boolean isValid(List<ExtGranularityRange> ranges) {
+        if (ranges == null || ranges.isEmpty()) {
+            return false;
+        }
+
+        for (ExtGranularityRange range : ranges) {
+            if (range == null || range.getMax() == null || range.getIncrement() == null
+                    || range.getIncrement().signum() <= 0) {
+
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds buckets of all ranges of the given valid {@link PriceGranularity}.
+     */
+    static CpmRangeTable create(PriceGranularity priceGranularity) {
+        final List<ExtGranularityRange> ranges = priceGranularity.getRanges();
+        final Integer precision = priceGranularity.getPrecision();
+
+        final BigDecimal[] rangeMaxes = new BigDecimal[ranges.size()];
+        final BigDecimal[][] bucketValues = new BigDecimal[ranges.size()][];
+        final String[][] formattedBucketValues = new String[ranges.size()][];
+
+        BigDecimal min = BigDecimal.ZERO;
+        for (int i = 0; i < ranges.size(); i++) {
+            final ExtGranularityRange range = ranges.get(i);
+            final BigDecimal max = range.getMax();
+            final BigDecimal increment = range.getIncrement();
+
+            // range with max below its min is never selected: price reaching it is greater than previous max
+            final int rangeBucketsCount = max.compareTo(min) >= 0
+                    ? max.subtract(min).divide(increment, 0, RoundingMode.FLOOR).intValueExact() + 1
+                    : 0;
+
+            final List<BigDecimal> values = new ArrayList<>(rangeBucketsCount);
+            for (int step = 0; step < rangeBucketsCount; step++) {
+                values.add(BigDecimal.valueOf(step).multiply(increment).add(min));
+            }
+
+            rangeMaxes[i] = max;
+            bucketValues[i] = values.toArray(BigDecimal[]::new);
+            formattedBucketValues[i] = values.stream()
+                    .map(value -> CpmRange.format(value, precision))
+                    .toArray(String[]::new);
+
+            min = max;
+        }
+
+        return new CpmRangeTable(
+                priceGranularity,
+                rangeMaxes,
+                bucketValues,
+                formattedBucketValues,
+                CpmRange.format(priceGranularity.getRangesMax(), precision));
+    }
+
+    private static CpmRangeTable delegating(PriceGranularity priceGranularity) {
+        return new CpmRangeTable(priceGranularity, null, null, null, null);
+    }
+
+    private record Key(Integer precision, List<ExtGranularityRange> ranges) {
+    }
+}
@@ -108,11 +108,14 @@ import org.prebid.server.util.StreamUtil;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -256,17 +259,7 @@ public class ExchangeService {
                                 .map(receivedContext::with))
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
-                .compose(context -> CompositeFuture.join(
-                                context.getAuctionParticipations().stream()
-                                        .map(auctionParticipation -> processAndRequestBids(
-                                                context,
-                                                auctionParticipation.getBidderRequest(),
-                                                timeout,
-                                                aliases)
-                                                .map(auctionParticipation::with))
-                                        .collect(Collectors.toCollection(ArrayList::new)))
-                        // send all the requests to the bidders and gathers results
-                        .map(CompositeFuture::<AuctionParticipation>list)
+                .compose(context -> requestAllBids(context, timeout, aliases)
                         .map(storedResponseProcessor::updateStoredBidResponse)
                         .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
                                 auctionParticipations,
@@ -291,6 +284,31 @@ public class ExchangeService {
                         .map(context::with));
     }
 
+    /**
+     * Sends all the requests to the bidders and gathers results.
+     */
+    private Future<List<AuctionParticipation>> requestAllBids(AuctionContext context,
+                                                              Timeout timeout,
+                                                              BidderAliases aliases) {
+
+        final long startTime = System.nanoTime();
+        return CompositeFuture.join(
+                        context.getAuctionParticipations().stream()
+                                .map(auctionParticipation -> processAndRequestBids(
+                                        context,
+                                        auctionParticipation.getBidderRequest(),
+                                        timeout,
+                                        aliases)
+                                        .map(auctionParticipation::with))
+                                .collect(Collectors.toCollection(ArrayList::new)))
+                .map(CompositeFuture::<AuctionParticipation>list)
+                .onComplete(result -> {
+                    metrics.updateAuctionStageTime(MetricName.bidder_requests, System.nanoTime() - startTime);
+                    context.getTrace().addSpan(
+                            MetricName.bidder_requests.toString(), startTime, Collections.emptyMap(), result.failed());
+                });
+    }
+
     private BidderAliases aliases(BidRequest bidRequest) {
         final ExtRequestPrebid prebid = PbsUtil.extRequestPrebid(bidRequest);
         final Map<String, String> aliases = prebid != null ? prebid.getAliases() : null;
@@ -494,10 +512,13 @@ public class ExchangeService {
         final BidRequest bidRequest = context.getBidRequest();
         final ExtRequest requestExt = bidRequest.getExt();
         final ExtRequestPrebid prebid = requestExt == null ? null : requestExt.getPrebid();
-        final Map<String, ExtBidderConfigOrtb> biddersToConfigs = getBiddersToConfigs(prebid);
-        final Map<String, List<String>> eidPermissions = getEidPermissions(prebid);
-        final Map<String, User> bidderToUser =
-                prepareUsers(bidders, context, aliases, biddersToConfigs, eidPermissions);
+        final BidderRegistry bidderRegistry = BidderRegistry.of(bidders, aliases);
+        final BiddersFirstPartyData biddersFpd = new BiddersFirstPartyData(
+                bidderRegistry,
+                getBidderConfigs(prebid, bidderRegistry),
+                firstPartyDataBidders(prebid, bidderRegistry));
+        final Map<String, BitSet> eidPermissions = getEidPermissions(prebid, bidderRegistry);
+        final Map<String, User> bidderToUser = prepareUsers(context, aliases, biddersFpd, eidPermissions);
 
         return privacyEnforcementService.mask(context, bidderToUser, aliases)
                 .map(bidderToPrivacyResult -> getAuctionParticipation(
@@ -506,85 +527,115 @@ public class ExchangeService {
                         impBidderToStoredResponse,
                         imps,
                         bidderToMultiBid,
-                        biddersToConfigs,
+                        biddersFpd,
                         aliases,
                         context));
     }
 
-    private Map<String, ExtBidderConfigOrtb> getBiddersToConfigs(ExtRequestPrebid prebid) {
+    private static ExtBidderConfigOrtb[] getBidderConfigs(ExtRequestPrebid prebid, BidderRegistry bidderRegistry) {
         final List<ExtRequestPrebidBidderConfig> bidderConfigs = prebid == null ? null : prebid.getBidderconfig();
+        final ExtBidderConfigOrtb[] bidderIdToConfig = new ExtBidderConfigOrtb[bidderRegistry.size()];
 
         if (CollectionUtils.isEmpty(bidderConfigs)) {
-            return Collections.emptyMap();
+            return bidderIdToConfig;
         }
 
-        final Map<String, ExtBidderConfigOrtb> bidderToConfig = new CaseInsensitiveMap<>();
+        for (ExtRequestPrebidBidderConfig config : bidderConfigs) {
+            final ExtBidderConfigOrtb concreteFpd = config.getConfig().getOrtb2();
+            if (concreteFpd == null) {
+                continue;
+            }
+
+            final BitSet bidderIds = bidderRegistry.ids(config.getBidders());
+            for (int id = bidderIds.nextSetBit(0); id >= 0; id = bidderIds.nextSetBit(id + 1)) {
+                if (bidderIdToConfig[id] == null) {
+                    bidderIdToConfig[id] = concreteFpd;
+                }
+            }
+        }
 
         bidderConfigs.stream()
                 .filter(prebidBidderConfig -> prebidBidderConfig.getBidders().contains(ALL_BIDDERS_CONFIG))
                 .map(prebidBidderConfig -> prebidBidderConfig.getConfig().getOrtb2())
                 .findFirst()
-                .ifPresent(extBidderConfigFpd -> bidderToConfig.put(ALL_BIDDERS_CONFIG, extBidderConfigFpd));
+                .ifPresent(allBiddersFpd -> Arrays.setAll(bidderIdToConfig,
+                        id -> ObjectUtils.defaultIfNull(bidderIdToConfig[id], allBiddersFpd)));
 
-        for (ExtRequestPrebidBidderConfig config : bidderConfigs) {
-            for (String bidder : config.getBidders()) {
-                final ExtBidderConfigOrtb concreteFpd = config.getConfig().getOrtb2();
-                bidderToConfig.putIfAbsent(bidder, concreteFpd);
-            }
-        }
-        return bidderToConfig;
+        return bidderIdToConfig;
     }
 
-    private Map<String, List<String>> getEidPermissions(ExtRequestPrebid prebid) {
+    private static Map<String, BitSet> getEidPermissions(ExtRequestPrebid prebid, BidderRegistry bidderRegistry) {
         final ExtRequestPrebidData prebidData = prebid != null ? prebid.getData() : null;
         final List<ExtRequestPrebidDataEidPermissions> eidPermissions = prebidData != null
                 ? prebidData.getEidPermissions()
                 : null;
         return CollectionUtils.emptyIfNull(eidPermissions).stream()
                 .collect(Collectors.toMap(ExtRequestPrebidDataEidPermissions::getSource,
-                        ExtRequestPrebidDataEidPermissions::getBidders));
+                        eidPermission -> eidAllowedBidderIds(eidPermission.getBidders(), bidderRegistry)));
     }
 
-    private static List<String> firstPartyDataBidders(ExtRequest requestExt) {
-        final ExtRequestPrebid prebid = requestExt == null ? null : requestExt.getPrebid();
+    private static BitSet eidAllowedBidderIds(List<String> allowedBidders, BidderRegistry bidderRegistry) {
+        return CollectionUtils.isEmpty(allowedBidders) || allowedBidders.contains(EID_ALLOWED_FOR_ALL_BIDDERS)
+                ? bidderRegistry.allIds()
+                : bidderRegistry.ids(allowedBidders);
+    }
+
+    private static BitSet firstPartyDataBidders(ExtRequestPrebid prebid, BidderRegistry bidderRegistry) {
         final ExtRequestPrebidData data = prebid == null ? null : prebid.getData();
-        return data == null ? null : data.getBidders();
+        final List<String> firstPartyDataBidders = data == null ? null : data.getBidders();
+        return firstPartyDataBidders == null
+                ? bidderRegistry.allIds()
+                : bidderRegistry.ids(firstPartyDataBidders);
     }
 
-    private Map<String, User> prepareUsers(List<String> bidders,
-                                           AuctionContext context,
+    private Map<String, User> prepareUsers(AuctionContext context,
                                            BidderAliases aliases,
-                                           Map<String, ExtBidderConfigOrtb> biddersToConfigs,
-                                           Map<String, List<String>> eidPermissions) {
+                                           BiddersFirstPartyData biddersFpd,
+                                           Map<String, BitSet> eidPermissions) {
 
         final BidRequest bidRequest = context.getBidRequest();
-        final List<String> firstPartyDataBidders = firstPartyDataBidders(bidRequest.getExt());
 
+        // user.ext depends only on whether bidder gets first party data, so it is prepared once per auction
+        final User user = bidRequest.getUser();
+        final ExtUser extUser = user != null ? user.getExt() : null;
+        final ExtUser extUserWithFpd = extUser != null ? prepareExtUser(extUser, true) : null;
+        final ExtUser extUserWithoutFpd = extUser != null ? prepareExtUser(extUser, false) : null;
+
+        final Map<ExtBidderConfigOrtb, ResolvedUserFpd> fpdConfigToResolvedUser = new IdentityHashMap<>();
         final Map<String, User> bidderToUser = new HashMap<>();
-        for (String bidder : bidders) {
-            final ExtBidderConfigOrtb fpdConfig = ObjectUtils.defaultIfNull(biddersToConfigs.get(bidder),
-                    biddersToConfigs.get(ALL_BIDDERS_CONFIG));
-            final boolean useFirstPartyData = firstPartyDataBidders == null || firstPartyDataBidders.stream()
-                    .anyMatch(fpdBidder -> StringUtils.equalsIgnoreCase(fpdBidder, bidder));
+        final BidderRegistry bidderRegistry = biddersFpd.bidderRegistry();
+        for (int bidderId = 0; bidderId < bidderRegistry.size(); bidderId++) {
+            final String bidder = bidderRegistry.bidder(bidderId);
+            final ExtBidderConfigOrtb fpdConfig = biddersFpd.config(bidderId);
+            final boolean useFirstPartyData = biddersFpd.isAllowed(bidderId);
             final User preparedUser = prepareUser(
-                    bidder, context, aliases, useFirstPartyData, fpdConfig, eidPermissions);
-            bidderToUser.put(bidder, preparedUser);
+                    bidder,
+                    bidderId,
+                    context,
+                    aliases,
+                    useFirstPartyData,
+                    useFirstPartyData ? extUserWithFpd : extUserWithoutFpd,
+                    eidPermissions);
+            bidderToUser.put(bidder, useFirstPartyData
+                    ? resolveUserFpd(preparedUser, fpdConfig, fpdConfigToResolvedUser)
+                    : preparedUser);
         }
         return bidderToUser;
     }
 
     private User prepareUser(String bidder,
+                             int bidderId,
                              AuctionContext context,
                              BidderAliases aliases,
                              boolean useFirstPartyData,
-                             ExtBidderConfigOrtb fpdConfig,
-                             Map<String, List<String>> eidPermissions) {
+                             ExtUser preparedExtUser,
+                             Map<String, BitSet> eidPermissions) {
 
         final User user = context.getBidRequest().getUser();
         final ExtUser extUser = user != null ? user.getExt() : null;
         final UpdateResult<String> buyerUidUpdateResult = uidUpdater.updateUid(bidder, context, aliases);
         final List<Eid> userEids = extractUserEids(user);
-        final List<Eid> allowedUserEids = resolveAllowedEids(userEids, bidder, eidPermissions);
+        final List<Eid> allowedUserEids = resolveAllowedEids(userEids, bidderId, eidPermissions);
         final boolean shouldUpdateUserEids = allowedUserEids.size() != CollectionUtils.emptyIfNull(userEids).size();
         final boolean shouldCleanExtPrebid = extUser != null && extUser.getPrebid() != null;
         final boolean shouldCleanExtData = extUser != null && extUser.getData() != null && !useFirstPartyData;
@@ -601,11 +652,7 @@ public class ExchangeService {
             }
 
             if (shouldUpdateUserExt) {
-                final ExtUser updatedExtUser = extUser.toBuilder()
-                        .prebid(null)
-                        .data(shouldCleanExtData ? null : extUser.getData())
-                        .build();
-                userBuilder.ext(updatedExtUser.isEmpty() ? null : updatedExtUser);
+                userBuilder.ext(preparedExtUser);
             }
 
             if (shouldCleanData) {
@@ -615,27 +662,59 @@ public class ExchangeService {
             maskedUser = userBuilder.build();
         }
 
-        return useFirstPartyData
-                ? fpdResolver.resolveUser(maskedUser, fpdConfig == null ? null : fpdConfig.getUser())
-                : maskedUser;
+        return maskedUser;
+    }
+
+    /**
+     * Users of bidders with first party data differ only by buyeruid and eids, so bidders sharing
+     * the same bidderconfig get its first party data resolved once per auction.
+     */
+    private User resolveUserFpd(User preparedUser,
+                                ExtBidderConfigOrtb fpdConfig,
+                                Map<ExtBidderConfigOrtb, ResolvedUserFpd> fpdConfigToResolvedUser) {
+
+        final ObjectNode fpdUser = fpdConfig != null ? fpdConfig.getUser() : null;
+        if (fpdUser == null) {
+            return fpdResolver.resolveUser(preparedUser, null);
+        }
+
+        final ResolvedUserFpd resolvedUserFpd = fpdConfigToResolvedUser.computeIfAbsent(fpdConfig,
+                key -> new ResolvedUserFpd(preparedUser, fpdResolver.resolveUser(preparedUser, fpdUser)));
+
+        final String buyeruid = preparedUser != null ? preparedUser.getBuyeruid() : null;
+        final List<Eid> eids = preparedUser != null ? preparedUser.getEids() : null;
+        final User originUser = resolvedUserFpd.originUser();
+        final User resolvedUser = resolvedUserFpd.resolvedUser();
+
+        final boolean sameBuyeruidAndEids = originUser == preparedUser || originUser != null
+                && Objects.equals(originUser.getBuyeruid(), buyeruid)
+                && Objects.equals(originUser.getEids(), eids);
+
+        return sameBuyeruidAndEids ? resolvedUser : resolvedUser.toBuilder().buyeruid(buyeruid).eids(eids).build();
+    }
+
+    private static ExtUser prepareExtUser(ExtUser extUser, boolean useFirstPartyData) {
+        final ExtUser updatedExtUser = extUser.toBuilder()
+                .prebid(null)
+                .data(useFirstPartyData ? extUser.getData() : null)
+                .build();
+        return updatedExtUser.isEmpty() ? null : updatedExtUser;
     }
 
     private List<Eid> extractUserEids(User user) {
         return user != null ? user.getEids() : null;
     }
 
-    private List<Eid> resolveAllowedEids(List<Eid> userEids, String bidder, Map<String, List<String>> eidPermissions) {
+    private List<Eid> resolveAllowedEids(List<Eid> userEids, int bidderId, Map<String, BitSet> eidPermissions) {
         return CollectionUtils.emptyIfNull(userEids)
                 .stream()
-                .filter(userEid -> isUserEidAllowed(userEid.getSource(), eidPermissions, bidder))
+                .filter(userEid -> isUserEidAllowed(userEid.getSource(), eidPermissions, bidderId))
                 .toList();
     }
 
-    private boolean isUserEidAllowed(String source, Map<String, List<String>> eidPermissions, String bidder) {
-        final List<String> allowedBidders = eidPermissions.get(source);
-        return CollectionUtils.isEmpty(allowedBidders) || allowedBidders.stream()
-                .anyMatch(allowedBidder -> StringUtils.equalsIgnoreCase(allowedBidder, bidder)
-                        || EID_ALLOWED_FOR_ALL_BIDDERS.equals(allowedBidder));
+    private static boolean isUserEidAllowed(String source, Map<String, BitSet> eidPermissions, int bidderId) {
+        final BitSet allowedBidderIds = eidPermissions.get(source);
+        return allowedBidderIds == null || allowedBidderIds.get(bidderId);
     }
 
     private List<AuctionParticipation> getAuctionParticipation(
@@ -644,11 +723,12 @@ public class ExchangeService {
             Map<String, Map<String, String>> impBidderToStoredBidResponse,
             List<Imp> imps,
             Map<String, MultiBidConfig> bidderToMultiBid,
-            Map<String, ExtBidderConfigOrtb> biddersToConfigs,
+            BiddersFirstPartyData biddersFpd,
             BidderAliases aliases,
             AuctionContext context) {
 
         final Map<String, JsonNode> bidderToPrebidBidders = bidderToPrebidBidders(bidRequest);
+        final SharedBidRequestParts sharedParts = new SharedBidRequestParts(bidRequest.toBuilder().imp(imps).build());
         final List<AuctionParticipation> bidderRequests = bidderPrivacyResults.stream()
                 // for each bidder create a new request that is a copy of original request except buyerid, imp
                 // extensions, ext.prebid.data.bidders and ext.prebid.bidders.
@@ -657,8 +737,9 @@ public class ExchangeService {
                         bidderPrivacyResult,
                         impBidderToStoredBidResponse,
                         imps,
+                        sharedParts,
                         bidderToMultiBid,
-                        biddersToConfigs,
+                        biddersFpd,
                         bidderToPrebidBidders,
                         aliases,
                         context))
@@ -694,8 +775,9 @@ public class ExchangeService {
             BidderPrivacyResult bidderPrivacyResult,
             Map<String, Map<String, String>> impBidderToStoredBidResponse,
             List<Imp> imps,
+            SharedBidRequestParts sharedParts,
             Map<String, MultiBidConfig> bidderToMultiBid,
-            Map<String, ExtBidderConfigOrtb> biddersToConfigs,
+            BiddersFirstPartyData biddersFpd,
             Map<String, JsonNode> bidderToPrebidBidders,
             BidderAliases bidderAliases,
             AuctionContext context) {
@@ -715,16 +797,21 @@ public class ExchangeService {
                     .build();
         }
 
-        final OrtbVersion ortbVersion = bidderSupportedOrtbVersion(bidder, bidderAliases);
+        final BidderRegistry bidderRegistry = biddersFpd.bidderRegistry();
+        final int bidderId = bidderRegistry.id(bidder);
+        final OrtbVersion ortbVersion = bidderSupportedOrtbVersion(bidderId >= 0
+                ? bidderRegistry.resolvedBidder(bidderId)
+                : bidderAliases.resolveBidder(bidder));
         // stored bid response supported only for single imp requests
         final String storedBidResponse = impBidderToStoredBidResponse.size() == 1
                 ? impBidderToStoredBidResponse.get(imps.getFirst().getId()).get(bidder)
                 : null;
         final BidRequest preparedBidRequest = prepareBidRequest(
                 bidderPrivacyResult,
-                imps,
+                bidderId,
+                sharedParts,
                 bidderToMultiBid,
-                biddersToConfigs,
+                biddersFpd,
                 bidderToPrebidBidders,
                 bidderAliases,
                 context);
@@ -734,6 +821,7 @@ public class ExchangeService {
                 .ortbVersion(ortbVersion)
                 .storedResponse(storedBidResponse)
                 .bidRequest(preparedBidRequest)
+                .trace(context.getTrace())
                 .build();
 
         return AuctionParticipation.builder()
@@ -744,43 +832,36 @@ public class ExchangeService {
                 .build();
     }
 
-    private OrtbVersion bidderSupportedOrtbVersion(String bidder, BidderAliases aliases) {
-        return bidderCatalog.bidderInfoByName(aliases.resolveBidder(bidder)).getOrtbVersion();
+    private OrtbVersion bidderSupportedOrtbVersion(String resolvedBidder) {
+        return bidderCatalog.bidderInfoByName(resolvedBidder).getOrtbVersion();
     }
 
     private BidRequest prepareBidRequest(BidderPrivacyResult bidderPrivacyResult,
-                                         List<Imp> imps,
+                                         int bidderId,
+                                         SharedBidRequestParts sharedParts,
                                          Map<String, MultiBidConfig> bidderToMultiBid,
-                                         Map<String, ExtBidderConfigOrtb> biddersToConfigs,
+                                         BiddersFirstPartyData biddersFpd,
                                          Map<String, JsonNode> bidderToPrebidBidders,
                                          BidderAliases bidderAliases,
                                          AuctionContext context) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
         final BidRequest bidRequest = priceFloorProcessor.enrichWithPriceFloors(
-                context.getBidRequest().toBuilder().imp(imps).build(),
+                sharedParts.getBidRequest(),
                 context.getAccount(),
                 bidder,
                 context.getPrebidErrors(),
                 context.getDebugWarnings());
         final boolean transmitTid = transmitTransactionId(bidder, context);
-        final List<String> firstPartyDataBidders = firstPartyDataBidders(bidRequest.getExt());
-        final boolean useFirstPartyData = firstPartyDataBidders == null || firstPartyDataBidders.stream()
-                .anyMatch(fpdBidder -> StringUtils.equalsIgnoreCase(fpdBidder, bidder));
-
-        final ExtBidderConfigOrtb fpdConfig = ObjectUtils.defaultIfNull(
-                biddersToConfigs.get(bidder),
-                biddersToConfigs.get(ALL_BIDDERS_CONFIG));
+        final boolean useFirstPartyData = biddersFpd.isAllowed(bidderId);
+        final ExtBidderConfigOrtb fpdConfig = biddersFpd.config(bidderId);
 
-        final App app = bidRequest.getApp();
-        final Site site = bidRequest.getSite();
-        final Dooh dooh = bidRequest.getDooh();
         final ObjectNode fpdSite = fpdConfig != null ? fpdConfig.getSite() : null;
         final ObjectNode fpdApp = fpdConfig != null ? fpdConfig.getApp() : null;
         final ObjectNode fpdDooh = fpdConfig != null ? fpdConfig.getDooh() : null;
-        final App preparedApp = prepareApp(app, fpdApp, useFirstPartyData);
-        final Site preparedSite = prepareSite(site, fpdSite, useFirstPartyData);
-        final Dooh preparedDooh = prepareDooh(dooh, fpdDooh, useFirstPartyData);
+        final App preparedApp = sharedParts.app(fpdApp, useFirstPartyData);
+        final Site preparedSite = sharedParts.site(fpdSite, useFirstPartyData);
+        final Dooh preparedDooh = sharedParts.dooh(fpdDooh, useFirstPartyData);
 
         final List<String> distributionChannels = new ArrayList<>();
         Optional.ofNullable(preparedApp).ifPresent(ignored -> distributionChannels.add("app"));
@@ -857,12 +938,51 @@ public class ExchangeService {
 
         return bidRequest.getImp().stream()
                 .filter(imp -> bidderParamsFromImpExt(imp.getExt()).hasNonNull(bidder))
-                .map(imp -> imp.toBuilder().ext(imp.getExt().deepCopy()).build())
+                .map(imp -> imp.toBuilder().ext(copyImpExt(imp.getExt(), bidder)).build())
                 .map(imp -> impAdjuster.adjust(imp, bidder, bidderAliases, debugWarnings))
                 .map(imp -> prepareImp(imp, bidder, bidRequest, transmitTid, useFirstPartyData, account, debugWarnings))
                 .toList();
     }
 
+    /**
+     * Copies imp.ext to be modified for the given bidder.
+     * <p>
+     * Params of other bidders in imp.ext.prebid.bidder are not copied, since the bidder request keeps
+     * only params of its bidder anyway, so the copy does not grow with the number of bidders in the request.
+     */
+    private ObjectNode copyImpExt(ObjectNode impExt, String bidder) {
+        final ObjectNode impExtCopy = mapper.mapper().createObjectNode();
+        final Iterator<Map.Entry<String, JsonNode>> fields = impExt.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode value = field.getValue();
+            impExtCopy.set(field.getKey(), PREBID_EXT.equals(field.getKey()) && value.isObject()
+                    ? copyImpExtPrebid((ObjectNode) value, bidder)
+                    : value.deepCopy());
+        }
+        return impExtCopy;
+    }
+
+    private ObjectNode copyImpExtPrebid(ObjectNode impExtPrebid, String bidder) {
+        final ObjectNode impExtPrebidCopy = mapper.mapper().createObjectNode();
+        final Iterator<Map.Entry<String, JsonNode>> fields = impExtPrebid.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode value = field.getValue();
+            if (BIDDER_EXT.equals(field.getKey()) && value.isObject()) {
+                final ObjectNode bidderParams = mapper.mapper().createObjectNode();
+                final JsonNode params = value.get(bidder);
+                if (params != null) {
+                    bidderParams.set(bidder, params.deepCopy());
+                }
+                impExtPrebidCopy.set(BIDDER_EXT, bidderParams);
+            } else {
+                impExtPrebidCopy.set(field.getKey(), value.deepCopy());
+            }
+        }
+        return impExtPrebidCopy;
+    }
+
     private Imp prepareImp(Imp imp,
                            String bidder,
                            BidRequest bidRequest,
@@ -921,7 +1041,7 @@ public class ExchangeService {
                 floors.getFloorMinCur())
                 : null;
 
-        return mapper.mapper().valueToTree(extImpPrebid(extImpPrebidNode).toBuilder()
+        return mapper.mapper().valueToTree(extImpPrebid.toBuilder()
                 .floors(updatedFloors)
                 .bidder(null)
                 .build());
@@ -1428,4 +1548,69 @@ public class ExchangeService {
             metrics.updateAccountHooksMetrics(account, moduleCode, status, action);
         }
     }
+
+    /**
+     * Parts of bidder requests which do not depend on bidder: the request with imps to bid on,
+     * and app, site and dooh, which are the same for bidders with the same first party data.
+     * <p>
+     * Prepared once per auction and shared by bidder requests instead of being rebuilt for each bidder.
+     */
+    private class SharedBidRequestParts {
+
+        private final BidRequest bidRequest;
+        private final Map<FirstPartyDataKey, App> apps = new HashMap<>();
+        private final Map<FirstPartyDataKey, Site> sites = new HashMap<>();
+        private final Map<FirstPartyDataKey, Dooh> doohs = new HashMap<>();
+
+        SharedBidRequestParts(BidRequest bidRequest) {
+            this.bidRequest = bidRequest;
+        }
+
+        BidRequest getBidRequest() {
+            return bidRequest;
+        }
+
+        App app(ObjectNode fpdApp, boolean useFirstPartyData) {
+            return apps.computeIfAbsent(FirstPartyDataKey.of(fpdApp, useFirstPartyData),
+                    key -> prepareApp(bidRequest.getApp(), fpdApp, useFirstPartyData));
+        }
+
+        Site site(ObjectNode fpdSite, boolean useFirstPartyData) {
+            return sites.computeIfAbsent(FirstPartyDataKey.of(fpdSite, useFirstPartyData),
+                    key -> prepareSite(bidRequest.getSite(), fpdSite, useFirstPartyData));
+        }
+
+        Dooh dooh(ObjectNode fpdDooh, boolean useFirstPartyData) {
+            return doohs.computeIfAbsent(FirstPartyDataKey.of(fpdDooh, useFirstPartyData),
+                    key -> prepareDooh(bidRequest.getDooh(), fpdDooh, useFirstPartyData));
+        }
+    }
+
+    private record ResolvedUserFpd(User originUser, User resolvedUser) {
+    }
+
+    /**
+     * First party data config and permission of each auction bidder, indexed by bidder id of the registry.
+     * Bidders missing in the registry get no first party data.
+     */
+    private record BiddersFirstPartyData(BidderRegistry bidderRegistry,
+                                         ExtBidderConfigOrtb[] configs,
+                                         BitSet allowedBidderIds) {
+
+        ExtBidderConfigOrtb config(int bidderId) {
+            return bidderId >= 0 ? configs[bidderId] : null;
+        }
+
+        boolean isAllowed(int bidderId) {
+            return bidderId >= 0 && allowedBidderIds.get(bidderId);
+        }
+    }
+
+    private record FirstPartyDataKey(ObjectNode fpd, boolean useFirstPartyData) {
+
+        // first party data config does not matter for bidders not allowed to get first party data
+        static FirstPartyDataKey of(ObjectNode fpd, boolean useFirstPartyData) {
+            return new FirstPartyDataKey(useFirstPartyData ? fpd : null, useFirstPartyData);
+        }
+    }
 }
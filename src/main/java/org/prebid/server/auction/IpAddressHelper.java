@@ -4,8 +4,6 @@ import inet.ipaddr.AddressStringException;
 import inet.ipaddr.IPAddress;
 import inet.ipaddr.IPAddressString;
 import inet.ipaddr.IPAddressStringParameters;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.util.InetAddressUtils;
 import org.prebid.server.auction.model.IpAddress;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
@@ -22,10 +20,22 @@ public class IpAddressHelper {
                     .allowEmpty(false)
                     .toParams();
 
+    private static final long INVALID_IPV4 = -1L;
+    private static final int IPV4_OCTETS = 4;
+    private static final int IPV6_SEGMENTS = 8;
+    private static final int MAX_IPV6_LENGTH = 39;
+
     private final IPAddress ipv6AlwaysMaskAddress;
     private final IPAddress ipv6AnonLeftMaskAddress;
     private final List<IPAddress> ipv6LocalNetworkMaskAddresses;
 
+    private final long ipv6AlwaysMaskHigh;
+    private final long ipv6AlwaysMaskLow;
+    private final long ipv6AnonLeftMaskHigh;
+    private final long ipv6AnonLeftMaskLow;
+    // null if some local network is not a sequential range, so addresses are checked by the library only
+    private final List<IpRange> localNetworkRanges;
+
     public IpAddressHelper(int ipv6AlwaysMaskBits, int ipv6AnonLeftMaskBits, List<String> ipv6LocalNetworks) {
         ipv6AlwaysMaskAddress =
                 toAddress("::/" + validateIpv6AlwaysMaskBits(ipv6AlwaysMaskBits)).getNetworkMask();
@@ -34,9 +44,26 @@ public class IpAddressHelper {
         ipv6LocalNetworkMaskAddresses = ipv6LocalNetworks.stream()
                 .map(this::toAddress)
                 .toList();
+
+        ipv6AlwaysMaskHigh = maskHigh(ipv6AlwaysMaskBits);
+        ipv6AlwaysMaskLow = maskLow(ipv6AlwaysMaskBits);
+        ipv6AnonLeftMaskHigh = maskHigh(ipv6AnonLeftMaskBits);
+        ipv6AnonLeftMaskLow = maskLow(ipv6AnonLeftMaskBits);
+        localNetworkRanges = ipv6LocalNetworkMaskAddresses.stream().allMatch(IPAddress::isSequential)
+                ? ipv6LocalNetworkMaskAddresses.stream().map(IpRange::of).toList()
+                : null;
     }
 
     public String anonymizeIpv6(String ip) {
+        // plain addresses, which are the most of real ones, are handled without the library object model
+        if (parseIpv4(ip) != INVALID_IPV4) {
+            return null;
+        }
+        final long[] ipv6 = parseIpv6(ip);
+        if (ipv6 != null) {
+            return toCanonicalIpv6(ipv6[0] & ipv6AnonLeftMaskHigh, ipv6[1] & ipv6AnonLeftMaskLow);
+        }
+
         try {
             final IPAddressString ipAddressString = new IPAddressString(ip);
             return ipAddressString.isIPv6()
@@ -49,6 +76,22 @@ public class IpAddressHelper {
     }
 
     public IpAddress toIpAddress(String ip) {
+        if (localNetworkRanges != null) {
+            final long ipv4 = parseIpv4(ip);
+            if (ipv4 != INVALID_IPV4) {
+                return isIpv4Public(ipv4) ? IpAddress.of(ip, IpAddress.IP.v4) : null;
+            }
+
+            final long[] ipv6 = parseIpv6(ip);
+            if (ipv6 != null) {
+                return isIpv6Public(ipv6[0], ipv6[1])
+                        ? IpAddress.of(
+                        toCanonicalIpv6(ipv6[0] & ipv6AlwaysMaskHigh, ipv6[1] & ipv6AlwaysMaskLow),
+                        IpAddress.IP.v6)
+                        : null;
+            }
+        }
+
         final IPAddress ipAddress = toIpAddressInternal(ip);
 
         if (ipAddress == null) {
@@ -73,20 +116,13 @@ public class IpAddressHelper {
     }
 
     public String maskIpv4(String ip) {
-        if (StringUtils.isBlank(ip) || !InetAddressUtils.isIPv4Address(ip)) {
+        // first octet of zero is not accepted, the same as by InetAddressUtils.isIPv4Address
+        final long ipv4 = parseIpv4(ip);
+        if (ipv4 == INVALID_IPV4 || ipv4 >>> 24 == 0) {
             return ip;
         }
 
-        String maskedIp = ip;
-        final int lastDotIndex = maskedIp.lastIndexOf(".");
-        if (lastDotIndex != -1) {
-            maskedIp = maskedIp.substring(0, lastDotIndex);
-        } else {
-            // ip is malformed
-            return ip;
-        }
-
-        return maskedIp + ".0";
+        return ip.substring(0, ip.lastIndexOf('.')) + ".0";
     }
 
     private String maskIpv6(IPAddress ipAddress) {
@@ -129,6 +165,225 @@ public class IpAddressHelper {
         }
     }
 
+    /**
+     * Returns IPv4 address as unsigned 32-bit value, or {@link #INVALID_IPV4} if the given string is not
+     * four decimal octets without leading zeros.
+     */
+    private static long parseIpv4(String ip) {
+        if (ip == null) {
+            return INVALID_IPV4;
+        }
+
+        final int length = ip.length();
+        long address = 0;
+        int index = 0;
+        for (int octet = 0; octet < IPV4_OCTETS; octet++) {
+            if (octet > 0) {
+                if (index >= length || ip.charAt(index) != '.') {
+                    return INVALID_IPV4;
+                }
+                index++;
+            }
+
+            final int start = index;
+            int value = 0;
+            while (index < length && index - start < 3 && isDecimalDigit(ip.charAt(index))) {
+                value = value * 10 + ip.charAt(index) - '0';
+                index++;
+            }
+
+            final int digits = index - start;
+            if (digits == 0 || value > 255 || (digits > 1 && ip.charAt(start) == '0')) {
+                return INVALID_IPV4;
+            }
+            address = address << 8 | value;
+        }
+
+        return index == length ? address : INVALID_IPV4;
+    }
+
+    /**
+     * Returns IPv6 address as high and low 64 bits, or null if the given string is not an address in plain
+     * hexadecimal notation, like one with embedded IPv4 address, zone or prefix length. Such addresses are left
+     * to the library.
+     */
+    private static long[] parseIpv6(String ip) {
+        if (ip == null || ip.length() < 2 || ip.length() > MAX_IPV6_LENGTH) {
+            return null;
+        }
+
+        final int length = ip.length();
+        final int[] segments = new int[IPV6_SEGMENTS];
+        int count = 0;
+        int gapIndex = -1;
+        int index = 0;
+
+        if (ip.charAt(0) == ':') {
+            if (ip.charAt(1) != ':') {
+                return null;
+            }
+            gapIndex = 0;
+            index = 2;
+        }
+
+        while (index < length) {
+            final int start = index;
+            int value = 0;
+            int digit;
+            while (index < length && index - start < 4 && (digit = hexDigit(ip.charAt(index))) >= 0) {
+                value = value << 4 | digit;
+                index++;
+            }
+
+            if (index == start || count == IPV6_SEGMENTS) {
+                return null;
+            }
+            segments[count++] = value;
+
+            if (index == length) {
+                break;
+            }
+            if (ip.charAt(index) != ':' || ++index == length) {
+                return null;
+            }
+            if (ip.charAt(index) == ':') {
+                if (gapIndex >= 0) {
+                    return null;
+                }
+                gapIndex = count;
+                index++;
+            }
+        }
+
+        if (gapIndex < 0 ? count != IPV6_SEGMENTS : count == IPV6_SEGMENTS) {
+            return null;
+        }
+
+        long high = 0;
+        long low = 0;
+        final int gapLength = IPV6_SEGMENTS - count;
+        for (int i = 0; i < count; i++) {
+            final int position = gapIndex >= 0 && i >= gapIndex ? i + gapLength : i;
+            if (position < IPV6_SEGMENTS / 2) {
+                high |= (long) segments[i] << (48 - 16 * position);
+            } else {
+                low |= (long) segments[i] << (48 - 16 * (position - IPV6_SEGMENTS / 2));
+            }
+        }
+
+        return new long[]{high, low};
+    }
+
+    private static boolean isDecimalDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static int hexDigit(char character) {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
+        }
+        if (character >= 'a' && character <= 'f') {
+            return character - 'a' + 10;
+        }
+        if (character >= 'A' && character <= 'F') {
+            return character - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Formats IPv6 address the same way as {@link IPAddress#toCanonicalString()} does: lowercase segments
+     * without leading zeros, with the first longest run of at least two zero segments compressed.
+     */
+    private static String toCanonicalIpv6(long high, long low) {
+        int gapStart = -1;
+        int gapLength = 1;
+        int runStart = -1;
+        for (int i = 0; i <= IPV6_SEGMENTS; i++) {
+            if (i < IPV6_SEGMENTS && segment(high, low, i) == 0) {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+            } else if (runStart >= 0) {
+                if (i - runStart > gapLength) {
+                    gapStart = runStart;
+                    gapLength = i - runStart;
+                }
+                runStart = -1;
+            }
+        }
+
+        final StringBuilder canonical = new StringBuilder(MAX_IPV6_LENGTH);
+        int i = 0;
+        while (i < IPV6_SEGMENTS) {
+            if (i == gapStart) {
+                canonical.append("::");
+                i += gapLength;
+                continue;
+            }
+
+            if (!canonical.isEmpty() && canonical.charAt(canonical.length() - 1) != ':') {
+                canonical.append(':');
+            }
+            canonical.append(Integer.toHexString(segment(high, low, i)));
+            i++;
+        }
+
+        return canonical.toString();
+    }
+
+    private static int segment(long high, long low, int index) {
+        final long half = index < IPV6_SEGMENTS / 2 ? high : low;
+        return (int) (half >>> (48 - 16 * (index % (IPV6_SEGMENTS / 2)))) & 0xFFFF;
+    }
+
+    private static long maskHigh(int bits) {
+        return bits >= 64 ? -1L : -1L << (64 - bits);
+    }
+
+    private static long maskLow(int bits) {
+        return bits <= 64 ? 0L : -1L << (128 - bits);
+    }
+
+    /**
+     * The same check as {@link #isIpPublic(IPAddress)} for IPv4 address.
+     */
+    private boolean isIpv4Public(long address) {
+        final boolean local = address == 0 // any local
+                || address >>> 24 == 10 // 10.0.0.0/8
+                || address >>> 20 == 0xAC1 // 172.16.0.0/12
+                || address >>> 16 == 0xC0A8 // 192.168.0.0/16
+                || address >>> 16 == 0xA9FE; // 169.254.0.0/16
+        final boolean loopback = address >>> 24 == 127;
+        final boolean multicast = address >>> 28 == 0xE;
+        final boolean max = address == 0xFFFFFFFFL;
+
+        return !local && !loopback && !multicast && !max && !isInLocalNetwork(false, 0L, address);
+    }
+
+    /**
+     * The same check as {@link #isIpPublic(IPAddress)} for IPv6 address.
+     */
+    private boolean isIpv6Public(long high, long low) {
+        final boolean local = (high == 0 && low == 0) // any local
+                || high >>> 55 == 0x1FD // fe80::/10 link local and fec0::/10 site local
+                || high >>> 57 == 0x7E; // fc00::/7 unique local
+        final boolean loopback = high == 0 && low == 1;
+        // covers max address as well
+        final boolean multicast = high >>> 56 == 0xFF;
+
+        return !local && !loopback && !multicast && !isInLocalNetwork(true, high, low);
+    }
+
+    private boolean isInLocalNetwork(boolean ipv6, long high, long low) {
+        for (IpRange range : localNetworkRanges) {
+            if (range.contains(ipv6, high, low)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean isIpPublic(IPAddress ipAddress) {
         return ipAddress != null
                 && !ipAddress.isLocal()
@@ -137,4 +392,36 @@ public class IpAddressHelper {
                 && !ipAddress.isMax()
                 && ipv6LocalNetworkMaskAddresses.stream().noneMatch(network -> network.contains(ipAddress));
     }
+
+    private record IpRange(boolean ipv6, long lowerHigh, long lowerLow, long upperHigh, long upperLow) {
+
+        static IpRange of(IPAddress network) {
+            final byte[] lower = network.getLower().getBytes();
+            final byte[] upper = network.getUpper().getBytes();
+            return new IpRange(
+                    network.isIPv6(),
+                    toLong(lower, 0, lower.length - 8),
+                    toLong(lower, lower.length - 8, lower.length),
+                    toLong(upper, 0, upper.length - 8),
+                    toLong(upper, upper.length - 8, upper.length));
+        }
+
+        boolean contains(boolean ipv6, long high, long low) {
+            return this.ipv6 == ipv6 && compare(high, low, lowerHigh, lowerLow) >= 0
+                    && compare(high, low, upperHigh, upperLow) <= 0;
+        }
+
+        private static int compare(long high, long low, long otherHigh, long otherLow) {
+            final int result = Long.compareUnsigned(high, otherHigh);
+            return result != 0 ? result : Long.compareUnsigned(low, otherLow);
+        }
+
+        private static long toLong(byte[] bytes, int from, int to) {
+            long value = 0;
+            for (int i = Math.max(from, 0); i < to; i++) {
+                value = value << 8 | (bytes[i] & 0xFF);
+            }
+            return value;
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package org.prebid.server.auction;
+
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.util.MicroPriceUtil;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Ranges of {@link PriceGranularity} converted to micros once, so {@link CpmRange} rounds prices
+ * with long arithmetic instead of {@link BigDecimal} one.
+ */
+class MicroRanges {
+
+    private final long[] mins;
+    private final long[] maxes;
+    private final long[] increments;
+    private final int[] scales;
+
+    private MicroRanges(long[] mins, long[] maxes, long[] increments, int[] scales) {
+        this.mins = mins;
+        this.maxes = maxes;
+        this.increments = increments;
+        this.scales = scales;
+    }
+
+    /**
+     * Returns ranges in micros, or null if any range is invalid or cannot be represented in micros,
+     * so prices are rounded with {@link BigDecimal} as is.
+     */
+    static MicroRanges of(List<ExtGranularityRange> ranges) {
+        if (ranges == null) {
+            return null;
+        }
+
+        final long[] mins = new long[ranges.size()];
+        final long[] maxes = new long[ranges.size()];
+        final long[] increments = new long[ranges.size()];
+        final int[] scales = new int[ranges.size()];
+
+        BigDecimal min = BigDecimal.ZERO;
+        for (int i = 0; i < ranges.size(); i++) {
+            final ExtGranularityRange range = ranges.get(i);
+            final BigDecimal max = range != null ? range.getMax() : null;
+            final BigDecimal increment = range != null ? range.getIncrement() : null;
+            if (max == null || increment == null || increment.signum() <= 0) {
+                return null;
+            }
+
+            mins[i] = MicroPriceUtil.toMicros(min);
+            maxes[i] = MicroPriceUtil.toMicros(max);
+            increments[i] = MicroPriceUtil.toMicros(increment);
+            if (maxes[i] == MicroPriceUtil.NOT_REPRESENTABLE || increments[i] == MicroPriceUtil.NOT_REPRESENTABLE) {
+                return null;
+            }
+
+            // keeps the scale BigDecimal arithmetic gives
+            scales[i] = Math.max(min.scale(), increment.scale());
+
+            min = max;
+        }
+
+        return new MicroRanges(mins, maxes, increments, scales);
+    }
+
+    /**
+     * Rounds price given in micros, which does not exceed max among all ranges, by the rules of the range it falls in.
+     */
+    BigDecimal fromCpm(long cpmMicros) {
+        for (int i = 0; i < maxes.length; i++) {
+            if (cpmMicros <= maxes[i]) {
+                return MicroPriceUtil.toBigDecimal(
+                        MicroPriceUtil.floorToIncrement(cpmMicros, mins[i], increments[i]), scales[i]);
+            }
+        }
+
+        return null;
+    }
+}
@@ -47,11 +47,13 @@ public class PriceGranularity {
     private List<ExtGranularityRange> ranges;
     private BigDecimal rangesMax;
     private Integer precision;
+    private MicroRanges microRanges;
 
     private PriceGranularity(List<ExtGranularityRange> ranges, BigDecimal rangesMax, Integer precision) {
         this.ranges = ranges;
         this.rangesMax = rangesMax;
         this.precision = precision;
+        this.microRanges = MicroRanges.of(ranges);
     }
 
     /**
@@ -92,6 +94,13 @@ public class PriceGranularity {
         return rangesMax;
     }
 
+    /**
+     * Returns ranges in micros, or null if they cannot be represented in micros.
+     */
+    MicroRanges getMicroRanges() {
+        return microRanges;
+    }
+
     /**
      * Returns {@link PriceGranularity} precision.
      */
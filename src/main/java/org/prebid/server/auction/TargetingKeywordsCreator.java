@@ -78,7 +78,7 @@ public class TargetingKeywordsCreator {
 
     private static final String DEFAULT_CPM = "0.0";
 
-    private final PriceGranularity priceGranularity;
+    private final CpmRangeTable cpmRangeTable;
     private final boolean includeWinners;
     private final boolean includeBidderKeys;
     private final boolean alwaysIncludeDeals;
@@ -102,7 +102,7 @@ public class TargetingKeywordsCreator {
                                      TargetingKeywordsResolver resolver,
                                      String keyPrefix) {
 
-        this.priceGranularity = priceGranularity;
+        this.cpmRangeTable = priceGranularity != null ? CpmRangeTable.of(priceGranularity) : null;
         this.includeWinners = includeWinners;
         this.includeBidderKeys = includeBidderKeys;
         this.alwaysIncludeDeals = alwaysIncludeDeals;
@@ -198,7 +198,7 @@ public class TargetingKeywordsCreator {
                 includeBidderKeys || includeDealBid,
                 Collections.emptySet());
 
-        final String roundedCpm = isPriceGranularityValid() ? CpmRange.fromCpm(price, priceGranularity) : DEFAULT_CPM;
+        final String roundedCpm = isPriceGranularityValid() ? cpmRangeTable.fromCpm(price) : DEFAULT_CPM;
         keywordMap.put(this.keyPrefix + PB_KEY, roundedCpm);
 
         keywordMap.put(this.keyPrefix + BIDDER_KEY, bidder);
@@ -240,7 +240,7 @@ public class TargetingKeywordsCreator {
      * Checks price granularity value is defined.
      */
     private boolean isPriceGranularityValid() {
-        return priceGranularity != null;
+        return cpmRangeTable != null;
     }
 
     /**
@@ -19,7 +19,7 @@ import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.prebid.server.auction.CpmRange;
+import org.prebid.server.auction.CpmRangeTable;
 import org.prebid.server.auction.PriceGranularity;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.CategoryMappingResult;
@@ -331,7 +331,7 @@ public class BasicCategoryMappingService implements CategoryMappingService {
                                                                  boolean withCategory,
                                                                  List<RejectedBid> rejectedBids) {
 
-        final PriceGranularity priceGranularity = resolvePriceGranularity(targeting);
+        final CpmRangeTable cpmRangeTable = CpmRangeTable.of(resolvePriceGranularity(targeting));
         final List<Integer> durations = ListUtils.emptyIfNull(targeting.getDurationrangesec()).stream()
                 .sorted().toList();
 
@@ -342,7 +342,7 @@ public class BasicCategoryMappingService implements CategoryMappingService {
 
         final boolean appendBidderNames = BooleanUtils.toBooleanDefaultIfNull(targeting.getAppendbiddernames(), false);
         final Map<String, Set<CategoryBidContext>> uniqueCatKeysToCategoryBids = categoryBidContexts.stream()
-                .map(categoryBidContext -> enrichCategoryBidContext(categoryBidContext, durations, priceGranularity,
+                .map(categoryBidContext -> enrichCategoryBidContext(categoryBidContext, durations, cpmRangeTable,
                         withCategory, appendBidderNames, impIdToBiddersDealTear, rejectedBids))
                 .filter(Objects::nonNull)
                 .collect(Collectors.groupingBy(CategoryBidContext::getCategoryUniqueKey,
@@ -505,7 +505,7 @@ public class BasicCategoryMappingService implements CategoryMappingService {
      */
     private CategoryBidContext enrichCategoryBidContext(CategoryBidContext categoryBidContext,
                                                         List<Integer> durations,
-                                                        PriceGranularity priceGranularity,
+                                                        CpmRangeTable cpmRangeTable,
                                                         boolean withCategory,
                                                         boolean appendBidderName,
                                                         Map<String, Map<String, ExtDealTier>> impToBiddersDealTier,
@@ -522,8 +522,8 @@ public class BasicCategoryMappingService implements CategoryMappingService {
             return null;
         }
 
-        final BigDecimal price = CpmRange.fromCpmAsNumber(bid.getPrice(), priceGranularity);
-        final String rowPrice = CpmRange.format(price, priceGranularity.getPrecision());
+        final BigDecimal price = cpmRangeTable.fromCpmAsNumber(bid.getPrice());
+        final String rowPrice = cpmRangeTable.fromCpm(bid.getPrice());
         final String category = categoryBidContext.getCategory();
         final String categoryUniqueKey = createCategoryUniqueKey(withCategory, category, rowPrice, duration);
 
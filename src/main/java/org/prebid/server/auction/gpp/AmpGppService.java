@@ -20,9 +20,11 @@ import java.util.Optional;
 public class AmpGppService {
 
     private final GppService gppService;
+    private final GppModelCache gppModelCache;
 
-    public AmpGppService(GppService gppService) {
+    public AmpGppService(GppService gppService, GppModelCache gppModelCache) {
         this.gppService = Objects.requireNonNull(gppService);
+        this.gppModelCache = Objects.requireNonNull(gppModelCache);
     }
 
     public Future<GppContext> contextFrom(AuctionContext auctionContext) {
@@ -34,7 +36,7 @@ public class AmpGppService {
         return Future.succeededFuture(gppContextWrapper.getGppContext());
     }
 
-    private static GppContextWrapper contextFrom(BidRequest bidRequest) {
+    private GppContextWrapper contextFrom(BidRequest bidRequest) {
         final Regs regs = bidRequest.getRegs();
 
         final String gpp = regs != null ? regs.getGpp() : null;
@@ -45,7 +47,7 @@ public class AmpGppService {
 
         final String usPrivacy = regs != null ? regs.getUsPrivacy() : null;
 
-        return GppContextCreator.from(gpp, gppSid)
+        return GppContextCreator.from(gppModelCache.scopeFrom(gpp, gppSid))
                 .with(TcfEuV2Privacy.of(gdpr, consent))
                 .with(UspV1Privacy.of(usPrivacy))
                 .build();
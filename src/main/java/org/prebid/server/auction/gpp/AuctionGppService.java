@@ -21,9 +21,11 @@ import java.util.Optional;
 public class AuctionGppService {
 
     private final GppService gppService;
+    private final GppModelCache gppModelCache;
 
-    public AuctionGppService(GppService gppService) {
+    public AuctionGppService(GppService gppService, GppModelCache gppModelCache) {
         this.gppService = Objects.requireNonNull(gppService);
+        this.gppModelCache = Objects.requireNonNull(gppModelCache);
     }
 
     public Future<GppContext> contextFrom(AuctionContext auctionContext) {
@@ -35,7 +37,7 @@ public class AuctionGppService {
         return Future.succeededFuture(gppContextWrapper.getGppContext());
     }
 
-    private static GppContextWrapper contextFrom(BidRequest bidRequest) {
+    private GppContextWrapper contextFrom(BidRequest bidRequest) {
         final Regs regs = bidRequest.getRegs();
 
         final String gpp = regs != null ? regs.getGpp() : null;
@@ -46,7 +48,7 @@ public class AuctionGppService {
 
         final String usPrivacy = usPrivacy(regs);
 
-        return GppContextCreator.from(gpp, gppSid)
+        return GppContextCreator.from(gppModelCache.scopeFrom(gpp, gppSid))
                 .with(TcfEuV2Privacy.of(gdpr, consent))
                 .with(UspV1Privacy.of(usPrivacy))
                 .build();
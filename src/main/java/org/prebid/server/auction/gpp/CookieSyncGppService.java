@@ -15,9 +15,11 @@ import java.util.Objects;
 public class CookieSyncGppService {
 
     private final GppService gppService;
+    private final GppModelCache gppModelCache;
 
-    public CookieSyncGppService(GppService gppService) {
+    public CookieSyncGppService(GppService gppService, GppModelCache gppModelCache) {
         this.gppService = Objects.requireNonNull(gppService);
+        this.gppModelCache = Objects.requireNonNull(gppModelCache);
     }
 
     public GppContext contextFrom(CookieSyncContext cookieSyncContext) {
@@ -29,7 +31,7 @@ public class CookieSyncGppService {
         return gppContextWrapper.getGppContext();
     }
 
-    private static GppContextWrapper contextFrom(CookieSyncRequest cookieSyncRequest) {
+    private GppContextWrapper contextFrom(CookieSyncRequest cookieSyncRequest) {
         final String gpp = cookieSyncRequest.getGpp();
         final List<Integer> gppSid = cookieSyncRequest.getGppSid();
 
@@ -38,7 +40,7 @@ public class CookieSyncGppService {
 
         final String usPrivacy = cookieSyncRequest.getUsPrivacy();
 
-        return GppContextCreator.from(gpp, gppSid)
+        return GppContextCreator.from(gppModelCache.scopeFrom(gpp, gppSid))
                 .with(TcfEuV2Privacy.of(gdpr, consent))
                 .with(UspV1Privacy.of(usPrivacy))
                 .build();
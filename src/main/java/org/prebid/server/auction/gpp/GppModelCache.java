@@ -0,0 +1,93 @@
+package org.prebid.server.auction.gpp;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.gpp.encoder.GppModel;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.gpp.model.GppContextCreator;
+import org.prebid.server.auction.gpp.model.GppModelWrapper;
+import org.prebid.server.auction.gpp.model.GppScopeWrapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps decoded GPP strings shared between auction, AMP, cookie sync and setuid flows.
+ * <p>
+ * Cached models are fully decoded before they are exposed, so they must be treated as read-only.
+ */
+public class GppModelCache {
+
+    private final Metrics metrics;
+
+    private final Map<CacheKey, GppScopeWrapper> cache;
+
+    public GppModelCache(Integer ttlSeconds, Integer size, Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+
+        cache = isCacheEnabled(ttlSeconds, size)
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(size)
+                .<CacheKey, GppScopeWrapper>build()
+                .asMap()
+                : null;
+    }
+
+    private static boolean isCacheEnabled(Integer ttlSeconds, Integer size) {
+        return ttlSeconds != null && ttlSeconds > 0 && size != null && size > 0;
+    }
+
+    public GppScopeWrapper scopeFrom(String gpp, List<Integer> gppSid) {
+        if (StringUtils.isEmpty(gpp)) {
+            return GppContextCreator.scopeFrom(gpp, gppSid);
+        }
+
+        if (cache == null) {
+            return decode(gpp, gppSid);
+        }
+
+        final CacheKey cacheKey = new CacheKey(gpp, gppSid);
+        final GppScopeWrapper cachedScope = cache.get(cacheKey);
+        if (cachedScope != null) {
+            metrics.updatePrivacyGppCacheMetric(MetricName.hit);
+            return cachedScope;
+        }
+
+        metrics.updatePrivacyGppCacheMetric(MetricName.miss);
+
+        final GppScopeWrapper scope = decode(gpp, gppSid);
+        if (decodeAllSections(scope.getScope().getGppModel())) {
+            cache.put(cacheKey, scope);
+        }
+
+        return scope;
+    }
+
+    private GppScopeWrapper decode(String gpp, List<Integer> gppSid) {
+        final long startTime = System.nanoTime();
+        final GppScopeWrapper scope = GppContextCreator.scopeFrom(gpp, gppSid);
+        metrics.updatePrivacyGppDecodeTime(System.nanoTime() - startTime);
+
+        return scope;
+    }
+
+    private static boolean decodeAllSections(GppModel gppModel) {
+        if (!(gppModel instanceof GppModelWrapper gppModelWrapper)) {
+            return gppModel == null;
+        }
+
+        try {
+            gppModelWrapper.decodeAllSections();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private record CacheKey(String gpp, List<Integer> gppSid) {
+    }
+}
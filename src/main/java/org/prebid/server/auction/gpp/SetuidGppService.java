@@ -17,9 +17,11 @@ import java.util.Objects;
 public class SetuidGppService {
 
     private final GppService gppService;
+    private final GppModelCache gppModelCache;
 
-    public SetuidGppService(GppService gppService) {
+    public SetuidGppService(GppService gppService, GppModelCache gppModelCache) {
         this.gppService = Objects.requireNonNull(gppService);
+        this.gppModelCache = Objects.requireNonNull(gppModelCache);
     }
 
     public Future<GppContext> contextFrom(SetuidContext setuidContext) {
@@ -29,7 +31,7 @@ public class SetuidGppService {
         return Future.succeededFuture(gppContextWrapper.getGppContext());
     }
 
-    private static GppContextWrapper contextFrom(PrivacyContext privacyContext) {
+    private GppContextWrapper contextFrom(PrivacyContext privacyContext) {
         final Privacy privacy = privacyContext.getPrivacy();
 
         final String gpp = privacy.getGpp();
@@ -38,7 +40,7 @@ public class SetuidGppService {
         final Integer gdpr = toInt(privacy.getGdpr());
         final String consent = privacy.getConsentString();
 
-        return GppContextCreator.from(gpp, gppSid)
+        return GppContextCreator.from(gppModelCache.scopeFrom(gpp, gppSid))
                 .with(TcfEuV2Privacy.of(gdpr, consent))
                 .build();
     }
@@ -8,6 +8,7 @@ import org.prebid.server.auction.gpp.model.privacy.Privacy;
 import org.prebid.server.exception.PreBidException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -17,24 +18,32 @@ public class GppContextCreator {
     }
 
     public static GppContextBuilder from(String gpp, List<Integer> gppSid) {
-        final List<String> errors = new ArrayList<>();
+        return from(scopeFrom(gpp, gppSid));
+    }
+
+    public static GppContextBuilder from(GppScopeWrapper scopeWrapper) {
+        return GppContextBuilder.of(
+                scopeWrapper.getScope(),
+                GppContext.Regions.builder(),
+                new ArrayList<>(scopeWrapper.getErrors()));
+    }
 
+    public static GppScopeWrapper scopeFrom(String gpp, List<Integer> gppSid) {
         GppModel gppModel;
+        List<String> errors;
         try {
             gppModel = GppContextUtils.gppModel(gpp);
+            errors = Collections.emptyList();
         } catch (PreBidException e) {
             gppModel = null;
-            errors.add(e.getMessage());
+            errors = Collections.singletonList(e.getMessage());
         }
 
         final Set<Integer> sectionIds = gppSid != null
                 ? Set.copyOf(gppSid)
                 : null;
 
-        return GppContextBuilder.of(
-                GppContext.Scope.of(gppModel, sectionIds),
-                GppContext.Regions.builder(),
-                errors);
+        return GppScopeWrapper.of(GppContext.Scope.of(gppModel, sectionIds), errors);
     }
 
     @Value
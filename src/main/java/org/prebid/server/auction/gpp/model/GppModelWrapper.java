@@ -3,17 +3,64 @@ package org.prebid.server.auction.gpp.model;
 import com.iab.gpp.encoder.GppModel;
 import com.iab.gpp.encoder.error.DecodingException;
 import com.iab.gpp.encoder.error.EncodingException;
+import com.iab.gpp.encoder.field.TcfCaV1Field;
+import com.iab.gpp.encoder.field.TcfEuV2Field;
+import com.iab.gpp.encoder.field.UsCaV1Field;
+import com.iab.gpp.encoder.field.UsCoV1Field;
+import com.iab.gpp.encoder.field.UsCtV1Field;
+import com.iab.gpp.encoder.field.UsNatV1Field;
+import com.iab.gpp.encoder.field.UsUtV1Field;
+import com.iab.gpp.encoder.field.UsVaV1Field;
+import com.iab.gpp.encoder.field.UspV1Field;
+import com.iab.gpp.encoder.section.EncodableSection;
 import com.iab.gpp.encoder.section.HeaderV1;
+import com.iab.gpp.encoder.section.TcfCaV1;
+import com.iab.gpp.encoder.section.TcfEuV2;
+import com.iab.gpp.encoder.section.UsCaV1;
+import com.iab.gpp.encoder.section.UsCoV1;
+import com.iab.gpp.encoder.section.UsCtV1;
+import com.iab.gpp.encoder.section.UsNatV1;
+import com.iab.gpp.encoder.section.UsUtV1;
+import com.iab.gpp.encoder.section.UsVaV1;
+import com.iab.gpp.encoder.section.UspV1;
 import io.netty.util.collection.IntObjectHashMap;
 import io.netty.util.collection.IntObjectMap;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class GppModelWrapper extends GppModel {
 
     private static final int TCF_EU_V2_ID = 2;
     private static final int USP_V1_ID = 6;
 
+    private static final Map<Integer, List<String>> SECTION_ID_TO_FIELD_NAMES = Map.of(
+            TcfEuV2.ID, fieldNames(List.of(
+                    TcfEuV2Field.TCFEUV2_CORE_SEGMENT_FIELD_NAMES,
+                    TcfEuV2Field.TCFEUV2_PUBLISHER_PURPOSES_SEGMENT_FIELD_NAMES,
+                    TcfEuV2Field.TCFEUV2_VENDORS_ALLOWED_SEGMENT_FIELD_NAMES,
+                    TcfEuV2Field.TCFEUV2_VENDORS_DISCLOSED_SEGMENT_FIELD_NAMES)),
+            TcfCaV1.ID, fieldNames(List.of(
+                    TcfCaV1Field.TCFCAV1_CORE_SEGMENT_FIELD_NAMES,
+                    TcfCaV1Field.TCFCAV1_PUBLISHER_PURPOSES_SEGMENT_FIELD_NAMES,
+                    TcfCaV1Field.TCFCAV1_DISCLOSED_VENDORS_SEGMENT_FIELD_NAMES)),
+            UspV1.ID, UspV1Field.USPV1_CORE_SEGMENT_FIELD_NAMES,
+            UsNatV1.ID, fieldNames(List.of(
+                    UsNatV1Field.USNATV1_CORE_SEGMENT_FIELD_NAMES,
+                    UsNatV1Field.USNATV1_GPC_SEGMENT_FIELD_NAMES)),
+            UsCaV1.ID, fieldNames(List.of(
+                    UsCaV1Field.USCAV1_CORE_SEGMENT_FIELD_NAMES,
+                    UsCaV1Field.USCAV1_GPC_SEGMENT_FIELD_NAMES)),
+            UsVaV1.ID, UsVaV1Field.USVAV1_CORE_SEGMENT_FIELD_NAMES,
+            UsCoV1.ID, fieldNames(List.of(
+                    UsCoV1Field.USCOV1_CORE_SEGMENT_FIELD_NAMES,
+                    UsCoV1Field.USCOV1_GPC_SEGMENT_FIELD_NAMES)),
+            UsUtV1.ID, UsUtV1Field.USUTV1_CORE_SEGMENT_FIELD_NAMES,
+            UsCtV1.ID, fieldNames(List.of(
+                    UsCtV1Field.USCTV1_CORE_SEGMENT_FIELD_NAMES,
+                    UsCtV1Field.USCTV1_GPC_SEGMENT_FIELD_NAMES)));
+
     private IntObjectMap<String> sectionIdToEncodedString;
 
     public GppModelWrapper(String encodedString) throws DecodingException {
@@ -50,4 +97,23 @@ public class GppModelWrapper extends GppModel {
                 ? originalSectionString
                 : super.encodeSection(sectionId);
     }
+
+    /**
+     * Sections of {@link GppModel} are decoded lazily on the first field access, which is not thread-safe.
+     * Reading every field up-front leaves the model fully decoded, so it can be shared between requests
+     * as long as nobody modifies it.
+     */
+    public void decodeAllSections() {
+        for (Integer sectionId : getSectionIds()) {
+            final EncodableSection section = getSection(sectionId);
+            final List<String> fieldNames = SECTION_ID_TO_FIELD_NAMES.getOrDefault(sectionId, Collections.emptyList());
+            for (String fieldName : fieldNames) {
+                section.getFieldValue(fieldName);
+            }
+        }
+    }
+
+    private static List<String> fieldNames(List<List<String>> segmentFieldNames) {
+        return segmentFieldNames.stream().flatMap(List::stream).toList();
+    }
 }
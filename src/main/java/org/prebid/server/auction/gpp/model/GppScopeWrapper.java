@@ -0,0 +1,13 @@
+package org.prebid.server.auction.gpp.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value(staticConstructor = "of")
+public class GppScopeWrapper {
+
+    GppContext.Scope scope;
+
+    List<String> errors;
+}
@@ -17,6 +17,7 @@ import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.model.PrivacyContext;
 import org.prebid.server.settings.model.Account;
+import org.prebid.server.tracing.Trace;
 
 import java.util.Collections;
 import java.util.List;
@@ -77,6 +78,10 @@ public class AuctionContext {
     @Builder.Default
     BidAdjustments bidAdjustments = BidAdjustments.of(Collections.emptyMap());
 
+    @JsonIgnore
+    @Builder.Default
+    Trace trace = Trace.noop();
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
@@ -136,6 +141,12 @@ public class AuctionContext {
                 .build();
     }
 
+    public AuctionContext with(Trace trace) {
+        return this.toBuilder()
+                .trace(trace)
+                .build();
+    }
+
     public AuctionContext withRequestRejected() {
         return this.toBuilder()
                 .requestRejected(true)
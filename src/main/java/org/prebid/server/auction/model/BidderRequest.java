@@ -4,6 +4,7 @@ import com.iab.openrtb.request.BidRequest;
 import lombok.Builder;
 import lombok.Value;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
+import org.prebid.server.tracing.Trace;
 
 @Builder(toBuilder = true)
 @Value
@@ -17,6 +18,9 @@ public class BidderRequest {
 
     BidRequest bidRequest;
 
+    @Builder.Default
+    Trace trace = Trace.noop();
+
     public BidderRequest with(BidRequest bidRequest) {
         return toBuilder().bidRequest(bidRequest).build();
     }
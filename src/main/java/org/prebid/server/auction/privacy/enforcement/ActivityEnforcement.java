@@ -17,7 +17,10 @@ import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.privacy.enforcement.mask.UserFpdActivityMask;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -32,11 +35,17 @@ public class ActivityEnforcement {
     public Future<List<BidderPrivacyResult>> enforce(List<BidderPrivacyResult> bidderPrivacyResults,
                                                      AuctionContext auctionContext) {
 
+        // bidders with the same activity decisions share masked user and device, if their unmasked ones are the same
+        final Map<ActivityMasking, Map<User, User>> maskedUsers = new HashMap<>();
+        final Map<ActivityMasking, Map<Device, Device>> maskedDevices = new HashMap<>();
+
         final List<BidderPrivacyResult> results = bidderPrivacyResults.stream()
                 .map(bidderPrivacyResult -> applyActivityRestrictions(
                         bidderPrivacyResult,
                         auctionContext.getActivityInfrastructure(),
-                        auctionContext.getBidRequest()))
+                        auctionContext.getBidRequest(),
+                        maskedUsers,
+                        maskedDevices))
                 .toList();
 
         return Future.succeededFuture(results);
@@ -44,7 +53,9 @@ public class ActivityEnforcement {
 
     private BidderPrivacyResult applyActivityRestrictions(BidderPrivacyResult bidderPrivacyResult,
                                                           ActivityInfrastructure infrastructure,
-                                                          BidRequest bidRequest) {
+                                                          BidRequest bidRequest,
+                                                          Map<ActivityMasking, Map<User, User>> maskedUsers,
+                                                          Map<ActivityMasking, Map<Device, Device>> maskedDevices) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
         final User user = bidderPrivacyResult.getUser();
@@ -53,12 +64,19 @@ public class ActivityEnforcement {
         final ActivityInvocationPayload payload = activityInvocationPayload(
                 bidder, device != null ? device.getGeo() : null, bidRequest);
 
-        final boolean disallowTransmitUfpd = !infrastructure.isAllowed(Activity.TRANSMIT_UFPD, payload);
-        final boolean disallowTransmitEids = !infrastructure.isAllowed(Activity.TRANSMIT_EIDS, payload);
-        final boolean disallowTransmitGeo = !infrastructure.isAllowed(Activity.TRANSMIT_GEO, payload);
+        final ActivityMasking masking = new ActivityMasking(
+                !infrastructure.isAllowed(Activity.TRANSMIT_UFPD, payload),
+                !infrastructure.isAllowed(Activity.TRANSMIT_EIDS, payload),
+                !infrastructure.isAllowed(Activity.TRANSMIT_GEO, payload));
 
-        final User resolvedUser = userFpdActivityMask.maskUser(user, disallowTransmitUfpd, disallowTransmitEids);
-        final Device resolvedDevice = userFpdActivityMask.maskDevice(device, disallowTransmitUfpd, disallowTransmitGeo);
+        final User resolvedUser = maskedUsers
+                .computeIfAbsent(masking, key -> new IdentityHashMap<>())
+                .computeIfAbsent(user, key -> userFpdActivityMask.maskUser(
+                        key, masking.disallowTransmitUfpd(), masking.disallowTransmitEids()));
+        final Device resolvedDevice = maskedDevices
+                .computeIfAbsent(masking, key -> new IdentityHashMap<>())
+                .computeIfAbsent(device, key -> userFpdActivityMask.maskDevice(
+                        key, masking.disallowTransmitUfpd(), masking.disallowTransmitGeo()));
 
         return bidderPrivacyResult.toBuilder()
                 .user(resolvedUser)
@@ -79,4 +97,9 @@ public class ActivityEnforcement {
                         .map(ExtRegs::getGpc)
                         .orElse(null));
     }
+
+    private record ActivityMasking(boolean disallowTransmitUfpd,
+                                   boolean disallowTransmitEids,
+                                   boolean disallowTransmitGeo) {
+    }
 }
@@ -26,6 +26,9 @@ import org.prebid.server.settings.model.AccountGdprConfig;
 import org.prebid.server.settings.model.AccountPrivacyConfig;
 import org.prebid.server.util.ObjectUtil;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -172,27 +175,45 @@ public class TcfEnforcement {
 
         final boolean isLmtEnabled = isLmtEnforcedAndEnabled(device);
 
+        final Map<String, TcfMasking> bidderToMasking = new HashMap<>();
+        for (String bidder : bidders) {
+            final PrivacyEnforcementAction action = bidderToEnforcement.get(bidder);
+            if (!action.isBlockBidderRequest()) {
+                bidderToMasking.put(bidder, TcfMasking.of(action, isLmtEnabled));
+            }
+        }
+
+        final Set<TcfMasking> maskings = new HashSet<>(bidderToMasking.values());
+        final boolean anyBlocked = bidderToMasking.size() < bidders.size();
+        metrics.updatePrivacyTcfMaskingClassesMetric(maskings.size() + (anyBlocked ? 1 : 0));
+
+        // bidders with the same masking share masked device and, if their users are the same, masked user
+        final Map<TcfMasking, Device> maskedDevices = new HashMap<>();
+        final Map<TcfMasking, Map<User, User>> maskedUsers = new HashMap<>();
+
         return bidders.stream()
                 .map(bidder -> createBidderPrivacyResult(
                         bidder,
                         bidderToUser.get(bidder),
                         device,
-                        bidderToEnforcement,
-                        isLmtEnabled))
+                        bidderToEnforcement.get(bidder),
+                        bidderToMasking.get(bidder),
+                        maskedUsers,
+                        maskedDevices))
                 .toList();
     }
 
     private BidderPrivacyResult createBidderPrivacyResult(String bidder,
                                                           User user,
                                                           Device device,
-                                                          Map<String, PrivacyEnforcementAction> bidderToEnforcement,
-                                                          boolean isLmtEnabled) {
+                                                          PrivacyEnforcementAction privacyEnforcementAction,
+                                                          TcfMasking masking,
+                                                          Map<TcfMasking, Map<User, User>> maskedUsers,
+                                                          Map<TcfMasking, Device> maskedDevices) {
 
-        final PrivacyEnforcementAction privacyEnforcementAction = bidderToEnforcement.get(bidder);
-        final boolean blockBidderRequest = privacyEnforcementAction.isBlockBidderRequest();
         final boolean blockAnalyticsReport = privacyEnforcementAction.isBlockAnalyticsReport();
 
-        if (blockBidderRequest) {
+        if (masking == null) {
             return BidderPrivacyResult.builder()
                     .requestBidder(bidder)
                     .blockedRequestByTcf(true)
@@ -200,15 +221,13 @@ public class TcfEnforcement {
                     .build();
         }
 
-        final boolean maskUserFpd = privacyEnforcementAction.isRemoveUserFpd() || isLmtEnabled;
-        final boolean maskUserIds = privacyEnforcementAction.isRemoveUserIds() || isLmtEnabled;
-        final boolean maskGeo = privacyEnforcementAction.isMaskGeo() || isLmtEnabled;
-        final Set<String> eidExceptions = privacyEnforcementAction.getEidExceptions();
-        final User maskedUser = userFpdTcfMask.maskUser(user, maskUserFpd, maskUserIds, eidExceptions);
+        final User maskedUser = maskedUsers
+                .computeIfAbsent(masking, key -> new IdentityHashMap<>())
+                .computeIfAbsent(user, key -> userFpdTcfMask.maskUser(
+                        key, masking.maskUserFpd(), masking.maskUserIds(), masking.eidExceptions()));
 
-        final boolean maskIp = privacyEnforcementAction.isMaskDeviceIp() || isLmtEnabled;
-        final boolean maskDeviceInfo = privacyEnforcementAction.isMaskDeviceInfo() || isLmtEnabled;
-        final Device maskedDevice = userFpdTcfMask.maskDevice(device, maskIp, maskGeo, maskDeviceInfo);
+        final Device maskedDevice = maskedDevices.computeIfAbsent(masking, key -> userFpdTcfMask.maskDevice(
+                device, key.maskIp(), key.maskGeo(), key.maskDeviceInfo()));
 
         return BidderPrivacyResult.builder()
                 .requestBidder(bidder)
@@ -217,4 +236,22 @@ public class TcfEnforcement {
                 .blockedAnalyticsByTcf(blockAnalyticsReport)
                 .build();
     }
+
+    private record TcfMasking(boolean maskUserFpd,
+                              boolean maskUserIds,
+                              boolean maskGeo,
+                              Set<String> eidExceptions,
+                              boolean maskIp,
+                              boolean maskDeviceInfo) {
+
+        static TcfMasking of(PrivacyEnforcementAction action, boolean isLmtEnabled) {
+            return new TcfMasking(
+                    action.isRemoveUserFpd() || isLmtEnabled,
+                    action.isRemoveUserIds() || isLmtEnabled,
+                    action.isMaskGeo() || isLmtEnabled,
+                    action.getEidExceptions(),
+                    action.isMaskDeviceIp() || isLmtEnabled,
+                    action.isMaskDeviceInfo() || isLmtEnabled);
+        }
+    }
 }
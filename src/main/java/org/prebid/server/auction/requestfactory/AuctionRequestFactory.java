@@ -4,7 +4,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Regs;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.MIMEHeader;
+import io.vertx.ext.web.ParsedHeaderValues;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
@@ -20,17 +24,23 @@ import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversio
 import org.prebid.server.bidadjustments.BidAdjustmentsRetriever;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestBody;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.settings.model.Account;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Used in OpenRTB request processing.
@@ -52,6 +62,7 @@ public class AuctionRequestFactory {
     private final OrtbTypesResolver ortbTypesResolver;
     private final GeoLocationServiceWrapper geoLocationServiceWrapper;
     private final BidAdjustmentsRetriever bidAdjustmentsRetriever;
+    private final Metrics metrics;
 
     private static final String ENDPOINT = Endpoint.openrtb2_auction.value();
 
@@ -69,7 +80,8 @@ public class AuctionRequestFactory {
                                  DebugResolver debugResolver,
                                  JacksonMapper mapper,
                                  GeoLocationServiceWrapper geoLocationServiceWrapper,
-                                 BidAdjustmentsRetriever bidAdjustmentsRetriever) {
+                                 BidAdjustmentsRetriever bidAdjustmentsRetriever,
+                                 Metrics metrics) {
 
         this.maxRequestSize = maxRequestSize;
         this.ortb2RequestFactory = Objects.requireNonNull(ortb2RequestFactory);
@@ -86,13 +98,14 @@ public class AuctionRequestFactory {
         this.mapper = Objects.requireNonNull(mapper);
         this.geoLocationServiceWrapper = Objects.requireNonNull(geoLocationServiceWrapper);
         this.bidAdjustmentsRetriever = Objects.requireNonNull(bidAdjustmentsRetriever);
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
     /**
      * Creates {@link AuctionContext} and parses BidRequest based on {@link RoutingContext}.
      */
     public Future<AuctionContext> parseRequest(RoutingContext routingContext, long startTime) {
-        final String body;
+        final HttpRequestBody body;
         try {
             body = extractAndValidateBody(routingContext);
         } catch (InvalidRequestException e) {
@@ -118,6 +131,7 @@ public class AuctionRequestFactory {
             return Future.succeededFuture(initialContext);
         }
 
+        final long startTime = System.nanoTime();
         return ortb2RequestFactory.fetchAccount(initialContext).map(initialContext::with)
 
                 .map(auctionContext -> auctionContext.with(debugResolver.debugContextFrom(auctionContext)))
@@ -134,30 +148,57 @@ public class AuctionRequestFactory {
                 .compose(auctionContext -> ortb2RequestFactory.activityInfrastructureFrom(auctionContext)
                         .map(auctionContext::with))
 
-                .compose(auctionContext -> ortb2RequestFactory.executeRawAuctionRequestHooks(auctionContext)
+                .compose(auctionContext -> measureStage(MetricName.raw_request_hooks, auctionContext,
+                        () -> ortb2RequestFactory.executeRawAuctionRequestHooks(auctionContext))
                         .map(auctionContext::with))
 
-                .compose(auctionContext -> updateAndValidateBidRequest(auctionContext)
+                .compose(auctionContext -> measureStage(MetricName.stored_request, auctionContext,
+                        () -> updateAndValidateBidRequest(auctionContext))
                         .map(auctionContext::with))
 
-                .compose(auctionContext -> auctionPrivacyContextFactory.contextFrom(auctionContext)
-                        .map(auctionContext::with))
-
-                .compose(auctionContext -> ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)
-                        .map(auctionContext::with))
+                .compose(auctionContext -> measureStage(MetricName.privacy, auctionContext,
+                        () -> enrichWithPrivacy(auctionContext)))
 
                 .map(auctionContext -> auctionContext.with(bidAdjustmentsRetriever.retrieve(auctionContext)))
 
-                .compose(auctionContext -> ortb2RequestFactory.executeProcessedAuctionRequestHooks(auctionContext)
+                .compose(auctionContext -> measureStage(MetricName.processed_request_hooks, auctionContext,
+                        () -> ortb2RequestFactory.executeProcessedAuctionRequestHooks(auctionContext))
                         .map(auctionContext::with))
 
                 .map(ortb2RequestFactory::updateTimeout)
 
-                .recover(ortb2RequestFactory::restoreResultFromRejection);
+                .recover(ortb2RequestFactory::restoreResultFromRejection)
+
+                .onComplete(result -> recordStage(MetricName.request_factory, initialContext, startTime, result));
     }
 
-    private String extractAndValidateBody(RoutingContext routingContext) {
-        final String body = routingContext.getBodyAsString();
+    private Future<AuctionContext> enrichWithPrivacy(AuctionContext initialContext) {
+        return auctionPrivacyContextFactory.contextFrom(initialContext)
+                .map(initialContext::with)
+                .compose(auctionContext -> ortb2RequestFactory.enrichBidRequestWithAccountAndPrivacyData(auctionContext)
+                        .map(auctionContext::with));
+    }
+
+    private <T> Future<T> measureStage(MetricName stage,
+                                       AuctionContext auctionContext,
+                                       Supplier<Future<T>> stageRunner) {
+
+        final long startTime = System.nanoTime();
+        return stageRunner.get()
+                .onComplete(result -> recordStage(stage, auctionContext, startTime, result));
+    }
+
+    private void recordStage(MetricName stage,
+                             AuctionContext auctionContext,
+                             long startTime,
+                             AsyncResult<?> result) {
+
+        metrics.updateAuctionStageTime(stage, System.nanoTime() - startTime);
+        auctionContext.getTrace().addSpan(stage.toString(), startTime, Collections.emptyMap(), result.failed());
+    }
+
+    private HttpRequestBody extractAndValidateBody(RoutingContext routingContext) {
+        final Buffer body = routingContext.body().buffer();
         if (body == null) {
             throw new InvalidRequestException("Incoming request has no body");
         }
@@ -166,12 +207,19 @@ public class AuctionRequestFactory {
             throw new InvalidRequestException("Request size exceeded max size of %d bytes.".formatted(maxRequestSize));
         }
 
-        return body;
+        return HttpRequestBody.of(body, bodyCharset(routingContext));
+    }
+
+    private static String bodyCharset(RoutingContext routingContext) {
+        final ParsedHeaderValues parsedHeaders = routingContext.parsedHeaders();
+        final MIMEHeader contentType = parsedHeaders != null ? parsedHeaders.contentType() : null;
+        return contentType != null ? contentType.parameter("charset") : null;
     }
 
     private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
+        final long startTime = System.nanoTime();
         try {
-            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getBody());
+            final JsonNode bidRequestNode = bodyAsJsonNode(httpRequest.getRequestBody());
 
             final String referer = paramsExtractor.refererFrom(httpRequest);
             ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
@@ -180,17 +228,39 @@ public class AuctionRequestFactory {
                     .map(bidRequest -> fillWithValuesFromHttpRequest(bidRequest, httpRequest));
         } catch (Exception e) {
             return Future.failedFuture(e);
+        } finally {
+            metrics.updateAuctionStageTime(MetricName.request_parse, System.nanoTime() - startTime);
         }
     }
 
-    private JsonNode bodyAsJsonNode(String body) {
+    /**
+     * Parses body received as UTF-8 bytes straight from the bytes, so the body is not decoded to string for it.
+     */
+    private JsonNode bodyAsJsonNode(HttpRequestBody body) {
+        if (isUtf8Buffer(body)) {
+            try {
+                return mapper.decodeValue(body.buffer(), JsonNode.class);
+            } catch (DecodeException e) {
+                throw new InvalidRequestException("Error decoding bidRequest: " + e.getCause().getMessage());
+            }
+        }
+
         try {
-            return mapper.mapper().readTree(body);
+            return mapper.mapper().readTree(body != null ? body.value() : null);
         } catch (IOException e) {
             throw new InvalidRequestException("Error decoding bidRequest: " + e.getMessage());
         }
     }
 
+    private static boolean isUtf8Buffer(HttpRequestBody body) {
+        if (body == null || body.buffer() == null) {
+            return false;
+        }
+
+        final String charset = body.charset();
+        return charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset);
+    }
+
     private BidRequest jsonNodeAsBidRequest(JsonNode bidRequestNode) {
         try {
             return mapper.mapper().treeToValue(bidRequestNode, BidRequest.class);
@@ -40,6 +40,7 @@ import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.hooks.execution.HookStageExecutor;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
+import org.prebid.server.hooks.execution.v1.entrypoint.EntrypointPayloadImpl;
 import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.log.ConditionalLogger;
@@ -49,6 +50,7 @@ import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestBody;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.model.UpdateResult;
 import org.prebid.server.privacy.model.PrivacyContext;
@@ -345,7 +347,7 @@ public class Ortb2RequestFactory {
     }
 
     public Future<HttpRequestContext> executeEntrypointHooks(RoutingContext routingContext,
-                                                             String body,
+                                                             HttpRequestBody body,
                                                              AuctionContext auctionContext) {
 
         return hookStageExecutor.executeEntrypointStage(
@@ -384,11 +386,15 @@ public class Ortb2RequestFactory {
             throw new RejectedRequestException(auctionContext);
         }
 
+        final EntrypointPayload payload = stageResult.getPayload();
         return HttpRequestContext.builder()
                 .absoluteUri(routingContext.request().absoluteURI())
-                .queryParams(stageResult.getPayload().queryParams())
-                .headers(stageResult.getPayload().headers())
-                .body(stageResult.getPayload().body())
+                .queryParams(payload.queryParams())
+                .headers(payload.headers())
+                // keeps body received as bytes undecoded unless hooks replaced it
+                .requestBody(payload instanceof EntrypointPayloadImpl entrypointPayload
+                        ? entrypointPayload.requestBody()
+                        : HttpRequestBody.of(payload.body()))
                 .scheme(routingContext.request().scheme())
                 .remoteHost(routingContext.request().remoteAddress().host())
                 .build();
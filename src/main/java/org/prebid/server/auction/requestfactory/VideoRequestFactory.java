@@ -30,6 +30,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestBody;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.proto.openrtb.ext.request.ExtPublisher;
 import org.prebid.server.proto.openrtb.ext.request.ExtPublisherPrebid;
@@ -95,9 +96,9 @@ public class VideoRequestFactory {
      * Creates {@link AuctionContext} and {@link List} of {@link PodError} based on {@link RoutingContext}.
      */
     public Future<WithPodErrors<AuctionContext>> fromRequest(RoutingContext routingContext, long startTime) {
-        final String body;
+        final HttpRequestBody body;
         try {
-            body = extractAndValidateBody(routingContext);
+            body = HttpRequestBody.of(extractAndValidateBody(routingContext));
         } catch (InvalidRequestException e) {
             return Future.failedFuture(e);
         }
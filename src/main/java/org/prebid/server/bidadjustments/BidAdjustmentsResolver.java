@@ -9,19 +9,10 @@ import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestBidAdjustmentsRule;
 import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
 import org.prebid.server.util.BidderUtil;
-import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
-import org.prebid.server.util.dsl.config.PrebidConfigParameter;
-import org.prebid.server.util.dsl.config.PrebidConfigParameters;
-import org.prebid.server.util.dsl.config.PrebidConfigSource;
-import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
-import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
-import org.prebid.server.util.dsl.config.impl.SimpleParameters;
-import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 public class BidAdjustmentsResolver {
@@ -29,12 +20,18 @@ public class BidAdjustmentsResolver {
     public static final String WILDCARD = "*";
     public static final String DELIMITER = "|";
 
-    private final PrebidConfigMatchingStrategy matchingStrategy;
+    // wildcards replacing the media type, bidder and deal id of a rule, from the most accurate rule to the least one,
+    // in the same order as the most accurate combination strategy of prebid config DSL probes them
+    private static final int MEDIA_TYPE_WILDCARD = 0b100;
+    private static final int BIDDER_WILDCARD = 0b010;
+    private static final int DEAL_ID_WILDCARD = 0b001;
+    private static final int[] WILDCARD_COMBINATIONS = {
+            0b000, 0b001, 0b010, 0b100, 0b011, 0b101, 0b110, 0b111};
+
     private final CurrencyConversionService currencyService;
 
     public BidAdjustmentsResolver(CurrencyConversionService currencyService) {
         this.currencyService = Objects.requireNonNull(currencyService);
-        this.matchingStrategy = new MostAccurateCombinationStrategy();
     }
 
     public Price resolve(Price initialPrice,
@@ -53,26 +50,35 @@ public class BidAdjustmentsResolver {
         return adjustPrice(initialPrice, adjustmentsRules, bidRequest);
     }
 
-    private List<ExtRequestBidAdjustmentsRule> findRules(BidAdjustments bidAdjustments,
-                                                         ImpMediaType targetMediaType,
-                                                         String targetBidder,
-                                                         String targetDealId) {
+    private static List<ExtRequestBidAdjustmentsRule> findRules(BidAdjustments bidAdjustments,
+                                                                ImpMediaType targetMediaType,
+                                                                String targetBidder,
+                                                                String targetDealId) {
+
+        if (bidAdjustments.getRules().isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        final Map<String, List<ExtRequestBidAdjustmentsRule>> rules = bidAdjustments.getRules();
-        final PrebidConfigSource source = SimpleSource.of(WILDCARD, DELIMITER, rules.keySet());
-        final PrebidConfigParameters parameters = createParameters(targetMediaType, targetBidder, targetDealId);
+        final String mediaType = targetMediaType.toString();
+        final boolean dealIdPresent = StringUtils.isNotBlank(targetDealId);
 
-        final String rule = matchingStrategy.match(source, parameters);
-        return rule == null ? Collections.emptyList() : rules.get(rule);
-    }
+        for (int wildcards : WILDCARD_COMBINATIONS) {
+            // absent deal id matches wildcard only
+            if (!dealIdPresent && (wildcards & DEAL_ID_WILDCARD) == 0) {
+                continue;
+            }
+
+            final List<ExtRequestBidAdjustmentsRule> rules = bidAdjustments.rulesFor(
+                    (wildcards & MEDIA_TYPE_WILDCARD) != 0 ? WILDCARD : mediaType,
+                    (wildcards & BIDDER_WILDCARD) != 0 ? WILDCARD : targetBidder,
+                    (wildcards & DEAL_ID_WILDCARD) != 0 ? WILDCARD : targetDealId);
 
-    private PrebidConfigParameters createParameters(ImpMediaType mediaType, String bidder, String dealId) {
-        final List<PrebidConfigParameter> conditionsMatchers = List.of(
-                SimpleDirectParameter.of(mediaType.toString()),
-                SimpleDirectParameter.of(bidder),
-                StringUtils.isNotBlank(dealId) ? SimpleDirectParameter.of(dealId) : PrebidConfigParameter.wildcard());
+            if (rules != null) {
+                return rules;
+            }
+        }
 
-        return SimpleParameters.of(conditionsMatchers);
+        return Collections.emptyList();
     }
 
     private Price adjustPrice(Price price,
@@ -2,7 +2,9 @@ package org.prebid.server.bidadjustments;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
+import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.bidadjustments.model.BidAdjustments;
 import org.prebid.server.json.JacksonMapper;
@@ -19,6 +21,7 @@ import org.prebid.server.validation.ValidationException;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -27,16 +30,26 @@ public class BidAdjustmentsRetriever {
     private static final Logger logger = LoggerFactory.getLogger(BidAdjustmentsRetriever.class);
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
 
+    private static final CompiledBidAdjustments EMPTY_BID_ADJUSTMENTS =
+            CompiledBidAdjustments.valid(BidAdjustments.of(Collections.emptyMap()));
+
     private final ObjectMapper mapper;
     private final JsonMerger jsonMerger;
     private final double samplingRate;
 
+    private final Map<JsonNode, CompiledBidAdjustments> compiledAccountBidAdjustmentsCache;
+
     public BidAdjustmentsRetriever(JacksonMapper mapper,
                                    JsonMerger jsonMerger,
                                    double samplingRate) {
         this.mapper = Objects.requireNonNull(mapper).mapper();
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
         this.samplingRate = samplingRate;
+
+        compiledAccountBidAdjustmentsCache = Caffeine.newBuilder()
+                .weakKeys()
+                .<JsonNode, CompiledBidAdjustments>build()
+                .asMap();
     }
 
     public BidAdjustments retrieve(AuctionContext auctionContext) {
@@ -47,40 +60,72 @@ public class BidAdjustmentsRetriever {
                 .map(BidRequest::getExt)
                 .map(ExtRequest::getPrebid)
                 .map(ExtRequestPrebid::getBidadjustments)
-                .orElseGet(mapper::createObjectNode);
+                .orElse(null);
 
         final JsonNode accountBidAdjustmentsNode = Optional.ofNullable(auctionContext.getAccount())
                 .map(Account::getAuction)
                 .map(AccountAuctionConfig::getBidAdjustments)
-                .orElseGet(mapper::createObjectNode);
+                .orElse(null);
 
-        final JsonNode mergedBidAdjustmentsNode = jsonMerger.merge(
-                requestBidAdjustmentsNode,
-                accountBidAdjustmentsNode);
+        final CompiledBidAdjustments accountBidAdjustments = accountBidAdjustmentsNode != null
+                ? compiledAccountBidAdjustmentsCache.computeIfAbsent(accountBidAdjustmentsNode, this::compile)
+                : EMPTY_BID_ADJUSTMENTS;
+
+        // merging request without its own rules gives the account ones
+        final CompiledBidAdjustments mergedBidAdjustments = hasRules(requestBidAdjustmentsNode)
+                ? compile(jsonMerger.merge(
+                        requestBidAdjustmentsNode,
+                        ObjectUtils.defaultIfNull(accountBidAdjustmentsNode, mapper.createObjectNode())))
+                : accountBidAdjustments;
 
         final List<String> resolvedWarnings = debugEnabled ? debugWarnings : null;
-        return convertAndValidate(mergedBidAdjustmentsNode, resolvedWarnings, "request")
-                .or(() -> convertAndValidate(accountBidAdjustmentsNode, resolvedWarnings, "account"))
-                .orElse(BidAdjustments.of(Collections.emptyMap()));
+        return validOrWarn(mergedBidAdjustments, resolvedWarnings, "request")
+                .or(() -> validOrWarn(accountBidAdjustments, resolvedWarnings, "account"))
+                .orElse(EMPTY_BID_ADJUSTMENTS.bidAdjustments());
     }
 
-    private Optional<BidAdjustments> convertAndValidate(JsonNode bidAdjustmentsNode,
-                                                        List<String> debugWarnings,
-                                                        String errorLocation) {
+    private static boolean hasRules(JsonNode requestBidAdjustmentsNode) {
+        return requestBidAdjustmentsNode != null
+                && !(requestBidAdjustmentsNode.isObject() && requestBidAdjustmentsNode.isEmpty());
+    }
+
+    private CompiledBidAdjustments compile(JsonNode bidAdjustmentsNode) {
         try {
-            final ExtRequestBidAdjustments accountBidAdjustments = mapper.convertValue(
+            final ExtRequestBidAdjustments bidAdjustments = mapper.convertValue(
                     bidAdjustmentsNode,
                     ExtRequestBidAdjustments.class);
 
-            BidAdjustmentRulesValidator.validate(accountBidAdjustments);
-            return Optional.of(BidAdjustments.of(accountBidAdjustments));
+            BidAdjustmentRulesValidator.validate(bidAdjustments);
+            return CompiledBidAdjustments.valid(BidAdjustments.of(bidAdjustments));
         } catch (IllegalArgumentException | ValidationException e) {
-            final String message = "bid adjustment from " + errorLocation + " was invalid: " + e.getMessage();
-            if (debugWarnings != null) {
-                debugWarnings.add(message);
-            }
-            conditionalLogger.error(message, samplingRate);
-            return Optional.empty();
+            return CompiledBidAdjustments.invalid(e.getMessage());
+        }
+    }
+
+    private Optional<BidAdjustments> validOrWarn(CompiledBidAdjustments bidAdjustments,
+                                                 List<String> debugWarnings,
+                                                 String errorLocation) {
+
+        if (bidAdjustments.error() == null) {
+            return Optional.of(bidAdjustments.bidAdjustments());
+        }
+
+        final String message = "bid adjustment from " + errorLocation + " was invalid: " + bidAdjustments.error();
+        if (debugWarnings != null) {
+            debugWarnings.add(message);
+        }
+        conditionalLogger.error(message, samplingRate);
+        return Optional.empty();
+    }
+
+    private record CompiledBidAdjustments(BidAdjustments bidAdjustments, String error) {
+
+        static CompiledBidAdjustments valid(BidAdjustments bidAdjustments) {
+            return new CompiledBidAdjustments(bidAdjustments, null);
+        }
+
+        static CompiledBidAdjustments invalid(String error) {
+            return new CompiledBidAdjustments(null, error);
         }
     }
 }
@@ -1,5 +1,9 @@
 package org.prebid.server.bidadjustments.model;
 
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import org.apache.commons.collections4.MapUtils;
 import org.prebid.server.bidadjustments.BidAdjustmentRulesValidator;
@@ -11,15 +15,35 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
-@Value(staticConstructor = "of")
+@Value
 public class BidAdjustments {
 
     private static final String RULE_SCHEME =
             "%s" + BidAdjustmentsResolver.DELIMITER + "%s" + BidAdjustmentsResolver.DELIMITER + "%s";
+    private static final Pattern RULE_DELIMITER_PATTERN = Pattern.compile(
+            Pattern.quote(BidAdjustmentsResolver.DELIMITER));
 
     Map<String, List<ExtRequestBidAdjustmentsRule>> rules;
 
+    /**
+     * The same rules indexed by media type, bidder and deal id.
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> rulesIndex;
+
+    private BidAdjustments(Map<String, List<ExtRequestBidAdjustmentsRule>> rules) {
+        this.rules = rules;
+        this.rulesIndex = index(rules);
+    }
+
+    public static BidAdjustments of(Map<String, List<ExtRequestBidAdjustmentsRule>> rules) {
+        return new BidAdjustments(rules);
+    }
+
     public static BidAdjustments of(ExtRequestBidAdjustments bidAdjustments) {
         if (bidAdjustments == null) {
             return BidAdjustments.of(Collections.emptyMap());
@@ -49,4 +73,34 @@ public class BidAdjustments {
         return BidAdjustments.of(MapUtils.unmodifiableMap(rules));
     }
 
+    /**
+     * Returns rules configured exactly for the given media type, bidder and deal id, any of which may be a wildcard,
+     * or null if there are no such rules.
+     */
+    public List<ExtRequestBidAdjustmentsRule> rulesFor(String mediaType, String bidder, String dealId) {
+        final Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>> bidders = rulesIndex.get(mediaType);
+        final Map<String, List<ExtRequestBidAdjustmentsRule>> deals = bidders != null ? bidders.get(bidder) : null;
+        return deals != null ? deals.get(dealId) : null;
+    }
+
+    private static Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> index(
+            Map<String, List<ExtRequestBidAdjustmentsRule>> rules) {
+
+        if (MapUtils.isEmpty(rules)) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, Map<String, Map<String, List<ExtRequestBidAdjustmentsRule>>>> index = new HashMap<>();
+        rules.forEach((rule, adjustments) -> {
+            final String[] conditions = RULE_DELIMITER_PATTERN.split(rule, -1);
+            // rule of another scheme can never be matched
+            if (conditions.length == 3) {
+                index.computeIfAbsent(conditions[0], key -> new HashMap<>())
+                        .computeIfAbsent(conditions[1], key -> new HashMap<>())
+                        .put(conditions[2], adjustments);
+            }
+        });
+
+        return index;
+    }
 }
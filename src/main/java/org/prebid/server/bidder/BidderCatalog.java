@@ -1,21 +1,27 @@
 package org.prebid.server.bidder;
 
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Provides simple access to all {@link Bidder}s and {@link Usersyncer}s registered so far.
+ * <p>
+ * With lazy initialization enabled, bidders are only registered by their {@link BidderInfo} at startup
+ * and each {@link Bidder} is created on its first use.
  */
 public class BidderCatalog {
 
@@ -24,14 +30,26 @@ public class BidderCatalog {
 
     private final Set<String> biddersNames = new HashSet<>();
     private final Map<String, BidderInstanceDeps> bidderDepsMap = new CaseInsensitiveMap<>();
+    // case-insensitive map converts key on each lookup, so names as configured and in lower case are found
+    // without the conversion, which covers names of almost all requests
+    private final Map<String, BidderInstanceDeps> bidderDepsByExactName = new HashMap<>();
     private final Map<String, String> deprecatedNameToError = new CaseInsensitiveMap<>();
     private final Map<Integer, String> vendorIdToBidderName = new HashMap<>();
+    private final Map<String, Bidder<?>> bidders = new ConcurrentHashMap<>();
 
     public BidderCatalog(List<BidderDeps> bidderDeps) {
+        this(bidderDeps, false);
+    }
+
+    public BidderCatalog(List<BidderDeps> bidderDeps, boolean lazyInit) {
         Objects.requireNonNull(bidderDeps).stream()
                 .map(BidderDeps::getInstances)
                 .flatMap(Collection::stream)
                 .forEach(this::processDeps);
+
+        if (!lazyInit) {
+            bidderDepsMap.values().forEach(this::resolveBidder);
+        }
     }
 
     private void processDeps(BidderInstanceDeps deps) {
@@ -41,6 +59,10 @@ public class BidderCatalog {
 
         biddersNames.add(bidderName);
         bidderDepsMap.put(bidderName, deps);
+        bidderDepsByExactName.put(bidderName, deps);
+        if (StringUtils.isAsciiPrintable(bidderName)) {
+            bidderDepsByExactName.putIfAbsent(bidderName.toLowerCase(Locale.ROOT), deps);
+        }
         deprecatedNameToError.putAll(createErrorsForDeprecatedNames(deps));
         processVendorId(deps, bidderName);
     }
@@ -77,9 +99,7 @@ public class BidderCatalog {
      * Tells if given name corresponds to any of the registered bidders.
      */
     public boolean isValidName(String name) {
-        return Optional.ofNullable(name)
-                .map(bidderDepsMap::containsKey)
-                .orElse(false);
+        return name != null && depsByName(name) != null;
     }
 
     /**
@@ -87,7 +107,7 @@ public class BidderCatalog {
      */
     public boolean isModifyingVastXmlAllowed(String name) {
         return Optional.ofNullable(name)
-                .map(bidderDepsMap::get)
+                .map(this::depsByName)
                 .map(BidderInstanceDeps::getBidderInfo)
                 .map(BidderInfo::isModifyingVastXmlAllowed)
                 .orElse(false);
@@ -116,7 +136,7 @@ public class BidderCatalog {
      */
     public boolean isActive(String name) {
         return Optional.ofNullable(name)
-                .map(bidderDepsMap::get)
+                .map(this::depsByName)
                 .map(BidderInstanceDeps::getBidderInfo)
                 .map(BidderInfo::isEnabled)
                 .orElse(false);
@@ -127,7 +147,7 @@ public class BidderCatalog {
      */
     public boolean isDebugAllowed(String name) {
         return Optional.ofNullable(name)
-                .map(bidderDepsMap::get)
+                .map(this::depsByName)
                 .map(BidderInstanceDeps::getBidderInfo)
                 .map(BidderInfo::isDebugAllowed)
                 .orElse(false);
@@ -141,7 +161,7 @@ public class BidderCatalog {
      */
     public BidderInfo bidderInfoByName(String name) {
         return Optional.ofNullable(name)
-                .map(bidderDepsMap::get)
+                .map(this::depsByName)
                 .map(BidderInstanceDeps::getBidderInfo)
                 .orElse(null);
     }
@@ -154,7 +174,7 @@ public class BidderCatalog {
      */
     public Integer vendorIdByName(String name) {
         return Optional.ofNullable(name)
-                .map(bidderDepsMap::get)
+                .map(this::depsByName)
                 .map(BidderInstanceDeps::getBidderInfo)
                 .map(BidderInfo::getGdpr)
                 .map(BidderInfo.GdprInfo::getVendorId)
@@ -183,13 +203,13 @@ public class BidderCatalog {
 
     public Optional<Usersyncer> usersyncerByName(String name) {
         return Optional.ofNullable(name)
-                .map(bidderDepsMap::get)
+                .map(this::depsByName)
                 .map(BidderInstanceDeps::getUsersyncer);
     }
 
     private Optional<String> aliasOf(String bidder) {
         return Optional.ofNullable(bidder)
-                .map(bidderDepsMap::get)
+                .map(this::depsByName)
                 .map(BidderInstanceDeps::getBidderInfo)
                 .map(BidderInfo::getAliasOf);
     }
@@ -222,8 +242,22 @@ public class BidderCatalog {
      */
     public Bidder<?> bidderByName(String name) {
         return Optional.ofNullable(name)
-                .map(bidderDepsMap::get)
-                .map(BidderInstanceDeps::getBidder)
+                .map(this::depsByName)
+                .map(this::resolveBidder)
                 .orElse(null);
     }
+
+    private BidderInstanceDeps depsByName(String name) {
+        final BidderInstanceDeps deps = bidderDepsByExactName.get(name);
+        return deps != null ? deps : bidderDepsMap.get(name);
+    }
+
+    private Bidder<?> resolveBidder(BidderInstanceDeps deps) {
+        final Bidder<?> bidder = deps.getBidder();
+        if (bidder != null || deps.getBidderCreator() == null) {
+            return bidder;
+        }
+
+        return bidders.computeIfAbsent(deps.getName(), ignored -> deps.getBidderCreator().get());
+    }
 }
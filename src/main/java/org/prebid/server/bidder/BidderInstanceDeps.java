@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Value;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Gathers all dependencies for single bidder instance that may represent core bidder or its alias.
@@ -43,4 +44,10 @@ public class BidderInstanceDeps {
      * Bidder implementation is used in auction handling.
      */
     Bidder<?> bidder;
+
+    /**
+     * Creates bidder implementation if it is not provided as is,
+     * so {@link BidderCatalog} can decide when to instantiate it.
+     */
+    Supplier<Bidder<?>> bidderCreator;
 }
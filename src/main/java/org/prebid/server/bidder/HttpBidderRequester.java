@@ -4,6 +4,7 @@ import com.iab.openrtb.request.BidRequest;
 import io.netty.channel.ConnectTimeoutException;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
@@ -32,6 +33,7 @@ import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
+import org.prebid.server.tracing.Trace;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
@@ -117,7 +119,8 @@ public class HttpBidderRequester {
         // stored response available only for single request interaction for the moment.
         final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
                 ? Stream.of(makeStoredHttpCall(httpRequests.getFirst(), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
+                : httpRequests.stream().map(httpRequest -> doRequest(
+                        httpRequest, timeout, bidderName, bidderRequest.getTrace()));
 
         // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
@@ -199,29 +202,57 @@ public class HttpBidderRequester {
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
-    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout) {
+    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest,
+                                                Timeout timeout,
+                                                String bidderName,
+                                                Trace trace) {
+
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return createRequest(httpRequest, remainingTimeout)
+        final long startTime = System.nanoTime();
+        final String spanId = trace.nextSpanId();
+
+        return createRequest(httpRequest, remainingTimeout, trace, spanId)
+                .onComplete(result -> trace.addSpan(
+                        spanId, "bidder-call", startTime, spanAttributes(bidderName, result), result.failed()))
                 .compose(response -> processResponse(response, httpRequest))
                 .recover(exception -> failResponse(exception, httpRequest));
     }
 
-    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
+    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest,
+                                                         long remainingTimeout,
+                                                         Trace trace,
+                                                         String spanId) {
+
         final MultiMap requestHeaders = httpRequest.getHeaders();
         final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
 
         return httpClient.request(
                 httpRequest.getMethod(),
                 httpRequest.getUri(),
-                requestHeaders,
+                spanId != null ? withTraceparent(requestHeaders, trace.traceparent(spanId)) : requestHeaders,
                 preparedBody,
                 remainingTimeout);
     }
 
+    /**
+     * Copies headers, so the debug info of the bidder call does not show the trace context.
+     */
+    private static MultiMap withTraceparent(MultiMap headers, String traceparent) {
+        return MultiMap.caseInsensitiveMultiMap()
+                .addAll(headers)
+                .set(HttpUtil.TRACEPARENT_HEADER, traceparent);
+    }
+
+    private static Map<String, String> spanAttributes(String bidderName, AsyncResult<HttpClientResponse> result) {
+        return result.succeeded()
+                ? Map.of("bidder", bidderName, "http.status_code", String.valueOf(result.result().getStatusCode()))
+                : Map.of("bidder", bidderName);
+    }
+
     private static byte[] compressIfRequired(byte[] body, MultiMap headers) {
         final String contentEncodingHeader = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
         return Objects.equals(contentEncodingHeader, HttpHeaderValues.GZIP.toString())
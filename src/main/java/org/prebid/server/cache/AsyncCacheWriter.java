@@ -0,0 +1,130 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.retry.RetryPolicy;
+import org.prebid.server.execution.retry.Retryable;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Performs Prebid Cache writes in background, so the auction response does not wait for them.
+ * <p>
+ * The number of writes in flight is bounded: when the limit is reached, the write is rejected
+ * and the caller is expected to fall back to the synchronous cache call.
+ */
+public class AsyncCacheWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncCacheWriter.class);
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final int maxInFlightWrites;
+    private final long writeTimeoutMs;
+    private final long lateWriteThresholdMs;
+    private final RetryPolicy retryPolicy;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final AtomicInteger inFlightWrites = new AtomicInteger();
+
+    public AsyncCacheWriter(Vertx vertx,
+                            HttpClient httpClient,
+                            int maxInFlightWrites,
+                            long writeTimeoutMs,
+                            long lateWriteThresholdMs,
+                            RetryPolicy retryPolicy,
+                            Metrics metrics,
+                            Clock clock) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.maxInFlightWrites = maxInFlightWrites;
+        this.writeTimeoutMs = writeTimeoutMs;
+        this.lateWriteThresholdMs = lateWriteThresholdMs;
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Schedules cache write and returns true, or returns false if too many writes are already in flight.
+     */
+    public boolean write(String url, MultiMap headers, Buffer body, String accountId) {
+        if (inFlightWrites.incrementAndGet() > maxInFlightWrites) {
+            inFlightWrites.decrementAndGet();
+            metrics.updateCacheAsyncWriteMetric(MetricName.dropped);
+            return false;
+        }
+
+        final long startTime = clock.millis();
+        doWrite(url, headers, body, retryPolicy)
+                .onComplete(result -> {
+                    inFlightWrites.decrementAndGet();
+                    if (result.succeeded()) {
+                        handleSuccess(accountId, startTime);
+                    } else {
+                        handleFailure(result.cause(), accountId, startTime);
+                    }
+                });
+
+        return true;
+    }
+
+    private Future<Void> doWrite(String url, MultiMap headers, Buffer body, RetryPolicy retryPolicy) {
+        return httpClient.request(HttpMethod.POST, url, headers, body, writeTimeoutMs)
+                .compose(AsyncCacheWriter::validateResponse)
+                .recover(error -> retryWrite(url, headers, body, retryPolicy, error));
+    }
+
+    private static Future<Void> validateResponse(HttpClientResponse response) {
+        final int statusCode = response.getStatusCode();
+        return statusCode == 200
+                ? Future.succeededFuture()
+                : Future.failedFuture(new PreBidException("HTTP status code " + statusCode));
+    }
+
+    private Future<Void> retryWrite(String url,
+                                    MultiMap headers,
+                                    Buffer body,
+                                    RetryPolicy retryPolicy,
+                                    Throwable error) {
+
+        if (retryPolicy instanceof Retryable policy) {
+            metrics.updateCacheAsyncWriteMetric(MetricName.retry);
+
+            final Promise<Void> promise = Promise.promise();
+            vertx.setTimer(policy.delay(), timerId -> doWrite(url, headers, body, policy.next()).onComplete(promise));
+            return promise.future();
+        }
+
+        return Future.failedFuture(error);
+    }
+
+    private void handleSuccess(String accountId, long startTime) {
+        final long writeTime = clock.millis() - startTime;
+        metrics.updateCacheRequestSuccessTime(accountId, writeTime);
+        metrics.updateCacheAsyncWriteMetric(writeTime > lateWriteThresholdMs ? MetricName.late : MetricName.ok);
+    }
+
+    private void handleFailure(Throwable exception, String accountId, long startTime) {
+        metrics.updateCacheRequestFailedTime(accountId, clock.millis() - startTime);
+        metrics.updateCacheAsyncWriteMetric(MetricName.err);
+
+        logger.warn("Error occurred while writing to cache service in background: {}", exception.getMessage());
+        logger.debug("Error occurred while writing to cache service in background", exception);
+    }
+}
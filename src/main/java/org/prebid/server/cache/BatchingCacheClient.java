@@ -0,0 +1,215 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.cache.model.CachePutResponse;
+import org.prebid.server.cache.model.EncodedBidCacheRequest;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Merges put objects of concurrent cache calls into a single Cache Service request.
+ * <p>
+ * Calls are collected until the batch reaches max number of put objects or max delay has passed.
+ * The returned cache objects are split back into responses of each merged call, in the order of their put objects.
+ */
+public class BatchingCacheClient {
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final BidCacheRequestEncoder requestEncoder;
+    private final String url;
+    private final MultiMap headers;
+    private final int maxBatchSize;
+    private final long maxBatchDelayMs;
+    private final JacksonMapper mapper;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private List<PendingPut> pendingPuts = new ArrayList<>();
+    private int pendingPutObjectsCount;
+    private long batchId;
+
+    public BatchingCacheClient(Vertx vertx,
+                               HttpClient httpClient,
+                               String url,
+                               MultiMap headers,
+                               int maxBatchSize,
+                               long maxBatchDelayMs,
+                               JacksonMapper mapper,
+                               Metrics metrics,
+                               Clock clock) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.requestEncoder = new BidCacheRequestEncoder(mapper);
+        this.url = Objects.requireNonNull(url);
+        this.headers = Objects.requireNonNull(headers);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayMs = maxBatchDelayMs;
+        this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Queues encoded put objects to be sent within the next batch.
+     * <p>
+     * Resulting response contains decoded cache objects only for the given put objects,
+     * or the response of the whole batch as received if it could not be split.
+     */
+    public Future<CachePutResponse> put(EncodedBidCacheRequest encodedRequest, long timeout) {
+        final Promise<CachePutResponse> promise = Promise.promise();
+        final long now = clock.millis();
+        final PendingPut pendingPut = new PendingPut(
+                encodedRequest, now, now + timeout, vertx.getOrCreateContext(), promise);
+
+        final List<PendingPut> batchToSend;
+        final long scheduledBatchId;
+        synchronized (this) {
+            pendingPuts.add(pendingPut);
+            pendingPutObjectsCount += pendingPut.putObjectsCount();
+
+            batchToSend = pendingPutObjectsCount >= maxBatchSize ? takeBatch() : null;
+            scheduledBatchId = batchToSend == null && pendingPuts.size() == 1 ? batchId : -1;
+        }
+
+        if (batchToSend != null) {
+            send(batchToSend);
+        } else if (scheduledBatchId != -1) {
+            vertx.setTimer(maxBatchDelayMs, timerId -> flush(scheduledBatchId));
+        }
+
+        return promise.future();
+    }
+
+    private void flush(long scheduledBatchId) {
+        final List<PendingPut> batchToSend;
+        synchronized (this) {
+            // batch has already been sent because of its size
+            if (scheduledBatchId != batchId || pendingPuts.isEmpty()) {
+                return;
+            }
+            batchToSend = takeBatch();
+        }
+
+        send(batchToSend);
+    }
+
+    private List<PendingPut> takeBatch() {
+        final List<PendingPut> batch = pendingPuts;
+        pendingPuts = new ArrayList<>();
+        pendingPutObjectsCount = 0;
+        batchId++;
+        return batch;
+    }
+
+    private void send(List<PendingPut> batch) {
+        final long now = clock.millis();
+
+        final List<PendingPut> batchToSend = new ArrayList<>(batch.size());
+        final List<Buffer> bodies = new ArrayList<>(batch.size());
+        int putObjectsCount = 0;
+        long timeout = Long.MAX_VALUE;
+        for (PendingPut pendingPut : batch) {
+            final long remainingTimeout = pendingPut.deadline() - now;
+            if (remainingTimeout <= 0) {
+                pendingPut.fail(new TimeoutException("Timeout has been exceeded"));
+                continue;
+            }
+
+            metrics.updateCacheBatchQueueTime(now - pendingPut.enqueueTime());
+            batchToSend.add(pendingPut);
+            bodies.add(pendingPut.encodedRequest().getBody());
+            putObjectsCount += pendingPut.putObjectsCount();
+            timeout = Math.min(timeout, remainingTimeout);
+        }
+
+        if (batchToSend.isEmpty()) {
+            return;
+        }
+
+        metrics.updateCacheBatchSize(batchToSend.size(), putObjectsCount);
+
+        final Buffer body;
+        try {
+            body = requestEncoder.merge(bodies);
+        } catch (IllegalArgumentException e) {
+            batchToSend.forEach(pendingPut -> pendingPut.fail(e));
+            return;
+        }
+
+        final int batchPutObjectsCount = putObjectsCount;
+        httpClient.request(HttpMethod.POST, url, headers, body, timeout)
+                .onComplete(result -> {
+                    if (result.succeeded()) {
+                        completeBatch(batchToSend, batchPutObjectsCount, result.result());
+                    } else {
+                        batchToSend.forEach(pendingPut -> pendingPut.fail(result.cause()));
+                    }
+                });
+    }
+
+    private void completeBatch(List<PendingPut> batch, int putObjectsCount, HttpClientResponse response) {
+        final List<CacheObject> cacheObjects = response.getStatusCode() == 200
+                ? cacheObjects(response.getBody())
+                : null;
+
+        // let each caller handle the whole response as it is, if it cannot be split
+        if (cacheObjects == null || cacheObjects.size() != putObjectsCount) {
+            final CachePutResponse batchResponse = CachePutResponse.of(response);
+            batch.forEach(pendingPut -> pendingPut.complete(batchResponse));
+            return;
+        }
+
+        int offset = 0;
+        for (PendingPut pendingPut : batch) {
+            final int size = pendingPut.putObjectsCount();
+            pendingPut.complete(CachePutResponse.of(BidCacheResponse.of(cacheObjects.subList(offset, offset + size))));
+            offset += size;
+        }
+    }
+
+    private List<CacheObject> cacheObjects(String body) {
+        try {
+            return mapper.decodeValue(body, BidCacheResponse.class).getResponses();
+        } catch (DecodeException e) {
+            return null;
+        }
+    }
+
+    private record PendingPut(EncodedBidCacheRequest encodedRequest,
+                              long enqueueTime,
+                              long deadline,
+                              Context context,
+                              Promise<CachePutResponse> promise) {
+
+        int putObjectsCount() {
+            return encodedRequest.getPutObjectsCount();
+        }
+
+        void complete(CachePutResponse response) {
+            context.runOnContext(ignored -> promise.complete(response));
+        }
+
+        void fail(Throwable exception) {
+            context.runOnContext(ignored -> promise.fail(exception));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.vertx.core.buffer.Buffer;
+import org.prebid.server.cache.model.EncodedBidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.json.EncodeException;
+import org.prebid.server.json.JacksonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Encodes Cache Service request straight into the buffer sent by HTTP client,
+ * without building intermediate JSON strings of creatives.
+ * <p>
+ * Produces the same JSON as {@link org.prebid.server.cache.proto.request.bid.BidCacheRequest} serialization.
+ */
+public class BidCacheRequestEncoder {
+
+    private static final byte[] REQUEST_PREFIX = "{\"puts\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REQUEST_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+    private static final byte PUT_OBJECTS_SEPARATOR = ',';
+
+    private static final int PUT_OBJECT_OVERHEAD = 128;
+    private static final int NON_TEXTUAL_VALUE_SIZE_ESTIMATE = 1024;
+
+    private final JacksonMapper mapper;
+
+    public BidCacheRequestEncoder(JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    public EncodedBidCacheRequest encode(List<BidPutObject> putObjects) {
+        final Buffer buffer = Buffer.buffer(estimateSize(putObjects));
+
+        try (JsonGenerator generator = mapper.mapper().createGenerator(new BufferOutputStream(buffer))) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("puts");
+            for (BidPutObject putObject : putObjects) {
+                generator.writeObject(putObject);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode cache request: " + e.getMessage());
+        }
+
+        return EncodedBidCacheRequest.of(buffer, putObjects.size());
+    }
+
+    /**
+     * Merges encoded requests into a single one, containing put objects of all of them in the given order.
+     *
+     * @throws IllegalArgumentException if any of the given bodies is not a request produced by this encoder
+     */
+    public Buffer merge(List<Buffer> bodies) {
+        if (bodies.size() == 1) {
+            return bodies.get(0);
+        }
+
+        final int envelopeLength = REQUEST_PREFIX.length + REQUEST_SUFFIX.length;
+        int length = envelopeLength + bodies.size();
+        for (Buffer body : bodies) {
+            validateEnvelope(body);
+            length += body.length() - envelopeLength;
+        }
+
+        final Buffer merged = Buffer.buffer(length).appendBytes(REQUEST_PREFIX);
+        boolean first = true;
+        for (Buffer body : bodies) {
+            final int putObjectsLength = body.length() - envelopeLength;
+            if (putObjectsLength == 0) {
+                continue;
+            }
+
+            if (!first) {
+                merged.appendByte(PUT_OBJECTS_SEPARATOR);
+            }
+            merged.appendBuffer(body, REQUEST_PREFIX.length, putObjectsLength);
+            first = false;
+        }
+
+        return merged.appendBytes(REQUEST_SUFFIX);
+    }
+
+    private static void validateEnvelope(Buffer body) {
+        final int length = body.length();
+        final boolean valid = length >= REQUEST_PREFIX.length + REQUEST_SUFFIX.length
+                && Arrays.equals(body.getBytes(0, REQUEST_PREFIX.length), REQUEST_PREFIX)
+                && Arrays.equals(body.getBytes(length - REQUEST_SUFFIX.length, length), REQUEST_SUFFIX);
+
+        if (!valid) {
+            throw new IllegalArgumentException("Cache request body is not an encoded list of put objects");
+        }
+    }
+
+    private static int estimateSize(List<BidPutObject> putObjects) {
+        int size = PUT_OBJECT_OVERHEAD;
+        for (BidPutObject putObject : putObjects) {
+            final JsonNode value = putObject.getValue();
+            size += PUT_OBJECT_OVERHEAD + (value != null && value.isTextual()
+                    ? value.textValue().length()
+                    : NON_TEXTUAL_VALUE_SIZE_ESTIMATE);
+        }
+        return size;
+    }
+
+    /**
+     * Appends everything written by generator to the buffer, which is sent by HTTP client as is.
+     */
+    private static class BufferOutputStream extends OutputStream {
+
+        private final Buffer buffer;
+
+        BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            buffer.appendBytes(bytes, offset, length);
+        }
+    }
+}
@@ -6,20 +6,23 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
+import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.cache.model.CacheBid;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
 import org.prebid.server.cache.model.CacheHttpResponse;
+import org.prebid.server.cache.model.CachePutResponse;
 import org.prebid.server.cache.model.CacheInfo;
 import org.prebid.server.cache.model.CacheServiceResult;
 import org.prebid.server.cache.model.CachedCreative;
 import org.prebid.server.cache.model.DebugHttpCall;
-import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.model.EncodedBidCacheRequest;
 import org.prebid.server.cache.proto.request.bid.BidPutObject;
 import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
 import org.prebid.server.cache.proto.response.bid.CacheObject;
@@ -42,9 +45,9 @@ import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.ObjectUtil;
 import org.prebid.server.vast.VastModifier;
 import org.prebid.server.vertx.httpclient.HttpClient;
-import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -74,7 +77,11 @@ public class CoreCacheService {
     private final Clock clock;
     private final UUIDIdGenerator idGenerator;
     private final JacksonMapper mapper;
+    private final AsyncCacheWriter asyncCacheWriter;
+    private final LocalCreativeStore localCreativeStore;
+    private final BatchingCacheClient batchingCacheClient;
 
+    private final BidCacheRequestEncoder requestEncoder;
     private final MultiMap cacheHeaders;
     private final Map<String, List<String>> debugHeaders;
 
@@ -90,7 +97,10 @@ public class CoreCacheService {
             Metrics metrics,
             Clock clock,
             UUIDIdGenerator idGenerator,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            AsyncCacheWriter asyncCacheWriter,
+            LocalCreativeStore localCreativeStore,
+            BatchingCacheClient batchingCacheClient) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.endpointUrl = Objects.requireNonNull(endpointUrl);
@@ -102,10 +112,12 @@ public class CoreCacheService {
         this.clock = Objects.requireNonNull(clock);
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.mapper = Objects.requireNonNull(mapper);
+        this.asyncCacheWriter = asyncCacheWriter;
+        this.localCreativeStore = localCreativeStore;
+        this.batchingCacheClient = batchingCacheClient;
 
-        cacheHeaders = isApiKeySecured
-                ? HttpUtil.headers().add(HttpUtil.X_PBC_API_KEY_HEADER, Objects.requireNonNull(apiKey))
-                : HttpUtil.headers();
+        requestEncoder = new BidCacheRequestEncoder(mapper);
+        cacheHeaders = CacheServiceUtil.getCacheHeaders(apiKey, isApiKeySecured);
         debugHeaders = HttpUtil.toDebugHeaders(cacheHeaders);
     }
 
@@ -129,28 +141,28 @@ public class CoreCacheService {
                 : cachedDebugLog.getCacheKey();
         final List<CachedCreative> cachedCreatives = Collections.singletonList(
                 makeDebugCacheCreative(cachedDebugLog, cacheKey, videoCacheTtl));
-        final BidCacheRequest bidCacheRequest = toBidCacheRequest(cachedCreatives);
-        httpClient.post(
+        httpClient.request(
+                HttpMethod.POST,
                 endpointUrl.toString(),
                 cacheHeaders,
-                mapper.encodeToString(bidCacheRequest),
+                requestEncoder.encode(toPutObjects(cachedCreatives)).getBody(),
                 expectedCacheTimeMs);
         return cacheKey;
     }
 
     private CachedCreative makeDebugCacheCreative(CachedDebugLog videoCacheDebugLog, String hbCacheId,
                                                   Integer videoCacheTtl) {
-        final JsonNode value = mapper.mapper().valueToTree(videoCacheDebugLog.buildCacheBody());
         videoCacheDebugLog.setCacheKey(hbCacheId);
+        final TextNode value = new TextNode(videoCacheDebugLog.buildCacheBody());
         return CachedCreative.of(BidPutObject.builder()
                 .type(CachedDebugLog.CACHE_TYPE)
-                .value(new TextNode(videoCacheDebugLog.buildCacheBody()))
+                .value(value)
                 .expiry(videoCacheTtl != null ? videoCacheTtl : videoCacheDebugLog.getTtl())
                 .key("log_" + hbCacheId)
                 .build(), creativeSizeFromTextNode(value));
     }
 
-    private Future<BidCacheResponse> makeRequest(BidCacheRequest bidCacheRequest,
+    private Future<BidCacheResponse> makeRequest(EncodedBidCacheRequest encodedRequest,
                                                  int bidCount,
                                                  Timeout timeout,
                                                  String accountId) {
@@ -165,16 +177,18 @@ public class CoreCacheService {
         }
 
         final long startTime = clock.millis();
-        return httpClient.post(
-                        endpointUrl.toString(),
-                        cacheHeaders,
-                        mapper.encodeToString(bidCacheRequest),
-                        remainingTimeout)
-                .map(response -> toBidCacheResponse(
-                        response.getStatusCode(), response.getBody(), bidCount, accountId, startTime))
+        return sendRequest(endpointUrl.toString(), encodedRequest, remainingTimeout)
+                .map(response -> toBidCacheResponse(response, bidCount, accountId, startTime))
                 .recover(exception -> failResponse(exception, accountId, startTime));
     }
 
+    private Future<CachePutResponse> sendRequest(String url, EncodedBidCacheRequest encodedRequest, long timeout) {
+        return batchingCacheClient != null
+                ? batchingCacheClient.put(encodedRequest, timeout)
+                : httpClient.request(HttpMethod.POST, url, cacheHeaders, encodedRequest.getBody(), timeout)
+                .map(CachePutResponse::of);
+    }
+
     private Future<BidCacheResponse> failResponse(Throwable exception, String accountId, long startTime) {
         metrics.updateCacheRequestFailedTime(accountId, clock.millis() - startTime);
 
@@ -194,9 +208,12 @@ public class CoreCacheService {
         final List<CachedCreative> cachedCreatives =
                 updatePutObjects(bidPutObjects, isEventsEnabled, biddersAllowingVastUpdate, accountId, integration);
 
+        final EncodedBidCacheRequest encodedRequest = requestEncoder.encode(toPutObjects(cachedCreatives));
         updateCreativeMetrics(accountId, cachedCreatives);
 
-        return makeRequest(toBidCacheRequest(cachedCreatives), cachedCreatives.size(), timeout, accountId);
+        return makeRequest(encodedRequest, cachedCreatives.size(), timeout, accountId)
+                .onSuccess(bidCacheResponse -> storeLocally(
+                        cachedCreatives, toResponse(bidCacheResponse, CacheObject::getUuid)));
     }
 
     private List<CachedCreative> updatePutObjects(List<BidPutObject> bidPutObjects,
@@ -289,51 +306,104 @@ public class CoreCacheService {
                     Collections.emptyMap()));
         }
 
-        final BidCacheRequest bidCacheRequest = toBidCacheRequest(cachedCreatives);
+        final List<CachedCreative> creativesToCache = asyncCacheWriter != null
+                ? withGeneratedKeys(cachedCreatives)
+                : cachedCreatives;
+        final EncodedBidCacheRequest encodedRequest = requestEncoder.encode(toPutObjects(creativesToCache));
 
-        updateCreativeMetrics(accountId, cachedCreatives);
+        updateCreativeMetrics(accountId, creativesToCache);
 
         final String url = endpointUrl.toString();
-        final String body = mapper.encodeToString(bidCacheRequest);
+        // request body is needed only for debug output, so do not decode it back to string otherwise
+        final DebugContext debugContext = auctionContext.getDebugContext();
+        final boolean debugEnabled = debugContext != null && debugContext.isDebugEnabled();
+        final String body = debugEnabled ? encodedRequest.getBody().toString(StandardCharsets.UTF_8) : null;
         final CacheHttpRequest httpRequest = CacheHttpRequest.of(url, body);
 
         final long startTime = clock.millis();
-        return httpClient.post(url, cacheHeaders, body, remainingTimeout)
+        if (asyncCacheWriter != null
+                && asyncCacheWriter.write(url, cacheHeaders, encodedRequest.getBody(), accountId)) {
+
+            final DebugHttpCall httpCall = makeDebugHttpCall(url, httpRequest, null, startTime);
+            final List<String> uuids = creativesToCache.stream()
+                    .map(cachedCreative -> cachedCreative.getPayload().getKey())
+                    .toList();
+            storeLocally(creativesToCache, uuids);
+            return Future.succeededFuture(
+                    CacheServiceResult.of(httpCall, null, toResultMap(bids, videoBids, uuids, hbCacheId)));
+        }
+
+        return sendRequest(url, encodedRequest, remainingTimeout)
                 .map(response -> processResponseOpenrtb(response,
                         httpRequest,
-                        cachedCreatives.size(),
+                        creativesToCache,
                         bids,
                         videoBids,
                         hbCacheId,
                         accountId,
+                        debugEnabled,
                         startTime))
                 .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
     }
 
-    private CacheServiceResult processResponseOpenrtb(HttpClientResponse response,
+    /**
+     * Assigns locally generated UUIDs to the put objects without custom key,
+     * so the cache identifiers are known before the cache write is completed.
+     */
+    private List<CachedCreative> withGeneratedKeys(List<CachedCreative> cachedCreatives) {
+        return cachedCreatives.stream()
+                .map(cachedCreative -> cachedCreative.getPayload().getKey() == null
+                        ? CachedCreative.of(
+                        cachedCreative.getPayload().toBuilder().key(idGenerator.generateId()).build(),
+                        cachedCreative.getSize())
+                        : cachedCreative)
+                .toList();
+    }
+
+    private CacheServiceResult processResponseOpenrtb(CachePutResponse response,
                                                       CacheHttpRequest httpRequest,
-                                                      int bidCount,
+                                                      List<CachedCreative> cachedCreatives,
                                                       List<CacheBid> bids,
                                                       List<CacheBid> videoBids,
                                                       String hbCacheId,
                                                       String accountId,
+                                                      boolean debugEnabled,
                                                       long startTime) {
 
-        final CacheHttpResponse httpResponse = CacheHttpResponse.of(response.getStatusCode(), response.getBody());
-        final int responseStatusCode = response.getStatusCode();
+        final CacheHttpResponse httpResponse = CacheHttpResponse.of(
+                response.getStatusCode(), responseBody(response, debugEnabled));
         final DebugHttpCall httpCall = makeDebugHttpCall(endpointUrl.toString(), httpRequest, httpResponse, startTime);
         final BidCacheResponse bidCacheResponse;
         try {
-            bidCacheResponse = toBidCacheResponse(
-                    responseStatusCode, response.getBody(), bidCount, accountId, startTime);
+            bidCacheResponse = toBidCacheResponse(response, cachedCreatives.size(), accountId, startTime);
         } catch (PreBidException e) {
             return CacheServiceResult.of(httpCall, e, Collections.emptyMap());
         }
 
         final List<String> uuids = toResponse(bidCacheResponse, CacheObject::getUuid);
+        storeLocally(cachedCreatives, uuids);
         return CacheServiceResult.of(httpCall, null, toResultMap(bids, videoBids, uuids, hbCacheId));
     }
 
+    /**
+     * Returns body of the response. Cache objects split from a batched response are encoded for debug output only.
+     */
+    private String responseBody(CachePutResponse response, boolean debugEnabled) {
+        final String body = response.getBody();
+        return body == null && debugEnabled ? mapper.encodeToString(response.getBidCacheResponse()) : body;
+    }
+
+    private void storeLocally(List<CachedCreative> cachedCreatives, List<String> uuids) {
+        if (localCreativeStore == null) {
+            return;
+        }
+
+        final int size = Math.min(cachedCreatives.size(), uuids.size());
+        for (int i = 0; i < size; i++) {
+            localCreativeStore.put(uuids.get(i), cachedCreatives.get(i).getPayload());
+        }
+    }
+
     private CacheServiceResult failResponseOpenrtb(Throwable exception,
                                                    String accountId,
                                                    CacheHttpRequest request,
@@ -434,22 +504,19 @@ public class CoreCacheService {
                 : null;
     }
 
-    private BidCacheResponse toBidCacheResponse(int statusCode,
-                                                String responseBody,
+    private BidCacheResponse toBidCacheResponse(CachePutResponse response,
                                                 int bidCount,
                                                 String accountId,
                                                 long startTime) {
 
+        final int statusCode = response.getStatusCode();
         if (statusCode != 200) {
             throw new PreBidException("HTTP status code " + statusCode);
         }
 
-        final BidCacheResponse bidCacheResponse;
-        try {
-            bidCacheResponse = mapper.decodeValue(responseBody, BidCacheResponse.class);
-        } catch (DecodeException e) {
-            throw new PreBidException("Cannot parse response: " + responseBody, e);
-        }
+        final BidCacheResponse bidCacheResponse = response.getBidCacheResponse() != null
+                ? response.getBidCacheResponse()
+                : decodeBidCacheResponse(response.getBody());
 
         final List<CacheObject> responses = bidCacheResponse.getResponses();
         if (responses == null || responses.size() != bidCount) {
@@ -460,6 +527,14 @@ public class CoreCacheService {
         return bidCacheResponse;
     }
 
+    private BidCacheResponse decodeBidCacheResponse(String responseBody) {
+        try {
+            return mapper.decodeValue(responseBody, BidCacheResponse.class);
+        } catch (DecodeException e) {
+            throw new PreBidException("Cannot parse response: " + responseBody, e);
+        }
+    }
+
     private <T> List<T> toResponse(BidCacheResponse bidCacheResponse, Function<CacheObject, T> responseItemCreator) {
         return bidCacheResponse.getResponses().stream()
                 .filter(Objects::nonNull)
@@ -548,9 +623,9 @@ public class CoreCacheService {
         return node != null ? node.asText().length() : 0;
     }
 
-    private BidCacheRequest toBidCacheRequest(List<CachedCreative> cachedCreatives) {
-        return BidCacheRequest.of(cachedCreatives.stream()
+    private static List<BidPutObject> toPutObjects(List<CachedCreative> cachedCreatives) {
+        return cachedCreatives.stream()
                 .map(CachedCreative::getPayload)
-                .toList());
+                .toList();
     }
 }
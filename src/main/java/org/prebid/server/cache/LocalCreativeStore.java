@@ -0,0 +1,107 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.cache.model.LocalCreative;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.ObjectUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps recently cached creatives in memory of this instance, so the cache reads routed to the same instance
+ * do not need to go to the external Cache Service.
+ * <p>
+ * The store is bounded by the total size of creatives in bytes, each creative expires after the TTL it was cached with.
+ */
+public class LocalCreativeStore {
+
+    private final CacheTtl defaultCacheTtl;
+    private final int maxTtlSeconds;
+    private final Metrics metrics;
+
+    private final Cache<String, LocalCreative> cache;
+
+    public LocalCreativeStore(long maxSizeBytes,
+                              int maxTtlSeconds,
+                              CacheTtl defaultCacheTtl,
+                              Metrics metrics) {
+
+        this.maxTtlSeconds = maxTtlSeconds;
+        this.defaultCacheTtl = Objects.requireNonNull(defaultCacheTtl);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .weigher((String uuid, LocalCreative creative) -> creative.getValue().length)
+                .expireAfter(new CreativeExpiry())
+                .build();
+
+        metrics.createCacheLocalStoreGauges(cache::estimatedSize, this::sizeInBytes);
+    }
+
+    public void put(String uuid, BidPutObject putObject) {
+        final JsonNode value = putObject.getValue();
+        if (uuid == null || value == null) {
+            return;
+        }
+
+        final String type = putObject.getType();
+        final String content = value.isTextual() ? value.asText() : value.toString();
+        final int ttlSeconds = resolveTtl(putObject);
+        if (ttlSeconds <= 0) {
+            return;
+        }
+
+        cache.put(uuid, LocalCreative.of(type, content.getBytes(StandardCharsets.UTF_8), ttlSeconds));
+    }
+
+    public LocalCreative get(String uuid) {
+        final LocalCreative creative = uuid != null ? cache.getIfPresent(uuid) : null;
+        metrics.updateCacheLocalStoreMetric(creative != null ? MetricName.hit : MetricName.miss);
+        return creative;
+    }
+
+    private int resolveTtl(BidPutObject putObject) {
+        final Integer ttlSeconds = ObjectUtil.firstNonNull(
+                putObject::getTtlseconds,
+                putObject::getExpiry,
+                () -> Objects.equals(putObject.getType(), CacheServiceUtil.XML_CREATIVE_TYPE)
+                        ? defaultCacheTtl.getVideoCacheTtl()
+                        : defaultCacheTtl.getBannerCacheTtl());
+
+        return ttlSeconds != null ? Math.min(ttlSeconds, maxTtlSeconds) : maxTtlSeconds;
+    }
+
+    private long sizeInBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    private static class CreativeExpiry implements Expiry<String, LocalCreative> {
+
+        @Override
+        public long expireAfterCreate(String uuid, LocalCreative creative, long currentTime) {
+            return TimeUnit.SECONDS.toNanos(creative.getTtlSeconds());
+        }
+
+        @Override
+        public long expireAfterUpdate(String uuid, LocalCreative creative, long currentTime, long currentDuration) {
+            return TimeUnit.SECONDS.toNanos(creative.getTtlSeconds());
+        }
+
+        @Override
+        public long expireAfterRead(String uuid, LocalCreative creative, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.prebid.server.cache.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+/**
+ * Holds response of Cache Service to put request.
+ * <p>
+ * Response of a batched request is split into already decoded cache objects of each merged request,
+ * so it has no body. Otherwise, the response is kept as received.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Value
+public class CachePutResponse {
+
+    int statusCode;
+
+    String body;
+
+    BidCacheResponse bidCacheResponse;
+
+    public static CachePutResponse of(HttpClientResponse response) {
+        return new CachePutResponse(response.getStatusCode(), response.getBody(), null);
+    }
+
+    public static CachePutResponse of(BidCacheResponse bidCacheResponse) {
+        return new CachePutResponse(200, null, bidCacheResponse);
+    }
+}
@@ -0,0 +1,12 @@
+package org.prebid.server.cache.model;
+
+import io.vertx.core.buffer.Buffer;
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class EncodedBidCacheRequest {
+
+    Buffer body;
+
+    int putObjectsCount;
+}
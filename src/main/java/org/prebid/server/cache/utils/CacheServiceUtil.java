@@ -5,6 +5,7 @@ import org.prebid.server.util.HttpUtil;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Objects;
 
 public class CacheServiceUtil {
 
@@ -41,4 +42,9 @@ public class CacheServiceUtil {
         }
     }
 
+    public static MultiMap getCacheHeaders(String apiKey, boolean isApiKeySecured) {
+        return isApiKeySecured
+                ? HttpUtil.headers().add(HttpUtil.X_PBC_API_KEY_HEADER, Objects.requireNonNull(apiKey))
+                : HttpUtil.headers();
+    }
 }
@@ -6,17 +6,18 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.currency.proto.CurrencyConversionRates;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestCurrency;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.MicroPriceUtil;
 import org.prebid.server.vertx.Initializable;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
@@ -26,11 +27,9 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service for price currency conversion between currencies.
@@ -41,13 +40,14 @@ public class CurrencyConversionService implements Initializable {
 
     private static final String DEFAULT_BID_CURRENCY = "USD";
     // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
-    private static final int DEFAULT_PRICE_PRECISION = 3;
+    static final int DEFAULT_PRICE_PRECISION = 3;
 
     private final String currencyServerUrl;
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
 
     private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    private CurrencyRateMatrix externalRateMatrix;
     private ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
@@ -119,6 +119,11 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
+            final long startTime = System.nanoTime();
+            externalRateMatrix = CurrencyRateMatrix.of(receivedCurrencyRates);
+            externalConversionProperties.getMetrics().updateCurrencyRatesUpdateTime(
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
             externalCurrencyRates = receivedCurrencyRates;
             lastUpdated = now();
         }
@@ -134,6 +139,7 @@ public class CurrencyConversionService implements Initializable {
 
         if (externalRatesAreStale()) {
             externalCurrencyRates = null;
+            externalRateMatrix = null;
         }
 
         return null;
@@ -199,160 +205,86 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
-
-        if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
-        } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
-        }
-
-        final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates,
-                secondPriorityRates,
-                effectiveFromCurrency,
-                effectiveToCurrency);
+        final boolean requestRatesFirst = BooleanUtils.isFalse(usepbsrates);
+        final BigDecimal firstPriorityRate = getConversionRate(
+                requestRatesFirst, requestCurrencyRates, effectiveFromCurrency, effectiveToCurrency);
+        final BigDecimal conversionRate = firstPriorityRate != null
+                ? firstPriorityRate
+                : getConversionRate(
+                !requestRatesFirst, requestCurrencyRates, effectiveFromCurrency, effectiveToCurrency);
 
         if (conversionRate == null) {
+            updateConversionMetric(MetricName.failed_conversions);
             throw new PreBidException("Unable to convert from currency %s to desired ad server currency %s"
                     .formatted(effectiveFromCurrency, effectiveToCurrency));
         }
 
-        return price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
-    }
-
-    private static Map<String, Map<String, BigDecimal>> currencyRates(BidRequest bidRequest) {
-        final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
-        final ExtRequestCurrency currency = prebid != null ? prebid.getCurrency() : null;
-        return currency != null ? currency.getRates() : null;
-    }
-
-    private static ExtRequestPrebid extRequestPrebid(BidRequest bidRequest) {
-        final ExtRequest requestExt = bidRequest.getExt();
-        return requestExt != null ? requestExt.getPrebid() : null;
-    }
+        // request rates are used if they go first and have the rate, or go second and external rates have not
+        final boolean byRequestRates = requestRatesFirst == (firstPriorityRate != null);
+        updateConversionMetric(byRequestRates ? MetricName.request_conversions : MetricName.external_conversions);
 
-    private static Boolean usepbsrates(BidRequest bidRequest) {
-        final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
-        final ExtRequestCurrency currency = prebid != null ? prebid.getCurrency() : null;
-        return currency != null ? currency.getUsepbsrates() : null;
+        return convert(price, conversionRate);
     }
 
     /**
-     * Returns conversion rate from the given currency rates according to priority.
+     * Converts price with long arithmetic if it is representable in micros, otherwise with {@link BigDecimal} one.
      */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
-                                                          String fromCurrency,
-                                                          String toCurrency) {
-
-        return ObjectUtils.defaultIfNull(
-                getConversionRate(firstPriorityRates, fromCurrency, toCurrency),
-                getConversionRate(secondPriorityRates, fromCurrency, toCurrency));
+    private static BigDecimal convert(BigDecimal price, BigDecimal conversionRate) {
+        final long priceMicros = MicroPriceUtil.toMicros(price);
+        final long convertedMicros = priceMicros != MicroPriceUtil.NOT_REPRESENTABLE
+                ? MicroPriceUtil.multiplyHalfEven(priceMicros, conversionRate, DEFAULT_PRICE_PRECISION)
+                : MicroPriceUtil.NOT_REPRESENTABLE;
+
+        return convertedMicros != MicroPriceUtil.NOT_REPRESENTABLE
+                ? MicroPriceUtil.toBigDecimal(convertedMicros, DEFAULT_PRICE_PRECISION)
+                : price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
     }
 
-    /**
-     * Looking for rates for a currency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                String fromCurrency,
-                                                String toCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
-
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
-
-        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
-        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
+    private BigDecimal getConversionRate(boolean byRequestRates,
+                                         Map<String, Map<String, BigDecimal>> requestCurrencyRates,
+                                         String fromCurrency,
+                                         String toCurrency) {
 
-        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
-                reverseCurrencyRates);
-        if (intermediateConversionRate != null) {
-            return intermediateConversionRate;
-        }
-
-        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+        return byRequestRates
+                ? getRequestConversionRate(requestCurrencyRates, fromCurrency, toCurrency)
+                : getExternalConversionRate(fromCurrency, toCurrency);
     }
 
-    /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
-     */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
-                                                        String currency) {
-        final BigDecimal reverseConversionRate = currencyRates != null
-                ? currencyRates.get(currency)
-                : null;
+    private static BigDecimal getRequestConversionRate(Map<String, Map<String, BigDecimal>> requestCurrencyRates,
+                                                       String fromCurrency,
+                                                       String toCurrency) {
 
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate,
-                getRatePrecision(reverseConversionRate),
-                RoundingMode.HALF_EVEN)
+        return MapUtils.isNotEmpty(requestCurrencyRates)
+                ? CurrencyRateMatrix.resolveRate(requestCurrencyRates, fromCurrency, toCurrency)
                 : null;
     }
 
-    /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
-     */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
-                                                             Map<String, BigDecimal> reverseCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
-            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.getFirst();
-                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
-                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
-                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
-                        // chose largest precision among intermediate rates
-                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
+    private BigDecimal getExternalConversionRate(String fromCurrency, String toCurrency) {
+        final CurrencyRateMatrix rateMatrix = externalRateMatrix;
+        return rateMatrix != null ? rateMatrix.getRate(fromCurrency, toCurrency) : null;
     }
 
-    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                      String fromCurrency,
-                                                      String toCurrency) {
-        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
-            final BigDecimal fromRate = rates.get(fromCurrency);
-            final BigDecimal toRate = rates.get(toCurrency);
-            if (fromRate != null && toRate != null) {
-                return toRate.divide(fromRate,
-                        getRatePrecision(fromRate, toRate),
-                        RoundingMode.HALF_EVEN);
-            }
+    private void updateConversionMetric(MetricName metricName) {
+        if (externalConversionProperties != null) {
+            externalConversionProperties.getMetrics().updateCurrencyConversionMetric(metricName);
         }
+    }
 
-        return null;
+    private static Map<String, Map<String, BigDecimal>> currencyRates(BidRequest bidRequest) {
+        final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
+        final ExtRequestCurrency currency = prebid != null ? prebid.getCurrency() : null;
+        return currency != null ? currency.getRates() : null;
     }
 
-    private static int getRatePrecision(BigDecimal... rates) {
-        final int precision = Arrays.stream(rates)
-                .map(BigDecimal::precision)
-                .max(Integer::compareTo)
-                .orElse(DEFAULT_PRICE_PRECISION);
+    private static ExtRequestPrebid extRequestPrebid(BidRequest bidRequest) {
+        final ExtRequest requestExt = bidRequest.getExt();
+        return requestExt != null ? requestExt.getPrebid() : null;
+    }
 
-        return Math.max(precision, DEFAULT_PRICE_PRECISION);
+    private static Boolean usepbsrates(BidRequest bidRequest) {
+        final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
+        final ExtRequestCurrency currency = prebid != null ? prebid.getCurrency() : null;
+        return currency != null ? currency.getUsepbsrates() : null;
     }
 
     private boolean isRatesStale() {
@@ -0,0 +1,174 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversion rates between every pair of currencies known from the given currency rates,
+ * kept in a dense matrix indexed by currency.
+ * <p>
+ * All rates are resolved when matrix is created, using straight, reverse, intermediate and cross rates, so
+ * conversions neither probe the nested rate maps nor divide rates. Rates supplied by a request are used for a few
+ * conversions only, so they are resolved with {@link #resolveRate(Map, String, String)} on each use instead.
+ */
+class CurrencyRateMatrix {
+
+    // marks resolved currency pair without conversion rate, compared by identity
+    private static final BigDecimal NO_RATE = new BigDecimal(-1);
+
+    private final Map<String, Integer> currencyIndexes;
+    private final BigDecimal[] rates;
+
+    private CurrencyRateMatrix(Map<String, Integer> currencyIndexes, BigDecimal[] rates) {
+        this.currencyIndexes = currencyIndexes;
+        this.rates = rates;
+    }
+
+    /**
+     * Creates matrix with conversion rates of all currency pairs resolved.
+     */
+    static CurrencyRateMatrix of(Map<String, Map<String, BigDecimal>> currencyRates) {
+        final Map<String, Integer> currencyIndexes = currencyIndexes(currencyRates);
+        final BigDecimal[] rates = new BigDecimal[currencyIndexes.size() * currencyIndexes.size()];
+        for (Map.Entry<String, Integer> from : currencyIndexes.entrySet()) {
+            for (Map.Entry<String, Integer> to : currencyIndexes.entrySet()) {
+                final BigDecimal rate = resolveRate(currencyRates, from.getKey(), to.getKey());
+                rates[from.getValue() * currencyIndexes.size() + to.getValue()] = rate != null ? rate : NO_RATE;
+            }
+        }
+
+        return new CurrencyRateMatrix(currencyIndexes, rates);
+    }
+
+    /**
+     * Returns conversion rate for the currency pair, or null if it cannot be resolved.
+     */
+    BigDecimal getRate(String fromCurrency, String toCurrency) {
+        final Integer fromIndex = currencyIndexes.get(fromCurrency);
+        final Integer toIndex = fromIndex != null ? currencyIndexes.get(toCurrency) : null;
+        if (toIndex == null) {
+            // currency absent in all rates could not be converted in any way
+            return null;
+        }
+
+        final BigDecimal rate = rates[fromIndex * currencyIndexes.size() + toIndex];
+        return rate != NO_RATE ? rate : null;
+    }
+
+    private static Map<String, Integer> currencyIndexes(Map<String, Map<String, BigDecimal>> currencyRates) {
+        final Map<String, Integer> currencyIndexes = new HashMap<>();
+        for (Map.Entry<String, Map<String, BigDecimal>> entry : MapUtils.emptyIfNull(currencyRates).entrySet()) {
+            currencyIndexes.putIfAbsent(entry.getKey(), currencyIndexes.size());
+            for (String currency : MapUtils.emptyIfNull(entry.getValue()).keySet()) {
+                currencyIndexes.putIfAbsent(currency, currencyIndexes.size());
+            }
+        }
+        return currencyIndexes;
+    }
+
+    /**
+     * Looking for rates for a currency pair, using such approaches as straight, reverse and
+     * intermediate rates.
+     */
+    static BigDecimal resolveRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                  String fromCurrency,
+                                  String toCurrency) {
+
+        BigDecimal conversionRate;
+        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
+
+        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
+        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
+                reverseCurrencyRates);
+        if (intermediateConversionRate != null) {
+            return intermediateConversionRate;
+        }
+
+        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+    }
+
+    /**
+     * Finds reverse conversion rate.
+     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     */
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
+                                                        String currency) {
+        final BigDecimal reverseConversionRate = currencyRates != null
+                ? currencyRates.get(currency)
+                : null;
+
+        return reverseConversionRate != null
+                ? BigDecimal.ONE.divide(reverseConversionRate,
+                getRatePrecision(reverseConversionRate),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    /**
+     * Finds intermediate conversion rate.
+     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
+     * (1/1.5) * 1.2 conversion rate.
+     */
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
+                                                             Map<String, BigDecimal> reverseCurrencyRates) {
+        BigDecimal conversionRate = null;
+        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
+            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
+            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
+
+            if (!sharedCurrencies.isEmpty()) {
+                // pick any found shared currency
+                final String sharedCurrency = sharedCurrencies.getFirst();
+                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
+                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
+                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
+                        // chose largest precision among intermediate rates
+                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+        return conversionRate;
+    }
+
+    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                      String fromCurrency,
+                                                      String toCurrency) {
+        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
+            final BigDecimal fromRate = rates.get(fromCurrency);
+            final BigDecimal toRate = rates.get(toCurrency);
+            if (fromRate != null && toRate != null) {
+                return toRate.divide(fromRate,
+                        getRatePrecision(fromRate, toRate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+
+        return null;
+    }
+
+    private static int getRatePrecision(BigDecimal... rates) {
+        final int precision = Arrays.stream(rates)
+                .map(BigDecimal::precision)
+                .max(Integer::compareTo)
+                .orElse(CurrencyConversionService.DEFAULT_PRICE_PRECISION);
+
+        return Math.max(precision, CurrencyConversionService.DEFAULT_PRICE_PRECISION);
+    }
+}
@@ -0,0 +1,76 @@
+package org.prebid.server.geolocation;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+import org.prebid.server.auction.IpAddressHelper;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wrapper for geo location service that keeps successfully resolved {@link GeoInfo} per masked IP address.
+ * <p>
+ * IPv4 address is truncated to /24 and IPv6 address is anonymized the same way as for privacy enforcement, so
+ * the addresses of one network share a single cache entry. The masked address is also used for the lookup itself,
+ * so the cached result doesn't depend on which address of the network was looked up first.
+ * <p>
+ * Failed lookups are not cached, so they are retried by the next request from the same network.
+ */
+public class CachingGeoLocationService implements GeoLocationService {
+
+    private final GeoLocationService geoLocationService;
+    private final IpAddressHelper ipAddressHelper;
+    private final Metrics metrics;
+
+    private final Map<String, GeoInfo> cache;
+
+    public CachingGeoLocationService(GeoLocationService geoLocationService,
+                                     int ttlSeconds,
+                                     int cacheSize,
+                                     IpAddressHelper ipAddressHelper,
+                                     Metrics metrics) {
+
+        this.geoLocationService = Objects.requireNonNull(geoLocationService);
+        this.ipAddressHelper = Objects.requireNonNull(ipAddressHelper);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(cacheSize)
+                .<String, GeoInfo>build()
+                .asMap();
+    }
+
+    @Override
+    public Future<GeoInfo> lookup(String ip, Timeout timeout) {
+        if (ip == null) {
+            return geoLocationService.lookup(null, timeout);
+        }
+
+        final String maskedIp = maskIp(ip);
+        final GeoInfo cachedGeoInfo = cache.get(maskedIp);
+        if (cachedGeoInfo != null) {
+            metrics.updateGeoLocationCacheMetric(true);
+            return Future.succeededFuture(cachedGeoInfo);
+        }
+
+        metrics.updateGeoLocationCacheMetric(false);
+        return geoLocationService.lookup(maskedIp, timeout)
+                .onSuccess(geoInfo -> cacheGeoInfo(maskedIp, geoInfo));
+    }
+
+    private String maskIp(String ip) {
+        final String anonymizedIpv6 = ipAddressHelper.anonymizeIpv6(ip);
+        return anonymizedIpv6 != null ? anonymizedIpv6 : ipAddressHelper.maskIpv4(ip);
+    }
+
+    private void cacheGeoInfo(String maskedIp, GeoInfo geoInfo) {
+        if (geoInfo != null) {
+            cache.put(maskedIp, geoInfo);
+        }
+    }
+}
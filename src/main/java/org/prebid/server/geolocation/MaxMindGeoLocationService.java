@@ -17,10 +17,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.execution.RemoteFileProcessor;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.zip.GZIPInputStream;
 
@@ -30,12 +36,22 @@ import java.util.zip.GZIPInputStream;
  */
 public class MaxMindGeoLocationService implements GeoLocationService, RemoteFileProcessor {
 
+    private static final Logger logger = LoggerFactory.getLogger(MaxMindGeoLocationService.class);
+
     private static final String VENDOR = "maxmind";
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
 
-    private DatabaseReader databaseReader;
+    // swapped on every database refresh, lookups always use the latest completely opened reader
+    private volatile DatabaseReader databaseReader;
 
+    /**
+     * Extracts database file from the given archive next to it and opens it in memory-mapped mode.
+     * <p>
+     * Database file is extracted to a temporary file first and then atomically moved over the previous one,
+     * so the reader in use keeps its mapping until it is replaced and refresh doesn't load the whole database
+     * into the heap.
+     */
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
                 new FileInputStream(dataFilePath)))) {
@@ -53,7 +69,12 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
                         .formatted(DATABASE_FILE_NAME, dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            final Path databaseFile = extractDatabaseFile(tarInput, Path.of(dataFilePath).toAbsolutePath());
+            final DatabaseReader previousDatabaseReader = databaseReader;
+            databaseReader = new DatabaseReader.Builder(databaseFile.toFile())
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    .build();
+            closeQuietly(previousDatabaseReader);
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -61,15 +82,48 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
         }
     }
 
+    private static Path extractDatabaseFile(InputStream databaseInput, Path archiveFile) throws IOException {
+        final Path databaseFile = archiveFile.resolveSibling(DATABASE_FILE_NAME);
+        final Path tmpDatabaseFile = Files.createTempFile(archiveFile.getParent(), DATABASE_FILE_NAME, ".tmp");
+
+        try {
+            Files.copy(databaseInput, tmpDatabaseFile, StandardCopyOption.REPLACE_EXISTING);
+            // previous reader (if any) keeps mapping of the replaced file until it is closed
+            Files.move(tmpDatabaseFile, databaseFile,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpDatabaseFile);
+        }
+
+        return databaseFile;
+    }
+
+    /**
+     * Closes reader replaced by the refresh. Lookups still in flight on it fail and are treated as regular
+     * lookup failures.
+     */
+    private static void closeQuietly(DatabaseReader reader) {
+        if (reader == null) {
+            return;
+        }
+
+        try {
+            reader.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close previous geo location database reader: {}", e.getMessage());
+        }
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
-        if (databaseReader == null) {
+        final DatabaseReader currentDatabaseReader = databaseReader;
+        if (currentDatabaseReader == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
         try {
             final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
+            final CityResponse cityResponse = currentDatabaseReader.city(inetAddress);
             final Location location = cityResponse != null ? cityResponse.getLocation() : null;
 
             return Future.succeededFuture(GeoInfo.builder()
@@ -0,0 +1,73 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.cache.LocalCreativeStore;
+import org.prebid.server.cache.model.LocalCreative;
+import org.prebid.server.cache.utils.CacheServiceUtil;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.verticles.server.HttpEndpoint;
+import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serves creatives from {@link LocalCreativeStore} in the same way as Cache Service does.
+ * <p>
+ * Creatives missing in the local store are redirected to the external Cache Service.
+ */
+public class LocalCacheHandler implements ApplicationResource {
+
+    private static final String UUID_PARAMETER = "uuid";
+    private static final String APPLICATION_XML_CONTENT_TYPE = "application/xml";
+
+    private final LocalCreativeStore localCreativeStore;
+    private final String externalCacheUrl;
+
+    public LocalCacheHandler(LocalCreativeStore localCreativeStore, String externalCacheUrl) {
+        this.localCreativeStore = Objects.requireNonNull(localCreativeStore);
+        this.externalCacheUrl = Objects.requireNonNull(externalCacheUrl);
+    }
+
+    @Override
+    public List<HttpEndpoint> endpoints() {
+        return Collections.singletonList(HttpEndpoint.of(HttpMethod.GET, Endpoint.cache.value()));
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final String uuid = routingContext.request().getParam(UUID_PARAMETER);
+        if (StringUtils.isBlank(uuid)) {
+            HttpUtil.executeSafely(routingContext, Endpoint.cache, response -> response
+                    .setStatusCode(HttpResponseStatus.BAD_REQUEST.code())
+                    .end("Missing required parameter: " + UUID_PARAMETER));
+            return;
+        }
+
+        final LocalCreative creative = localCreativeStore.get(uuid);
+        if (creative == null) {
+            final String redirectUrl = "%s?%s=%s".formatted(externalCacheUrl, UUID_PARAMETER, HttpUtil.encodeUrl(uuid));
+            HttpUtil.executeSafely(routingContext, Endpoint.cache, response -> response
+                    .setStatusCode(HttpResponseStatus.FOUND.code())
+                    .putHeader(HttpUtil.LOCATION_HEADER, redirectUrl)
+                    .end());
+            return;
+        }
+
+        HttpUtil.executeSafely(routingContext, Endpoint.cache, response -> response
+                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, contentType(creative))
+                .end(Buffer.buffer(creative.getValue())));
+    }
+
+    private static String contentType(LocalCreative creative) {
+        return Objects.equals(creative.getType(), CacheServiceUtil.XML_CREATIVE_TYPE)
+                ? APPLICATION_XML_CONTENT_TYPE
+                : HttpUtil.APPLICATION_JSON_CONTENT_TYPE;
+    }
+}
@@ -5,22 +5,29 @@ import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
 import com.codahale.metrics.Timer;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
 
 import java.util.AbstractMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class CollectedMetricsHandler implements Handler<RoutingContext> {
 
+    private static final Map<String, Double> AUCTION_STAGE_PERCENTILES = percentiles();
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
     private final MetricRegistry metricRegistry;
     private final JacksonMapper mapper;
     private final String endpoint;
@@ -44,15 +51,42 @@ public class CollectedMetricsHandler implements Handler<RoutingContext> {
     }
 
     private Map<String, Number> getAllMetrics() {
+        final Map<String, Timer> timers = metricRegistry.getTimers();
+
         return Stream.of(getMetric(metricRegistry.getGauges(), Gauge::getValue),
                         getMetric(metricRegistry.getCounters(), Counter::getCount),
                         getMetric(metricRegistry.getHistograms(), metric -> metric.getSnapshot().get95thPercentile()),
                         getMetric(metricRegistry.getMeters(), Meter::getCount),
-                        getMetric(metricRegistry.getTimers(), Timer::getCount))
+                        getMetric(timers, Timer::getCount),
+                        getAuctionStagePercentiles(timers))
                 .flatMap(Function.identity())
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (o1, o2) -> o1, TreeMap::new));
     }
 
+    /**
+     * Returns percentiles of auction stage timers in milliseconds.
+     */
+    private static Stream<Map.Entry<String, Number>> getAuctionStagePercentiles(Map<String, Timer> timers) {
+        return timers.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(Metrics.AUCTION_STAGE_METRICS_PREFIX))
+                .flatMap(entry -> getPercentiles(entry.getKey(), entry.getValue().getSnapshot()));
+    }
+
+    private static Stream<Map.Entry<String, Number>> getPercentiles(String name, Snapshot snapshot) {
+        return AUCTION_STAGE_PERCENTILES.entrySet().stream()
+                .map(percentile -> new AbstractMap.SimpleEntry<>(
+                        "%s.%s".formatted(name, percentile.getKey()),
+                        snapshot.getValue(percentile.getValue()) / NANOS_PER_MILLI));
+    }
+
+    private static Map<String, Double> percentiles() {
+        final Map<String, Double> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", 0.5);
+        percentiles.put("p99", 0.99);
+        percentiles.put("p999", 0.999);
+        return percentiles;
+    }
+
     private static <T extends Metric> Stream<Map.Entry<String, Number>> getMetric(Map<String, T> metricMap,
                                                                                   Function<T, ?> getter) {
         return metricMap.entrySet().stream()
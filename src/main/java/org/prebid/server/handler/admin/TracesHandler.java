@@ -0,0 +1,75 @@
+package org.prebid.server.handler.admin;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.exception.InvalidRequestException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.tracing.Tracer;
+import org.prebid.server.tracing.model.CompletedTrace;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.List;
+import java.util.Objects;
+
+public class TracesHandler implements Handler<RoutingContext> {
+
+    private static final String TRACE_ID_PARAMETER = "traceId";
+    private static final String LIMIT_PARAMETER = "limit";
+
+    private final Tracer tracer;
+    private final JacksonMapper mapper;
+    private final String endpoint;
+
+    public TracesHandler(Tracer tracer, JacksonMapper mapper, String endpoint) {
+        this.tracer = Objects.requireNonNull(tracer);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.endpoint = Objects.requireNonNull(endpoint);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final MultiMap parameters = routingContext.request().params();
+
+        try {
+            final String traceId = parameters.get(TRACE_ID_PARAMETER);
+            final int limit = readLimit(parameters);
+            final List<CompletedTrace> traces = tracer.recentTraces(Integer.MAX_VALUE).stream()
+                    .filter(trace -> traceId == null || traceId.equals(trace.getTraceId()))
+                    .limit(limit)
+                    .toList();
+            final String body = mapper.encodeToString(traces);
+
+            HttpUtil.executeSafely(routingContext, endpoint,
+                    response -> response
+                            .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE)
+                            .end(body));
+        } catch (InvalidRequestException e) {
+            HttpUtil.executeSafely(routingContext, endpoint,
+                    response -> response
+                            .setStatusCode(HttpResponseStatus.BAD_REQUEST.code())
+                            .end(e.getMessage()));
+        }
+    }
+
+    private static int readLimit(MultiMap parameters) {
+        final String value = parameters.get(LIMIT_PARAMETER);
+        if (value == null) {
+            return Integer.MAX_VALUE;
+        }
+
+        final int limit;
+        try {
+            limit = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid '%s' parameter value".formatted(LIMIT_PARAMETER));
+        }
+
+        if (limit < 1) {
+            throw new InvalidRequestException("Parameter '%s' must be positive".formatted(LIMIT_PARAMETER));
+        }
+
+        return limit;
+    }
+}
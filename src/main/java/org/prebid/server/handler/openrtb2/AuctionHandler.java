@@ -33,6 +33,9 @@ import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.model.PrivacyContext;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.tracing.Trace;
+import org.prebid.server.tracing.Tracer;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.verticles.server.HttpEndpoint;
@@ -41,6 +44,7 @@ import org.prebid.server.vertx.verticles.server.application.ApplicationResource;
 import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -59,6 +63,7 @@ public class AuctionHandler implements ApplicationResource {
     private final HttpInteractionLogger httpInteractionLogger;
     private final PrebidVersionProvider prebidVersionProvider;
     private final JacksonMapper mapper;
+    private final Tracer tracer;
 
     public AuctionHandler(double logSamplingRate,
                           AuctionRequestFactory auctionRequestFactory,
@@ -69,7 +74,8 @@ public class AuctionHandler implements ApplicationResource {
                           Clock clock,
                           HttpInteractionLogger httpInteractionLogger,
                           PrebidVersionProvider prebidVersionProvider,
-                          JacksonMapper mapper) {
+                          JacksonMapper mapper,
+                          Tracer tracer) {
 
         this.logSamplingRate = logSamplingRate;
         this.auctionRequestFactory = Objects.requireNonNull(auctionRequestFactory);
@@ -81,6 +87,7 @@ public class AuctionHandler implements ApplicationResource {
         this.httpInteractionLogger = Objects.requireNonNull(httpInteractionLogger);
         this.prebidVersionProvider = Objects.requireNonNull(prebidVersionProvider);
         this.mapper = Objects.requireNonNull(mapper);
+        this.tracer = Objects.requireNonNull(tracer);
     }
 
     @Override
@@ -99,10 +106,16 @@ public class AuctionHandler implements ApplicationResource {
         final AuctionEvent.AuctionEventBuilder auctionEventBuilder = AuctionEvent.builder()
                 .httpContext(HttpRequestContext.from(routingContext));
 
+        final Trace trace = tracer.start(routingContext.request().headers().get(HttpUtil.TRACEPARENT_HEADER));
+        final long parsingStartTime = System.nanoTime();
+
         auctionRequestFactory.parseRequest(routingContext, startTime)
+                .onComplete(result -> trace.addSpan(
+                        "request-parsing", parsingStartTime, Collections.emptyMap(), result.failed()))
+                .map(auctionContext -> auctionContext.with(trace))
                 .compose(auctionContext -> skippedAuctionService.skipAuction(auctionContext)
                         .recover(throwable -> holdAuction(auctionEventBuilder, auctionContext)))
-                .onComplete(context -> handleResult(context, auctionEventBuilder, routingContext, startTime));
+                .onComplete(context -> handleResult(context, auctionEventBuilder, routingContext, startTime, trace));
     }
 
     private Future<AuctionContext> holdAuction(AuctionEvent.AuctionEventBuilder auctionEventBuilder,
@@ -145,7 +158,8 @@ public class AuctionHandler implements ApplicationResource {
     private void handleResult(AsyncResult<AuctionContext> responseResult,
                               AuctionEvent.AuctionEventBuilder auctionEventBuilder,
                               RoutingContext routingContext,
-                              long startTime) {
+                              long startTime,
+                              Trace trace) {
 
         final boolean responseSucceeded = responseResult.succeeded();
 
@@ -241,6 +255,22 @@ public class AuctionHandler implements ApplicationResource {
         }
 
         httpInteractionLogger.maybeLogOpenrtb2Auction(auctionContext, routingContext, status.code(), body);
+
+        finishTrace(trace, auctionContext, status);
+    }
+
+    private void finishTrace(Trace trace, AuctionContext auctionContext, HttpResponseStatus status) {
+        if (!trace.isSampled()) {
+            return;
+        }
+
+        final Account account = auctionContext != null ? auctionContext.getAccount() : null;
+        final String accountId = account != null ? account.getId() : null;
+        final Map<String, String> attributes = accountId != null
+                ? Map.of("http.status_code", String.valueOf(status.code()), "account", accountId)
+                : Map.of("http.status_code", String.valueOf(status.code()));
+
+        tracer.finish(trace, "auction", attributes, status.code() >= 500);
     }
 
     private boolean respondWith(RoutingContext routingContext,
@@ -5,6 +5,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
 import org.prebid.server.hooks.execution.model.HookId;
@@ -17,8 +18,10 @@ import org.prebid.server.hooks.v1.InvocationStatus;
 import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.tracing.Trace;
 
 import java.time.Clock;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -127,7 +130,21 @@ class GroupExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
             }
         }
 
-        return executeWithTimeout(() -> hook.call(groupResult.payload(), invocationContext), timeout);
+        final long startTime = System.nanoTime();
+        return executeWithTimeout(() -> hook.call(groupResult.payload(), invocationContext), timeout)
+                .onComplete(result -> trace(invocationContext).addSpan(
+                        "hook",
+                        startTime,
+                        Map.of("module", hookId.getModuleCode(), "hook", hookId.getHookImplCode()),
+                        result.failed()));
+    }
+
+    private static Trace trace(InvocationContext invocationContext) {
+        final AuctionContext auctionContext = invocationContext instanceof AuctionInvocationContext context
+                ? context.auctionContext()
+                : null;
+
+        return auctionContext != null ? auctionContext.getTrace() : Trace.noop();
     }
 
     private <T> Future<T> executeWithTimeout(Supplier<Future<T>> action, Long timeout) {
@@ -45,6 +45,7 @@ import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestBody;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountHooksConfiguration;
 
@@ -114,14 +115,14 @@ public class HookStageExecutor {
     public Future<HookStageExecutionResult<EntrypointPayload>> executeEntrypointStage(
             CaseInsensitiveMultiMap queryParams,
             CaseInsensitiveMultiMap headers,
-            String body,
+            HttpRequestBody body,
             HookExecutionContext context) {
 
         final Endpoint endpoint = context.getEndpoint();
 
         return stageExecutor(StageWithHookType.ENTRYPOINT, ENTITY_HTTP_REQUEST, context)
                 .withExecutionPlan(planForEntrypointStage(endpoint))
-                .withInitialPayload(EntrypointPayloadImpl.of(queryParams, headers, body))
+                .withInitialPayload(EntrypointPayloadImpl.ofRequestBody(queryParams, headers, body))
                 .withInvocationContextProvider(invocationContextProvider(endpoint))
                 .withRejectAllowed(true)
                 .execute();
@@ -1,17 +1,46 @@
 package org.prebid.server.hooks.execution.v1.entrypoint;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.Value;
 import lombok.experimental.Accessors;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.HttpRequestBody;
 
 @Accessors(fluent = true)
-@Value(staticConstructor = "of")
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class EntrypointPayloadImpl implements EntrypointPayload {
 
     CaseInsensitiveMultiMap queryParams;
 
     CaseInsensitiveMultiMap headers;
 
-    String body;
+    @Getter(AccessLevel.NONE)
+    HttpRequestBody body;
+
+    public static EntrypointPayloadImpl of(CaseInsensitiveMultiMap queryParams,
+                                           CaseInsensitiveMultiMap headers,
+                                           String body) {
+
+        return new EntrypointPayloadImpl(queryParams, headers, HttpRequestBody.of(body));
+    }
+
+    public static EntrypointPayloadImpl ofRequestBody(CaseInsensitiveMultiMap queryParams,
+                                                      CaseInsensitiveMultiMap headers,
+                                                      HttpRequestBody body) {
+
+        return new EntrypointPayloadImpl(queryParams, headers, body);
+    }
+
+    @Override
+    public String body() {
+        return body != null ? body.value() : null;
+    }
+
+    public HttpRequestBody requestBody() {
+        return body;
+    }
 }
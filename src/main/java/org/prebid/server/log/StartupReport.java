@@ -0,0 +1,52 @@
+package org.prebid.server.log;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Collects time spent in phases of application startup and logs them once the application is started.
+ */
+public class StartupReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReport.class);
+
+    private final Map<String, Long> phaseTimes = new LinkedHashMap<>();
+
+    /**
+     * Performs given startup action and records the time it took under the given phase.
+     */
+    public <T> T measure(String phase, Supplier<T> action) {
+        final long startTime = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        }
+    }
+
+    public void measure(String phase, Runnable action) {
+        measure(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public synchronized void record(String phase, long timeMs) {
+        phaseTimes.merge(phase, timeMs, Long::sum);
+    }
+
+    public synchronized Map<String, Long> phaseTimes() {
+        return new LinkedHashMap<>(phaseTimes);
+    }
+
+    public void log(long totalTimeMs) {
+        final String phases = phaseTimes().entrySet().stream()
+                .map(entry -> "%s: %d ms".formatted(entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(", "));
+
+        logger.info("Application started in {} ms ({})", totalTimeMs, phases);
+    }
+}
@@ -0,0 +1,33 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Auction stage metrics support.
+ * <p>
+ * Stage timers count every recorded value, so that their tail percentiles are accurate.
+ */
+class AuctionStageMetrics extends UpdatableMetrics {
+
+    private static final long WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    AuctionStageMetrics(MetricRegistry metricRegistry, CounterType counterType, MetricName stage) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(createPrefix(Objects.requireNonNull(stage))),
+                () -> new Timer(new BucketedReservoir(WINDOW_MILLIS, Clock.systemUTC())));
+    }
+
+    private static String createPrefix(MetricName stage) {
+        return "%s.%s".formatted(Metrics.AUCTION_STAGE_METRICS_PREFIX, stage);
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+}
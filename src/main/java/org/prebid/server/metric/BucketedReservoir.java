@@ -0,0 +1,237 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Reservoir counting values in buckets of exponentially growing width, the same way HDR histograms do.
+ * <p>
+ * Unlike sampling reservoirs, every recorded value is counted, so the tail percentiles are not lost. The precision
+ * is limited by the bucket width: values below 128 are exact, the relative error of greater values is below 1%.
+ * <p>
+ * Snapshot covers values recorded during the current and the previous time window.
+ */
+class BucketedReservoir implements Reservoir {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int MAX_SHIFT = 40;
+    private static final int BUCKETS_COUNT = (MAX_SHIFT + 2) * HALF_SUB_BUCKET_COUNT;
+    private static final long MAX_VALUE = ((long) SUB_BUCKET_COUNT << MAX_SHIFT) - 1;
+
+    private final long windowMillis;
+    private final Clock clock;
+
+    private volatile Intervals intervals;
+
+    BucketedReservoir(long windowMillis, Clock clock) {
+        this.windowMillis = windowMillis;
+        this.clock = Objects.requireNonNull(clock);
+
+        final long now = clock.millis();
+        intervals = new Intervals(new Interval(now + windowMillis), new Interval(now));
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update(long value) {
+        actualIntervals().current().counts().incrementAndGet(bucketIndex(value));
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+        final Intervals actualIntervals = actualIntervals();
+        final AtomicLongArray currentCounts = actualIntervals.current().counts();
+        final AtomicLongArray previousCounts = actualIntervals.previous().counts();
+
+        final long[] counts = new long[BUCKETS_COUNT];
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            counts[i] = currentCounts.get(i) + previousCounts.get(i);
+        }
+
+        return new BucketedSnapshot(counts);
+    }
+
+    private Intervals actualIntervals() {
+        final Intervals actualIntervals = intervals;
+        final long now = clock.millis();
+
+        return now < actualIntervals.current().endMillis() ? actualIntervals : rotate(now);
+    }
+
+    private synchronized Intervals rotate(long now) {
+        final Intervals actualIntervals = intervals;
+        final Interval current = actualIntervals.current();
+        if (now < current.endMillis()) {
+            // already rotated by another thread
+            return actualIntervals;
+        }
+
+        final Interval previous = now < current.endMillis() + windowMillis ? current : new Interval(now);
+        intervals = new Intervals(new Interval(now + windowMillis), previous);
+
+        return intervals;
+    }
+
+    static int bucketIndex(long value) {
+        final long boundedValue = Math.min(Math.max(value, 0), MAX_VALUE);
+        if (boundedValue < SUB_BUCKET_COUNT) {
+            return (int) boundedValue;
+        }
+
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(boundedValue) - SUB_BUCKET_BITS;
+        return shift * HALF_SUB_BUCKET_COUNT + (int) (boundedValue >>> shift);
+    }
+
+    static long bucketValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int shift = index / HALF_SUB_BUCKET_COUNT - 1;
+        final long subBucket = index % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+
+        // middle of the bucket
+        return (subBucket << shift) + (1L << shift >> 1);
+    }
+
+    private record Interval(long endMillis, AtomicLongArray counts) {
+
+        Interval(long endMillis) {
+            this(endMillis, new AtomicLongArray(BUCKETS_COUNT));
+        }
+    }
+
+    private record Intervals(Interval current, Interval previous) {
+    }
+
+    private static class BucketedSnapshot extends Snapshot {
+
+        private final long[] counts;
+        private final long size;
+
+        BucketedSnapshot(long[] counts) {
+            this.counts = counts;
+
+            long totalCount = 0;
+            for (long count : counts) {
+                totalCount += count;
+            }
+            size = totalCount;
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+                throw new IllegalArgumentException(quantile + " is not in [0..1]");
+            }
+
+            if (size == 0) {
+                return 0.0;
+            }
+
+            final long rank = Math.max(1, (long) Math.ceil(quantile * size));
+            long cumulativeCount = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulativeCount += counts[i];
+                if (cumulativeCount >= rank) {
+                    return bucketValue(i);
+                }
+            }
+
+            return getMax();
+        }
+
+        @Override
+        public long[] getValues() {
+            final long[] values = new long[size()];
+            int position = 0;
+            for (int i = 0; i < counts.length && position < values.length; i++) {
+                for (long j = 0; j < counts[i] && position < values.length; j++) {
+                    values[position++] = bucketValue(i);
+                }
+            }
+
+            return values;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    return bucketValue(i);
+                }
+            }
+
+            return 0;
+        }
+
+        @Override
+        public double getMean() {
+            if (size == 0) {
+                return 0.0;
+            }
+
+            double sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                sum += (double) bucketValue(i) * counts[i];
+            }
+
+            return sum / size;
+        }
+
+        @Override
+        public long getMin() {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    return bucketValue(i);
+                }
+            }
+
+            return 0;
+        }
+
+        @Override
+        public double getStdDev() {
+            if (size <= 1) {
+                return 0.0;
+            }
+
+            final double mean = getMean();
+            double sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                final double diff = bucketValue(i) - mean;
+                sum += diff * diff * counts[i];
+            }
+
+            return Math.sqrt(sum / (size - 1));
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter out = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                for (long value : getValues()) {
+                    out.printf("%d%n", value);
+                }
+            }
+        }
+    }
+}
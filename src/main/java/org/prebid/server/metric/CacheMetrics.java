@@ -12,6 +12,9 @@ class CacheMetrics extends UpdatableMetrics {
 
     private final RequestMetrics requestsMetrics;
     private final CacheCreativeSizeMetrics cacheCreativeSizeMetrics;
+    private final CacheAsyncWriteMetrics cacheAsyncWriteMetrics;
+    private final CacheLocalStoreMetrics cacheLocalStoreMetrics;
+    private final CacheBatchMetrics cacheBatchMetrics;
 
     CacheMetrics(MetricRegistry metricRegistry, CounterType counterType) {
         super(
@@ -21,6 +24,9 @@ class CacheMetrics extends UpdatableMetrics {
 
         requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix());
         cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(metricRegistry, counterType, createPrefix());
+        cacheAsyncWriteMetrics = new CacheAsyncWriteMetrics(metricRegistry, counterType, createPrefix());
+        cacheLocalStoreMetrics = new CacheLocalStoreMetrics(metricRegistry, counterType, createPrefix());
+        cacheBatchMetrics = new CacheBatchMetrics(metricRegistry, counterType, createPrefix());
     }
 
     CacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
@@ -31,6 +37,9 @@ class CacheMetrics extends UpdatableMetrics {
 
         requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix(prefix));
         cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(metricRegistry, counterType, createPrefix(prefix));
+        cacheAsyncWriteMetrics = new CacheAsyncWriteMetrics(metricRegistry, counterType, createPrefix(prefix));
+        cacheLocalStoreMetrics = new CacheLocalStoreMetrics(metricRegistry, counterType, createPrefix(prefix));
+        cacheBatchMetrics = new CacheBatchMetrics(metricRegistry, counterType, createPrefix(prefix));
     }
 
     private static String createPrefix(String prefix) {
@@ -52,4 +61,16 @@ class CacheMetrics extends UpdatableMetrics {
     CacheCreativeSizeMetrics creativeSize() {
         return cacheCreativeSizeMetrics;
     }
+
+    CacheAsyncWriteMetrics asyncWrite() {
+        return cacheAsyncWriteMetrics;
+    }
+
+    CacheLocalStoreMetrics localStore() {
+        return cacheLocalStoreMetrics;
+    }
+
+    CacheBatchMetrics batch() {
+        return cacheBatchMetrics;
+    }
 }
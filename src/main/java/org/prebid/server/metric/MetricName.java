@@ -17,17 +17,25 @@ public enum MetricName {
     // database
     db_query_time,
 
+    // gpp
+    decode_time,
+
     // geo location
     geolocation_requests,
     geolocation_request_time,
     geolocation_successful,
     geolocation_fail,
+    geolocation_cache_hit,
+    geolocation_cache_miss,
 
     // auction
     requests,
     app_requests,
     no_cookie_requests,
     request_time,
+    params_validation_time,
+    params_validation_cache_hit,
+    params_validation_cache_miss,
     prices,
     imps_requested,
     imps_banner,
@@ -106,6 +114,10 @@ public enum MetricName {
     missing,
     fallback,
 
+    // tcf cache
+    consent,
+    vendor_permission("vendor-permission"),
+
     // stored data
     stored_requests_found,
     stored_requests_missing,
@@ -116,14 +128,34 @@ public enum MetricName {
     json,
     xml,
 
+    // cache async write
+    dropped,
+    late,
+    retry,
+
+    // cache local store
+    entries,
+    size_bytes,
+
+    // cache batch
+    puts,
+    queue_time,
+
     // account.*.requests.
     rejected_by_invalid_account("rejected.invalid-account"),
     rejected_by_invalid_stored_impr("rejected.invalid-stored-impr"),
     rejected_by_invalid_stored_request("rejected.invalid-stored-request"),
     rejected_by_account_fetch_failed("rejected.account-fetch-failed"),
 
+    // privacy
+    masking_classes("masking-classes"),
+
     // currency rates
-    stale,
+    stale("stale.count"),
+    update_time("update-time"),
+    request_conversions("conversions.request"),
+    external_conversions("conversions.external"),
+    failed_conversions("conversions.failed"),
 
     // settings cache
     stored_request("stored-request"),
@@ -145,6 +177,16 @@ public enum MetricName {
     execution_error("execution-error"),
     duration,
 
+    // auction stages
+    request_factory("request-factory"),
+    request_parse("request-parse"),
+    privacy,
+    raw_request_hooks("raw-request-hooks"),
+    processed_request_hooks("processed-request-hooks"),
+    bidder_requests("bidder-requests"),
+    response_creation("response-creation"),
+    cache,
+
     // price-floors
     price_floors("price-floors"),
 
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -28,6 +29,8 @@ import java.util.stream.Collectors;
  */
 public class Metrics extends UpdatableMetrics {
 
+    public static final String AUCTION_STAGE_METRICS_PREFIX = "auction.stage";
+
     private static final String ALL_REQUEST_BIDDERS = "all";
 
     private final AccountMetricsVerbosityResolver accountMetricsVerbosityResolver;
@@ -39,6 +42,7 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<MetricName, AuctionStageMetrics> auctionStageMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -58,6 +62,7 @@ public class Metrics extends UpdatableMetrics {
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
+    private final Map<MetricName, AuctionStageMetrics> auctionStageMetrics;
     private final HooksMetrics hooksMetrics;
 
     public Metrics(MetricRegistry metricRegistry,
@@ -79,6 +84,7 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        auctionStageMetricsCreator = stage -> new AuctionStageMetrics(metricRegistry, counterType, stage);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
@@ -96,6 +102,7 @@ public class Metrics extends UpdatableMetrics {
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
+        auctionStageMetrics = new EnumMap<>(MetricName.class);
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
     }
 
@@ -163,6 +170,10 @@ public class Metrics extends UpdatableMetrics {
         return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
     }
 
+    AuctionStageMetrics forAuctionStage(MetricName stage) {
+        return auctionStageMetrics.computeIfAbsent(stage, auctionStageMetricsCreator);
+    }
+
     HooksMetrics hooks() {
         return hooksMetrics;
     }
@@ -221,6 +232,10 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(requestType, millis);
     }
 
+    public void updateAuctionStageTime(MetricName stage, long nanos) {
+        forAuctionStage(stage).updateTimer(MetricName.duration, nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -282,6 +297,14 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterParamsValidationTime(String bidder, long nanos) {
+        forAdapter(bidder).updateTimer(MetricName.params_validation_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updateAdapterParamsValidationCacheMetric(String bidder, MetricName event) {
+        forAdapter(bidder).incCounter(event);
+    }
+
     public void updateAdapterRequestNobidMetrics(String bidder, Account account) {
         forAdapter(bidder).request().incCounter(MetricName.nobid);
         if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
@@ -508,6 +531,22 @@ public class Metrics extends UpdatableMetrics {
         tcfMetrics.fromVersion(version).vendorList().incCounter(metricName);
     }
 
+    public void updatePrivacyTcfCacheMetric(MetricName cacheType, MetricName event) {
+        privacy().tcf().cache(cacheType).incCounter(event);
+    }
+
+    public void updatePrivacyTcfMaskingClassesMetric(int classes) {
+        privacy().tcf().updateHistogram(MetricName.masking_classes, classes);
+    }
+
+    public void updatePrivacyGppCacheMetric(MetricName event) {
+        privacy().gpp().cache().incCounter(event);
+    }
+
+    public void updatePrivacyGppDecodeTime(long nanos) {
+        privacy().gpp().updateTimer(MetricName.decode_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateConnectionAcceptErrors() {
         incCounter(MetricName.connection_accept_errors);
     }
@@ -544,6 +583,10 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateGeoLocationCacheMetric(boolean hit) {
+        incCounter(hit ? MetricName.geolocation_cache_hit : MetricName.geolocation_cache_miss);
+    }
+
     public void createGeoLocationCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.geo)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -580,6 +623,28 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().creativeSize().updateHistogram(creativeType, creativeSize);
     }
 
+    public void updateCacheAsyncWriteMetric(MetricName event) {
+        cache().asyncWrite().incCounter(event);
+    }
+
+    public void updateCacheLocalStoreMetric(MetricName event) {
+        cache().localStore().incCounter(event);
+    }
+
+    public void createCacheLocalStoreGauges(LongSupplier entriesSupplier, LongSupplier sizeInBytesSupplier) {
+        cache().localStore().createGauge(MetricName.entries, entriesSupplier);
+        cache().localStore().createGauge(MetricName.size_bytes, sizeInBytesSupplier);
+    }
+
+    public void updateCacheBatchSize(int requestsCount, int putsCount) {
+        cache().batch().updateHistogram(MetricName.requests, requestsCount);
+        cache().batch().updateHistogram(MetricName.puts, putsCount);
+    }
+
+    public void updateCacheBatchQueueTime(long timeElapsed) {
+        cache().batch().updateTimer(MetricName.queue_time, timeElapsed);
+    }
+
     public void updateTimeoutNotificationMetric(boolean success) {
         if (success) {
             timeoutNotificationMetrics.incCounter(MetricName.ok);
@@ -592,6 +657,14 @@ public class Metrics extends UpdatableMetrics {
         currencyRates().createGauge(MetricName.stale, () -> stateSupplier.getAsBoolean() ? 1 : 0);
     }
 
+    public void updateCurrencyRatesUpdateTime(long timeElapsed) {
+        currencyRates().updateTimer(MetricName.update_time, timeElapsed);
+    }
+
+    public void updateCurrencyConversionMetric(MetricName metricName) {
+        currencyRates().incCounter(metricName);
+    }
+
     public void updateSettingsCacheRefreshTime(MetricName cacheType, MetricName refreshType, long timeElapsed) {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).updateTimer(MetricName.db_query_time, timeElapsed);
     }
@@ -12,12 +12,14 @@ class PrivacyMetrics extends UpdatableMetrics {
 
     private final USPrivacyMetrics usPrivacyMetrics;
     private final TcfMetrics tcfMetrics;
+    private final GppMetrics gppMetrics;
 
     PrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
                 metricName -> "privacy." + metricName);
         usPrivacyMetrics = new USPrivacyMetrics(metricRegistry, counterType, "privacy");
         tcfMetrics = new TcfMetrics(metricRegistry, counterType, "privacy");
+        gppMetrics = new GppMetrics(metricRegistry, counterType, "privacy");
     }
 
     USPrivacyMetrics usp() {
@@ -28,6 +30,10 @@ class PrivacyMetrics extends UpdatableMetrics {
         return tcfMetrics;
     }
 
+    GppMetrics gpp() {
+        return gppMetrics;
+    }
+
     static class USPrivacyMetrics extends UpdatableMetrics {
 
         USPrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
@@ -39,4 +45,40 @@ class PrivacyMetrics extends UpdatableMetrics {
             return metricName -> "%s.usp.%s".formatted(prefix, metricName);
         }
     }
+
+    static class GppMetrics extends UpdatableMetrics {
+
+        private final GppCacheMetrics cacheMetrics;
+
+        GppMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+            super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                    nameCreator(createGppPrefix(Objects.requireNonNull(prefix))));
+
+            cacheMetrics = new GppCacheMetrics(metricRegistry, counterType, createGppPrefix(prefix));
+        }
+
+        GppCacheMetrics cache() {
+            return cacheMetrics;
+        }
+
+        private static String createGppPrefix(String prefix) {
+            return "%s.gpp".formatted(prefix);
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> "%s.%s".formatted(prefix, metricName);
+        }
+    }
+
+    static class GppCacheMetrics extends UpdatableMetrics {
+
+        GppCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+            super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                    nameCreator(Objects.requireNonNull(prefix)));
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> "%s.cache.%s".formatted(prefix, metricName);
+        }
+    }
 }
@@ -16,6 +16,8 @@ class TcfMetrics extends UpdatableMetrics {
 
     private final TcfVersionMetrics tcfVersion1Metrics;
     private final TcfVersionMetrics tcfVersion2Metrics;
+    private final TcfCacheMetrics consentCacheMetrics;
+    private final TcfCacheMetrics vendorPermissionCacheMetrics;
 
     TcfMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
         super(
@@ -25,6 +27,10 @@ class TcfMetrics extends UpdatableMetrics {
 
         tcfVersion1Metrics = new TcfVersionMetrics(metricRegistry, counterType, createTcfPrefix(prefix), "v1");
         tcfVersion2Metrics = new TcfVersionMetrics(metricRegistry, counterType, createTcfPrefix(prefix), "v2");
+        consentCacheMetrics = new TcfCacheMetrics(
+                metricRegistry, counterType, createTcfPrefix(prefix), MetricName.consent);
+        vendorPermissionCacheMetrics = new TcfCacheMetrics(
+                metricRegistry, counterType, createTcfPrefix(prefix), MetricName.vendor_permission);
     }
 
     TcfVersionMetrics fromVersion(int version) {
@@ -35,6 +41,14 @@ class TcfMetrics extends UpdatableMetrics {
         };
     }
 
+    TcfCacheMetrics cache(MetricName cacheType) {
+        return switch (cacheType) {
+            case consent -> consentCacheMetrics;
+            case vendor_permission -> vendorPermissionCacheMetrics;
+            default -> throw new PreBidException("Unknown tcf cache type " + cacheType);
+        };
+    }
+
     private static String createTcfPrefix(String prefix) {
         return prefix + ".tcf";
     }
@@ -87,4 +101,22 @@ class TcfMetrics extends UpdatableMetrics {
             return metricName -> "%s.%s".formatted(prefix, metricName);
         }
     }
+
+    static class TcfCacheMetrics extends UpdatableMetrics {
+
+        TcfCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix, MetricName type) {
+            super(
+                    Objects.requireNonNull(metricRegistry),
+                    Objects.requireNonNull(counterType),
+                    nameCreator(createCachePrefix(Objects.requireNonNull(prefix), Objects.requireNonNull(type))));
+        }
+
+        private static String createCachePrefix(String prefix, MetricName type) {
+            return "%s.cache.%s".formatted(prefix, type);
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> "%s.%s".formatted(prefix, metricName);
+        }
+    }
 }
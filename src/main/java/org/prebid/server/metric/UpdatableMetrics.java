@@ -1,35 +1,65 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.LockFreeExponentiallyDecayingReservoir;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
+/**
+ * Base class for the group of metrics sharing the same name prefix.
+ * <p>
+ * Metric handles are resolved in the underlying metric registry once per metric name and kept by this group,
+ * so updating a metric neither builds its name nor looks it up in the registry. Timers and histograms are backed
+ * by lock-free exponentially decaying reservoirs, which have the same statistical properties as the registry
+ * defaults but do not lock on every update.
+ */
 class UpdatableMetrics {
 
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
-    private final MetricIncrementer incrementer;
+    private final Function<String, LongConsumer> incrementerCreator;
+    private final MetricRegistry.MetricSupplier<Timer> timerSupplier;
     private final CounterType counterType;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
+    // thread-safe, so concurrently resolved handles always point to the same registered metric
     private final Map<MetricName, String> metricNames;
+    private final Map<MetricName, LongConsumer> incrementers;
+    private final Map<MetricName, Timer> timers;
+    private final Map<MetricName, Histogram> histograms;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
+        this(metricRegistry, counterType, nameCreator, UpdatableMetrics::createTimer);
+    }
+
+    UpdatableMetrics(MetricRegistry metricRegistry,
+                     CounterType counterType,
+                     Function<MetricName, String> nameCreator,
+                     MetricRegistry.MetricSupplier<Timer> timerSupplier) {
+
         this.metricRegistry = metricRegistry;
         this.counterType = counterType;
         this.nameCreator = nameCreator;
+        this.timerSupplier = timerSupplier;
         metricNames = new EnumMap<>(MetricName.class);
+        incrementers = new EnumMap<>(MetricName.class);
+        timers = new EnumMap<>(MetricName.class);
+        histograms = new EnumMap<>(MetricName.class);
 
-        incrementer = switch (counterType) {
-            case flushingCounter -> (registry, metricName, value) ->
-                    registry.counter(metricName, ResettingCounter::new).inc(value);
-            case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
-            case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+        incrementerCreator = switch (counterType) {
+            case flushingCounter -> metricName -> counterIncrementer(
+                    metricRegistry.counter(metricName, ResettingCounter::new));
+            case counter -> metricName -> counterIncrementer(metricRegistry.counter(metricName));
+            case meter -> metricName -> meterIncrementer(metricRegistry.meter(metricName));
         };
     }
 
@@ -44,22 +74,32 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        incrementers.computeIfAbsent(metricName, key -> incrementerCreator.apply(name(key))).accept(value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        updateTimer(metricName, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given value in given time unit.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit timeUnit) {
+        timers.computeIfAbsent(metricName, key -> metricRegistry.timer(name(key), timerSupplier))
+                .update(duration, timeUnit);
     }
 
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        // histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
+        histograms.computeIfAbsent(metricName, key -> metricRegistry.histogram(
+                        name(key), UpdatableMetrics::createHistogram))
+                .update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
@@ -67,6 +107,9 @@ class UpdatableMetrics {
     }
 
     void removeMetric(MetricName metricName) {
+        incrementers.remove(metricName);
+        timers.remove(metricName);
+        histograms.remove(metricName);
         metricRegistry.remove(name(metricName));
     }
 
@@ -78,8 +121,19 @@ class UpdatableMetrics {
         return counterType;
     }
 
-    @FunctionalInterface
-    private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+    private static LongConsumer counterIncrementer(Counter counter) {
+        return counter::inc;
+    }
+
+    private static LongConsumer meterIncrementer(Meter meter) {
+        return meter::mark;
+    }
+
+    private static Timer createTimer() {
+        return new Timer(LockFreeExponentiallyDecayingReservoir.builder().build());
+    }
+
+    private static Histogram createHistogram() {
+        return new Histogram(LockFreeExponentiallyDecayingReservoir.builder().build());
     }
 }
@@ -0,0 +1,77 @@
+package org.prebid.server.model;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.util.Objects;
+
+/**
+ * Body of incoming HTTP request.
+ * <p>
+ * Body received as bytes is decoded to string only when it is first read as string,
+ * so the request parsed straight from the bytes does not need a string copy of the whole body.
+ */
+public class HttpRequestBody {
+
+    private final Buffer buffer;
+
+    private final String charset;
+
+    private String value;
+
+    private HttpRequestBody(Buffer buffer, String charset, String value) {
+        this.buffer = buffer;
+        this.charset = charset;
+        this.value = value;
+    }
+
+    public static HttpRequestBody of(String value) {
+        return new HttpRequestBody(null, null, value);
+    }
+
+    /**
+     * Creates body of given bytes, which are decoded with given charset or with UTF-8 if charset is null.
+     */
+    public static HttpRequestBody of(Buffer buffer, String charset) {
+        return new HttpRequestBody(Objects.requireNonNull(buffer), charset, null);
+    }
+
+    /**
+     * Returns bytes the body was received as or null if the body was given as string.
+     */
+    public Buffer buffer() {
+        return buffer;
+    }
+
+    public String charset() {
+        return charset;
+    }
+
+    public String value() {
+        if (value == null && buffer != null) {
+            value = charset != null ? buffer.toString(charset) : buffer.toString();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HttpRequestBody that = (HttpRequestBody) o;
+        return Objects.equals(value(), that.value());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value());
+    }
+
+    @Override
+    public String toString() {
+        return value();
+    }
+}
@@ -1,9 +1,12 @@
 package org.prebid.server.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.ext.web.RoutingContext;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.util.HttpUtil;
@@ -22,12 +25,22 @@ public class HttpRequestContext {
 
     CaseInsensitiveMultiMap headers;
 
-    String body;
+    @Getter(AccessLevel.NONE)
+    HttpRequestBody body;
 
     String scheme;
 
     String remoteHost;
 
+    public String getBody() {
+        return body != null ? body.value() : null;
+    }
+
+    @JsonIgnore
+    public HttpRequestBody getRequestBody() {
+        return body;
+    }
+
     public static HttpRequestContext from(RoutingContext context) {
         return HttpRequestContext.builder()
                 .absoluteUri(context.request().uri())
@@ -50,4 +63,17 @@ public class HttpRequestContext {
         return multiMap.names().stream()
                 .collect(Collectors.toMap(Function.identity(), multiMap::get));
     }
+
+    public static class HttpRequestContextBuilder {
+
+        public HttpRequestContextBuilder body(String body) {
+            this.body = HttpRequestBody.of(body);
+            return this;
+        }
+
+        public HttpRequestContextBuilder requestBody(HttpRequestBody body) {
+            this.body = body;
+            return this;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package org.prebid.server.privacy.gdpr;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iabtcf.decoder.TCString;
 import io.vertx.core.Future;
 import lombok.Value;
@@ -7,6 +8,8 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.SetUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
 import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
@@ -17,6 +20,7 @@ import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 import org.prebid.server.settings.model.AccountGdprConfig;
 import org.prebid.server.settings.model.EnforcePurpose;
+import org.prebid.server.settings.model.GdprConsentCacheConfig;
 import org.prebid.server.settings.model.GdprConfig;
 import org.prebid.server.settings.model.Purpose;
 import org.prebid.server.settings.model.PurposeEid;
@@ -25,6 +29,7 @@ import org.prebid.server.settings.model.Purposes;
 import org.prebid.server.settings.model.SpecialFeature;
 import org.prebid.server.settings.model.SpecialFeatures;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +37,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public class Tcf2Service {
@@ -43,12 +49,15 @@ public class Tcf2Service {
     private final List<SpecialFeaturesStrategy> specialFeaturesStrategies;
     private final BidderCatalog bidderCatalog;
     private final PurposeOneTreatmentInterpretation purposeOneTreatmentInterpretation;
+    private final Metrics metrics;
+    private final Map<VendorPermissionKey, VendorPermission> vendorPermissionsCache;
 
     public Tcf2Service(GdprConfig gdprConfig,
                        List<PurposeStrategy> purposeStrategies,
                        List<SpecialFeaturesStrategy> specialFeaturesStrategies,
                        VersionedVendorListService versionedVendorListService,
-                       BidderCatalog bidderCatalog) {
+                       BidderCatalog bidderCatalog,
+                       Metrics metrics) {
 
         this.defaultPurposes = gdprConfig.getPurposes() == null ? Purposes.builder().build() : gdprConfig.getPurposes();
         this.defaultSpecialFeatures = ObjectUtils.defaultIfNull(
@@ -59,6 +68,16 @@ public class Tcf2Service {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.purposeStrategies = Objects.requireNonNull(purposeStrategies);
         this.specialFeaturesStrategies = Objects.requireNonNull(specialFeaturesStrategies);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        final GdprConsentCacheConfig consentCacheConfig = gdprConfig.getConsentCache();
+        this.vendorPermissionsCache = TcfDefinerService.isConsentCacheEnabled(consentCacheConfig)
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(consentCacheConfig.getTtlSeconds(), TimeUnit.SECONDS)
+                .maximumSize(consentCacheConfig.getSize())
+                .<VendorPermissionKey, VendorPermission>build()
+                .asMap()
+                : null;
     }
 
     public Future<Collection<VendorPermission>> permissionsFor(Set<Integer> vendorIds, TCString tcfConsent) {
@@ -99,6 +118,63 @@ public class Tcf2Service {
                                                                         TCString tcfConsent,
                                                                         AccountGdprConfig accountGdprConfig) {
 
+        return vendorPermissionsCache != null
+                ? cachedPermissionsFor(vendorPermissions, tcfConsent, accountGdprConfig)
+                : calculatePermissions(vendorPermissions, tcfConsent, accountGdprConfig)
+                .map(ignored -> vendorPermissions);
+    }
+
+    /**
+     * Takes already calculated vendor permissions from cache and calculates only the missing ones.
+     * <p>
+     * Note: permissions calculated without vendor list are not cached, since they are downgraded.
+     */
+    private Future<Collection<VendorPermission>> cachedPermissionsFor(Collection<VendorPermission> vendorPermissions,
+                                                                      TCString tcfConsent,
+                                                                      AccountGdprConfig accountGdprConfig) {
+
+        final int accountGdprConfigHash = Objects.hashCode(accountGdprConfig);
+
+        final List<VendorPermission> result = new ArrayList<>(vendorPermissions.size());
+        final List<VendorPermission> missingPermissions = new ArrayList<>();
+        for (VendorPermission vendorPermission : vendorPermissions) {
+            final VendorPermission cachedPermission = vendorPermissionsCache.get(
+                    VendorPermissionKey.of(tcfConsent, vendorPermission, accountGdprConfig, accountGdprConfigHash));
+
+            if (cachedPermission != null) {
+                metrics.updatePrivacyTcfCacheMetric(MetricName.vendor_permission, MetricName.hit);
+                result.add(cachedPermission.copy());
+            } else {
+                metrics.updatePrivacyTcfCacheMetric(MetricName.vendor_permission, MetricName.miss);
+                missingPermissions.add(vendorPermission);
+                result.add(vendorPermission);
+            }
+        }
+
+        if (missingPermissions.isEmpty()) {
+            return Future.succeededFuture(result);
+        }
+
+        return calculatePermissions(missingPermissions, tcfConsent, accountGdprConfig)
+                .map(vendorListUsed -> {
+                    if (vendorListUsed) {
+                        missingPermissions.forEach(vendorPermission -> vendorPermissionsCache.put(
+                                VendorPermissionKey.of(
+                                        tcfConsent, vendorPermission, accountGdprConfig, accountGdprConfigHash),
+                                vendorPermission.copy()));
+                    }
+
+                    return result;
+                });
+    }
+
+    /**
+     * Fills given vendor permissions and returns whether vendor list was used for calculation.
+     */
+    private Future<Boolean> calculatePermissions(Collection<VendorPermission> vendorPermissions,
+                                                 TCString tcfConsent,
+                                                 AccountGdprConfig accountGdprConfig) {
+
         final Purposes mergedPurposes = mergeAccountPurposes(accountGdprConfig);
         final PurposeOneTreatmentInterpretation mergedPurposeOneTreatmentInterpretation =
                 mergePurposeOneTreatmentInterpretation(accountGdprConfig);
@@ -111,17 +187,23 @@ public class Tcf2Service {
                                 tcfConsent,
                                 wrapWithGVL(vendorPermissionsByType, vendorGvlPermissions),
                                 mergedPurposes,
-                                mergedPurposeOneTreatmentInterpretation),
+                                mergedPurposeOneTreatmentInterpretation)
+                                .map(true),
                         ignored -> processDowngradedSupportedPurposeStrategies(
                                 tcfConsent,
                                 wrapWithGVL(vendorPermissionsByType, Collections.emptyMap()),
                                 mergedPurposes,
-                                mergedPurposeOneTreatmentInterpretation))
-                .map(ignored -> enforcePurpose4IfRequired(mergedPurposes, vendorPermissionsByType))
-                .map(ignored -> processSupportedSpecialFeatureStrategies(
-                        tcfConsent,
-                        vendorPermissions,
-                        mergeAccountSpecialFeatures(accountGdprConfig)));
+                                mergedPurposeOneTreatmentInterpretation)
+                                .map(false))
+                .map(vendorListUsed -> {
+                    enforcePurpose4IfRequired(mergedPurposes, vendorPermissionsByType);
+                    processSupportedSpecialFeatureStrategies(
+                            tcfConsent,
+                            vendorPermissions,
+                            mergeAccountSpecialFeatures(accountGdprConfig));
+
+                    return vendorListUsed;
+                });
     }
 
     private static VendorPermissionsByType<VendorPermission> toVendorPermissionsByType(
@@ -297,8 +379,8 @@ public class Tcf2Service {
     }
 
     // TODO: remove after transition period
-    private static Future<Void> enforcePurpose4IfRequired(Purposes purposes,
-                                                          VendorPermissionsByType<VendorPermission> permissions) {
+    private static void enforcePurpose4IfRequired(Purposes purposes,
+                                                  VendorPermissionsByType<VendorPermission> permissions) {
 
         final PurposeEid purpose4Eid = purposes.getP4().getEid();
         if (purpose4Eid != null && purpose4Eid.isRequireConsent()) {
@@ -307,8 +389,6 @@ public class Tcf2Service {
             requireConsentForPurpose4(permissions.getStandardPermissions(), exceptions);
             requireConsentForPurpose4(permissions.getWeakPermissions(), exceptions);
         }
-
-        return Future.succeededFuture();
     }
 
     private static void requireConsentForPurpose4(Collection<VendorPermission> permissions,
@@ -337,18 +417,15 @@ public class Tcf2Service {
         return purposes.size() > 1 || (purposes.size() == 1 && !purposes.contains(PurposeCode.ONE));
     }
 
-    private Collection<VendorPermission> processSupportedSpecialFeatureStrategies(
-            TCString tcfConsent,
-            Collection<VendorPermission> vendorPermissions,
-            SpecialFeatures specialFeatures) {
+    private void processSupportedSpecialFeatureStrategies(TCString tcfConsent,
+                                                          Collection<VendorPermission> vendorPermissions,
+                                                          SpecialFeatures specialFeatures) {
 
         for (SpecialFeaturesStrategy specialFeaturesStrategy : specialFeaturesStrategies) {
             final int specialFeatureId = specialFeaturesStrategy.getSpecialFeatureId();
             final SpecialFeature specialFeatureById = findSpecialFeatureById(specialFeatureId, specialFeatures);
             specialFeaturesStrategy.processSpecialFeaturesStrategy(tcfConsent, specialFeatureById, vendorPermissions);
         }
-
-        return vendorPermissions;
     }
 
     private Purposes mergeAccountPurposes(AccountGdprConfig accountGdprConfig) {
@@ -428,4 +505,71 @@ public class Tcf2Service {
 
         Collection<T> standardPermissions;
     }
+
+    /**
+     * Decoded consent strings are shared between requests by {@link TcfDefinerService},
+     * so consent is compared by reference to avoid hashing of all its fields.
+     */
+    private static final class VendorPermissionKey {
+
+        private final TCString consent;
+        private final int vendorListVersion;
+        private final Integer vendorId;
+        private final String bidderName;
+        private final AccountGdprConfig accountGdprConfig;
+        private final int hash;
+
+        private VendorPermissionKey(TCString consent,
+                                    Integer vendorId,
+                                    String bidderName,
+                                    AccountGdprConfig accountGdprConfig,
+                                    int accountGdprConfigHash) {
+
+            this.consent = consent;
+            this.vendorListVersion = consent.getVendorListVersion();
+            this.vendorId = vendorId;
+            this.bidderName = bidderName;
+            this.accountGdprConfig = accountGdprConfig;
+            this.hash = Objects.hash(
+                    System.identityHashCode(consent),
+                    vendorListVersion,
+                    vendorId,
+                    bidderName,
+                    accountGdprConfigHash);
+        }
+
+        static VendorPermissionKey of(TCString consent,
+                                      VendorPermission vendorPermission,
+                                      AccountGdprConfig accountGdprConfig,
+                                      int accountGdprConfigHash) {
+
+            return new VendorPermissionKey(
+                    consent,
+                    vendorPermission.getVendorId(),
+                    vendorPermission.getBidderName(),
+                    accountGdprConfig,
+                    accountGdprConfigHash);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof VendorPermissionKey that)) {
+                return false;
+            }
+
+            return consent == that.consent
+                    && vendorListVersion == that.vendorListVersion
+                    && Objects.equals(vendorId, that.vendorId)
+                    && Objects.equals(bidderName, that.bidderName)
+                    && Objects.equals(accountGdprConfig, that.accountGdprConfig);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package org.prebid.server.privacy.gdpr;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iabtcf.decoder.TCString;
 import io.vertx.core.Future;
 import lombok.Value;
@@ -26,6 +27,7 @@ import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.model.Privacy;
 import org.prebid.server.settings.model.AccountGdprConfig;
 import org.prebid.server.settings.model.EnabledForRequestType;
+import org.prebid.server.settings.model.GdprConsentCacheConfig;
 import org.prebid.server.settings.model.GdprConfig;
 import org.prebid.server.util.ObjectUtil;
 
@@ -37,6 +39,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -67,6 +70,7 @@ public class TcfDefinerService {
     private final IpAddressHelper ipAddressHelper;
     private final Metrics metrics;
     private final double samplingRate;
+    private final Map<String, TCString> consentCache;
 
     public TcfDefinerService(GdprConfig gdprConfig,
                              Set<String> eeaCountries,
@@ -88,6 +92,21 @@ public class TcfDefinerService {
         this.ipAddressHelper = Objects.requireNonNull(ipAddressHelper);
         this.metrics = Objects.requireNonNull(metrics);
         this.samplingRate = samplingRate;
+
+        final GdprConsentCacheConfig consentCacheConfig = gdprConfig != null ? gdprConfig.getConsentCache() : null;
+        this.consentCache = isConsentCacheEnabled(consentCacheConfig)
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(consentCacheConfig.getTtlSeconds(), TimeUnit.SECONDS)
+                .maximumSize(consentCacheConfig.getSize())
+                .<String, TCString>build()
+                .asMap()
+                : null;
+    }
+
+    static boolean isConsentCacheEnabled(GdprConsentCacheConfig consentCacheConfig) {
+        return consentCacheConfig != null
+                && consentCacheConfig.getTtlSeconds() != null && consentCacheConfig.getTtlSeconds() > 0
+                && consentCacheConfig.getSize() != null && consentCacheConfig.getSize() > 0;
     }
 
     /**
@@ -377,6 +396,65 @@ public class TcfDefinerService {
     }
 
     private TCString decodeTcString(String consentString, RequestLogInfo requestLogInfo, List<String> warnings) {
+        if (consentCache == null) {
+            return decodeTcStringWithoutCache(consentString, requestLogInfo, warnings);
+        }
+
+        final TCString cachedTcString = consentCache.get(consentString);
+        if (cachedTcString != null) {
+            metrics.updatePrivacyTcfCacheMetric(MetricName.consent, MetricName.hit);
+            return cachedTcString;
+        }
+
+        metrics.updatePrivacyTcfCacheMetric(MetricName.consent, MetricName.miss);
+        final TCString tcString = decodeTcStringWithoutCache(consentString, requestLogInfo, warnings);
+        if (tcString != null && tcString.getVersion() == 2 && decodeAllFields(tcString)) {
+            consentCache.put(consentString, tcString);
+        }
+
+        return tcString;
+    }
+
+    /**
+     * Decoded {@link TCString} reads its fields lazily and is not thread-safe until all of them are read,
+     * so each field is touched once before the instance is shared between requests.
+     */
+    private static boolean decodeAllFields(TCString tcString) {
+        try {
+            tcString.getCreated();
+            tcString.getLastUpdated();
+            tcString.getCmpId();
+            tcString.getCmpVersion();
+            tcString.getConsentScreen();
+            tcString.getConsentLanguage();
+            tcString.getVendorListVersion();
+            tcString.getTcfPolicyVersion();
+            tcString.isServiceSpecific();
+            tcString.getUseNonStandardStacks();
+            tcString.getSpecialFeatureOptIns();
+            tcString.getPurposesConsent();
+            tcString.getPurposesLITransparency();
+            tcString.getPurposeOneTreatment();
+            tcString.getPublisherCC();
+            tcString.getVendorConsent();
+            tcString.getVendorLegitimateInterest();
+            tcString.getPublisherRestrictions();
+            tcString.getDisclosedVendors();
+            tcString.getAllowedVendors();
+            tcString.getPubPurposesConsent();
+            tcString.getPubPurposesLITransparency();
+            tcString.getCustomPurposesConsent();
+            tcString.getCustomPurposesLITransparency();
+        } catch (RuntimeException e) {
+            return false;
+        }
+
+        return true;
+    }
+
+    private TCString decodeTcStringWithoutCache(String consentString,
+                                                RequestLogInfo requestLogInfo,
+                                                List<String> warnings) {
         try {
             return TCString.decode(consentString);
         } catch (Exception e) {
@@ -26,5 +26,16 @@ public class VendorPermission {
     public void consentNaturallyWith(PurposeCode purposeCode) {
         naturallyConsentedPurposes.add(purposeCode);
     }
+
+    public VendorPermission copy() {
+        final VendorPermission copy = VendorPermission.of(
+                vendorId,
+                bidderName,
+                privacyEnforcementAction.toBuilder().build());
+        copy.consentedPurposes.addAll(consentedPurposes);
+        copy.naturallyConsentedPurposes.addAll(naturallyConsentedPurposes);
+
+        return copy;
+    }
 }
 
@@ -35,5 +35,8 @@ public class GdprConfig {
 
     @JsonProperty("purpose-one-treatment-interpretation")
     PurposeOneTreatmentInterpretation purposeOneTreatmentInterpretation;
+
+    @JsonProperty("consent-cache")
+    GdprConsentCacheConfig consentCache;
 }
 
@@ -0,0 +1,17 @@
+package org.prebid.server.settings.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class GdprConsentCacheConfig {
+
+    @JsonProperty("ttl-seconds")
+    Integer ttlSeconds;
+
+    Integer size;
+}
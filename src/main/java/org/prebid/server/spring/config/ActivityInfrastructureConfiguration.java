@@ -13,7 +13,9 @@ import org.prebid.server.activity.infrastructure.creator.rule.RuleCreator;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonLogic;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.model.GdprConfig;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -81,11 +83,18 @@ public class ActivityInfrastructureConfiguration {
     }
 
     @Bean
-    ActivityInfrastructureCreator activityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
-                                                                GdprConfig gdprConfig,
-                                                                Metrics metrics,
-                                                                JacksonMapper jacksonMapper) {
-
-        return new ActivityInfrastructureCreator(activityRuleFactory, gdprConfig, metrics, jacksonMapper);
+    ActivityInfrastructureCreator activityInfrastructureCreator(
+            ActivityRuleFactory activityRuleFactory,
+            GdprConfig gdprConfig,
+            @Autowired(required = false) CachingApplicationSettings cachingApplicationSettings,
+            Metrics metrics,
+            JacksonMapper jacksonMapper) {
+
+        return new ActivityInfrastructureCreator(
+                activityRuleFactory,
+                gdprConfig,
+                cachingApplicationSettings != null,
+                metrics,
+                jacksonMapper);
     }
 }
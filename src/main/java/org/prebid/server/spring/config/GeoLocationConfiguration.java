@@ -6,11 +6,13 @@ import lombok.Data;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
+import org.prebid.server.auction.IpAddressHelper;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
 import org.prebid.server.execution.RemoteFileSyncer;
 import org.prebid.server.execution.retry.ExponentialBackoffRetryPolicy;
 import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
 import org.prebid.server.execution.retry.RetryPolicy;
+import org.prebid.server.geolocation.CachingGeoLocationService;
 import org.prebid.server.geolocation.CircuitBreakerSecuredGeoLocationService;
 import org.prebid.server.geolocation.ConfigurationGeoLocationService;
 import org.prebid.server.geolocation.CountryCodeMapper;
@@ -229,11 +231,20 @@ public class GeoLocationConfiguration {
     @Bean
     GeoLocationServiceWrapper geoLocationServiceWrapper(
             @Autowired(required = false) GeoLocationService geoLocationService,
+            @Value("${geolocation.cache.ttl-seconds:0}") int cacheTtlSeconds,
+            @Value("${geolocation.cache.size:0}") int cacheSize,
             Ortb2ImplicitParametersResolver implicitParametersResolver,
+            IpAddressHelper ipAddressHelper,
             Metrics metrics) {
 
+        final GeoLocationService cachingGeoLocationService =
+                geoLocationService != null && cacheTtlSeconds > 0 && cacheSize > 0
+                        ? new CachingGeoLocationService(
+                        geoLocationService, cacheTtlSeconds, cacheSize, ipAddressHelper, metrics)
+                        : geoLocationService;
+
         return new GeoLocationServiceWrapper(
-                geoLocationService,
+                cachingGeoLocationService,
                 implicitParametersResolver,
                 metrics);
     }
@@ -146,14 +146,16 @@ public class PrivacyServiceConfiguration {
                             List<PurposeStrategy> purposeStrategies,
                             List<SpecialFeaturesStrategy> specialFeaturesStrategies,
                             VersionedVendorListService versionedVendorListService,
-                            BidderCatalog bidderCatalog) {
+                            BidderCatalog bidderCatalog,
+                            Metrics metrics) {
 
         return new Tcf2Service(
                 gdprConfig,
                 purposeStrategies,
                 specialFeaturesStrategies,
                 versionedVendorListService,
-                bidderCatalog);
+                bidderCatalog,
+                metrics);
     }
 
     @Bean
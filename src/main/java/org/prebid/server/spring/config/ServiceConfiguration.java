@@ -41,6 +41,7 @@ import org.prebid.server.auction.categorymapping.NoOpCategoryMappingService;
 import org.prebid.server.auction.gpp.AmpGppService;
 import org.prebid.server.auction.gpp.AuctionGppService;
 import org.prebid.server.auction.gpp.CookieSyncGppService;
+import org.prebid.server.auction.gpp.GppModelCache;
 import org.prebid.server.auction.gpp.GppService;
 import org.prebid.server.auction.gpp.SetuidGppService;
 import org.prebid.server.auction.gpp.processor.GppContextProcessor;
@@ -75,8 +76,11 @@ import org.prebid.server.bidder.BidderErrorNotifier;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.cache.AsyncCacheWriter;
 import org.prebid.server.cache.BasicPbcStorageService;
+import org.prebid.server.cache.BatchingCacheClient;
 import org.prebid.server.cache.CoreCacheService;
+import org.prebid.server.cache.LocalCreativeStore;
 import org.prebid.server.cache.PbcStorageService;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cache.utils.CacheServiceUtil;
@@ -88,6 +92,8 @@ import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.events.EventsService;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
+import org.prebid.server.execution.retry.NonRetryable;
 import org.prebid.server.floors.PriceFloorAdjuster;
 import org.prebid.server.floors.PriceFloorEnforcer;
 import org.prebid.server.floors.PriceFloorProcessor;
@@ -103,6 +109,7 @@ import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.CriteriaManager;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.LoggerControlKnob;
+import org.prebid.server.log.StartupReport;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
@@ -113,6 +120,7 @@ import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.tracing.Tracer;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.util.system.CpuLoadAverageStats;
 import org.prebid.server.validation.BidderParamValidator;
@@ -137,6 +145,7 @@ import org.springframework.context.annotation.ScopedProxyMode;
 
 import jakarta.validation.constraints.Min;
 import java.io.IOException;
+import java.net.URL;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -165,16 +174,55 @@ public class ServiceConfiguration {
             @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
             @Value("${pbc.api.key:#{null}}") String apiKey,
             @Value("${cache.api-key-secured:false}") boolean apiKeySecured,
+            @Value("${cache.async-write.enabled:false}") boolean asyncWriteEnabled,
+            @Value("${cache.async-write.max-in-flight:1000}") int asyncWriteMaxInFlight,
+            @Value("${cache.async-write.timeout-ms:1000}") long asyncWriteTimeoutMs,
+            @Value("${cache.async-write.late-threshold-ms:100}") long asyncWriteLateThresholdMs,
+            @Value("${cache.async-write.retry.delay-ms:50}") long asyncWriteRetryDelayMs,
+            @Value("${cache.async-write.retry.max-retries:2}") int asyncWriteMaxRetries,
+            @Value("${cache.batch.enabled:false}") boolean batchEnabled,
+            @Value("${cache.batch.max-size:64}") int batchMaxSize,
+            @Value("${cache.batch.max-delay-ms:5}") long batchMaxDelayMs,
             VastModifier vastModifier,
             EventsService eventsService,
             HttpClient httpClient,
+            Vertx vertx,
             Metrics metrics,
             Clock clock,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            @Autowired(required = false) LocalCreativeStore localCreativeStore) {
+
+        final AsyncCacheWriter asyncCacheWriter = asyncWriteEnabled
+                ? new AsyncCacheWriter(
+                vertx,
+                httpClient,
+                asyncWriteMaxInFlight,
+                asyncWriteTimeoutMs,
+                asyncWriteLateThresholdMs,
+                asyncWriteMaxRetries > 0
+                        ? FixedIntervalRetryPolicy.limited(asyncWriteRetryDelayMs, asyncWriteMaxRetries)
+                        : NonRetryable.instance(),
+                metrics,
+                clock)
+                : null;
+
+        final URL endpointUrl = CacheServiceUtil.getCacheEndpointUrl(scheme, host, path);
+        final BatchingCacheClient batchingCacheClient = batchEnabled
+                ? new BatchingCacheClient(
+                vertx,
+                httpClient,
+                endpointUrl.toString(),
+                CacheServiceUtil.getCacheHeaders(apiKey, apiKeySecured),
+                batchMaxSize,
+                batchMaxDelayMs,
+                mapper,
+                metrics,
+                clock)
+                : null;
 
         return new CoreCacheService(
                 httpClient,
-                CacheServiceUtil.getCacheEndpointUrl(scheme, host, path),
+                endpointUrl,
                 CacheServiceUtil.getCachedAssetUrlTemplate(scheme, host, path, query),
                 expectedCacheTimeMs,
                 apiKey,
@@ -184,7 +232,26 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 new UUIDIdGenerator(),
-                mapper);
+                mapper,
+                asyncCacheWriter,
+                localCreativeStore,
+                batchingCacheClient);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.local-store", name = "enabled", havingValue = "true")
+    LocalCreativeStore localCreativeStore(
+            @Value("${cache.local-store.max-size-bytes:67108864}") long maxSizeBytes,
+            @Value("${cache.local-store.max-ttl-seconds:300}") int maxTtlSeconds,
+            @Value("${cache.banner-ttl-seconds:#{null}}") Integer bannerCacheTtl,
+            @Value("${cache.video-ttl-seconds:#{null}}") Integer videoCacheTtl,
+            Metrics metrics) {
+
+        return new LocalCreativeStore(
+                maxSizeBytes,
+                maxTtlSeconds,
+                CacheTtl.of(bannerCacheTtl, videoCacheTtl),
+                metrics);
     }
 
     @Bean
@@ -359,23 +426,31 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    AuctionGppService auctionGppProcessor(GppService gppService) {
-        return new AuctionGppService(gppService);
+    GppModelCache gppModelCache(@Value("${gpp.cache.ttl-seconds:#{null}}") Integer ttlSeconds,
+                                @Value("${gpp.cache.size:#{null}}") Integer size,
+                                Metrics metrics) {
+
+        return new GppModelCache(ttlSeconds, size, metrics);
+    }
+
+    @Bean
+    AuctionGppService auctionGppProcessor(GppService gppService, GppModelCache gppModelCache) {
+        return new AuctionGppService(gppService, gppModelCache);
     }
 
     @Bean
-    AmpGppService ampGppProcessor(GppService gppService) {
-        return new AmpGppService(gppService);
+    AmpGppService ampGppProcessor(GppService gppService, GppModelCache gppModelCache) {
+        return new AmpGppService(gppService, gppModelCache);
     }
 
     @Bean
-    CookieSyncGppService cookieSyncGppProcessor(GppService gppService) {
-        return new CookieSyncGppService(gppService);
+    CookieSyncGppService cookieSyncGppProcessor(GppService gppService, GppModelCache gppModelCache) {
+        return new CookieSyncGppService(gppService, gppModelCache);
     }
 
     @Bean
-    SetuidGppService setuidGppService(GppService gppService) {
-        return new SetuidGppService(gppService);
+    SetuidGppService setuidGppService(GppService gppService, GppModelCache gppModelCache) {
+        return new SetuidGppService(gppService, gppModelCache);
     }
 
     @Bean
@@ -428,7 +503,8 @@ public class ServiceConfiguration {
             DebugResolver debugResolver,
             JacksonMapper mapper,
             GeoLocationServiceWrapper geoLocationServiceWrapper,
-            BidAdjustmentsRetriever bidAdjustmentsRetriever) {
+            BidAdjustmentsRetriever bidAdjustmentsRetriever,
+            Metrics metrics) {
 
         return new AuctionRequestFactory(
                 maxRequestSize,
@@ -445,7 +521,8 @@ public class ServiceConfiguration {
                 debugResolver,
                 mapper,
                 geoLocationServiceWrapper,
-                bidAdjustmentsRetriever);
+                bidAdjustmentsRetriever,
+                metrics);
     }
 
     @Bean
@@ -729,8 +806,16 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderCatalog bidderCatalog(List<BidderDeps> bidderDeps) {
-        return new BidderCatalog(bidderDeps);
+    StartupReport startupReport() {
+        return new StartupReport();
+    }
+
+    @Bean
+    BidderCatalog bidderCatalog(List<BidderDeps> bidderDeps,
+                                @Value("${adapters.lazy-init:false}") boolean lazyInit,
+                                StartupReport startupReport) {
+
+        return startupReport.measure("bidder-catalog", () -> new BidderCatalog(bidderDeps, lazyInit));
     }
 
     @Bean
@@ -811,7 +896,8 @@ public class ServiceConfiguration {
             Clock clock,
             JacksonMapper mapper,
             @Value("${cache.banner-ttl-seconds:#{null}}") Integer bannerCacheTtl,
-            @Value("${cache.video-ttl-seconds:#{null}}") Integer videoCacheTtl) {
+            @Value("${cache.video-ttl-seconds:#{null}}") Integer videoCacheTtl,
+            Metrics metrics) {
 
         return new BidResponseCreator(
                 coreCacheService,
@@ -826,7 +912,8 @@ public class ServiceConfiguration {
                 truncateAttrChars,
                 clock,
                 mapper,
-                CacheTtl.of(bannerCacheTtl, videoCacheTtl));
+                CacheTtl.of(bannerCacheTtl, videoCacheTtl),
+                metrics);
     }
 
     @Bean
@@ -1046,8 +1133,16 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            BidderCatalog bidderCatalog,
+            JacksonMapper mapper,
+            @Value("${adapters.lazy-init:false}") boolean lazyInit,
+            @Value("${auction.bidder-params-validation.result-cache-size:0}") int resultCacheSize,
+            Metrics metrics,
+            StartupReport startupReport) {
+
+        return startupReport.measure("bidder-param-schemas", () -> BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", mapper, lazyInit, resultCacheSize, metrics));
     }
 
     @Bean
@@ -1154,6 +1249,15 @@ public class ServiceConfiguration {
         return new HttpInteractionLogger(mapper);
     }
 
+    @Bean
+    Tracer tracer(@Value("${tracing.enabled}") boolean enabled,
+                  @Value("${tracing.sampling-rate}") double samplingRate,
+                  @Value("${tracing.buffer-size}") int bufferSize,
+                  Clock clock) {
+
+        return new Tracer(enabled, samplingRate, bufferSize, clock);
+    }
+
     @Bean
     LoggerControlKnob loggerControlKnob(Vertx vertx) {
         return new LoggerControlKnob(vertx);
@@ -0,0 +1,139 @@
+package org.prebid.server.spring.config;
+
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Performs the training run: sends auction requests to the started application, with bids served by the stub
+ * bidder endpoint, and then stops the application.
+ * <p>
+ * Intended to load classes of the auction path, so the JVM could dump them into the class data sharing archive
+ * on exit (see -XX:ArchiveClassesAtExit), which is then used to speed up startup of regular runs.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "startup.training-run", name = "enabled", havingValue = "true")
+public class TrainingRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingRunner.class);
+
+    @Autowired
+    private Vertx vertx;
+
+    @Autowired
+    private ContextRunner contextRunner;
+
+    @Autowired
+    private HttpClient httpClient;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${server.http.port}")
+    private int port;
+
+    @Value("${startup.training-run.stub-bidder-port:8090}")
+    private int stubBidderPort;
+
+    @Value("${startup.training-run.auction-request-file}")
+    private String auctionRequestFile;
+
+    @Value("${startup.training-run.stub-bid-response-file}")
+    private String stubBidResponseFile;
+
+    @Value("${startup.training-run.requests:500}")
+    private int requests;
+
+    @Value("${startup.training-run.min-succeeded-requests:1}")
+    private int minSucceededRequests;
+
+    @Value("${startup.training-run.timeout-ms:60000}")
+    private long timeoutMs;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        final int exitCode = runTraining() ? 0 : 1;
+        System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+    }
+
+    /**
+     * Returns true if enough auction requests succeeded, so the auction path was actually exercised.
+     * Otherwise, the application exits with non-zero code and the archive creation fails.
+     */
+    private boolean runTraining() {
+        try {
+            final int succeeded = sendRequests();
+            if (succeeded == 0 || succeeded < minSucceededRequests) {
+                logger.error("Training run failed: {} of {} auction requests succeeded, at least {} expected",
+                        succeeded, requests, minSucceededRequests);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            logger.error("Training run failed", e);
+            return false;
+        }
+    }
+
+    private int sendRequests() throws Exception {
+        final String auctionRequest = vertx.fileSystem().readFileBlocking(auctionRequestFile).toString();
+        final String stubBidResponse = vertx.fileSystem().readFileBlocking(stubBidResponseFile).toString();
+
+        contextRunner.<HttpServer>runBlocking(promise -> vertx.createHttpServer()
+                .requestHandler(request -> request.response()
+                        .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpHeaderValues.APPLICATION_JSON)
+                        .end(stubBidResponse))
+                .listen(stubBidderPort)
+                .onComplete(promise));
+
+        final String url = "http://localhost:%d%s".formatted(port, Endpoint.openrtb2_auction.value());
+        final MultiMap headers = HttpUtil.headers();
+        final AtomicInteger succeeded = new AtomicInteger();
+        final long startTime = System.currentTimeMillis();
+
+        sendRequests(url, headers, auctionRequest, requests, succeeded)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(timeoutMs, TimeUnit.MILLISECONDS);
+
+        logger.info("Training run finished in {} ms, {} of {} auction requests succeeded",
+                System.currentTimeMillis() - startTime, succeeded.get(), requests);
+
+        return succeeded.get();
+    }
+
+    private Future<Void> sendRequests(String url,
+                                      MultiMap headers,
+                                      String body,
+                                      int remaining,
+                                      AtomicInteger succeeded) {
+
+        if (remaining <= 0) {
+            return Future.succeededFuture();
+        }
+
+        return httpClient.post(url, headers, body, timeoutMs)
+                .map(response -> response.getStatusCode() == 200 ? succeeded.incrementAndGet() : 0)
+                .otherwise(0)
+                .compose(ignored -> sendRequests(url, headers, body, remaining - 1, succeeded));
+    }
+}
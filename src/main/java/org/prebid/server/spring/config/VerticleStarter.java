@@ -2,6 +2,7 @@ package org.prebid.server.spring.config;
 
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
+import org.prebid.server.log.StartupReport;
 import org.prebid.server.vertx.ContextRunner;
 import org.prebid.server.vertx.verticles.VerticleDefinition;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 
+import java.lang.management.ManagementFactory;
 import java.util.List;
 
 @Configuration
@@ -23,18 +25,25 @@ public class VerticleStarter {
     @Autowired
     private List<VerticleDefinition> definitions;
 
+    @Autowired
+    private StartupReport startupReport;
+
     @EventListener(ContextRefreshedEvent.class)
     public void start() {
+        startupReport.record("spring-context", ManagementFactory.getRuntimeMXBean().getUptime());
+
         for (VerticleDefinition definition : definitions) {
             if (definition.getAmount() <= 0) {
                 continue;
             }
 
-            contextRunner.<String>runBlocking(promise ->
+            startupReport.measure("verticles", () -> contextRunner.<String>runBlocking(promise ->
                     vertx.deployVerticle(
                             definition.getFactory(),
                             new DeploymentOptions().setInstances(definition.getAmount()),
-                            promise));
+                            promise)));
         }
+
+        startupReport.log(ManagementFactory.getRuntimeMXBean().getUptime());
     }
 }
@@ -142,7 +142,7 @@ public class BidderDepsAssembler<CFG extends BidderConfigurationProperties> {
                 .deprecatedNames(configProperties.getDeprecatedNames())
                 .bidderInfo(bidderInfo)
                 .usersyncer(usersyncer)
-                .bidder(bidder(configProperties))
+                .bidderCreator(() -> bidder(configProperties))
                 .build();
     }
 
@@ -13,6 +13,7 @@ import org.prebid.server.handler.admin.HttpInteractionLogHandler;
 import org.prebid.server.handler.admin.LoggerControlKnobHandler;
 import org.prebid.server.handler.admin.SettingsCacheNotificationHandler;
 import org.prebid.server.handler.admin.TracerLogHandler;
+import org.prebid.server.handler.admin.TracesHandler;
 import org.prebid.server.handler.admin.VersionHandler;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.CriteriaManager;
@@ -20,6 +21,7 @@ import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.LoggerControlKnob;
 import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
+import org.prebid.server.tracing.Tracer;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.vertx.verticles.server.admin.AdminResource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -181,6 +183,22 @@ public class AdminEndpointsConfiguration {
                 new CollectedMetricsHandler(metricRegistry, mapper, path));
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "admin-endpoints.traces", name = "enabled", havingValue = "true")
+    AdminResource tracesAdminEndpoint(
+            Tracer tracer,
+            JacksonMapper mapper,
+            @Value("${admin-endpoints.traces.path}") String path,
+            @Value("${admin-endpoints.traces.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.traces.protected}") boolean isProtected) {
+
+        return new AdminResourceWrapper(
+                path,
+                isOnApplicationPort,
+                isProtected,
+                new TracesHandler(tracer, mapper, path));
+    }
+
     @Bean
     AdminResourcesBinder applicationPortAdminResourcesBinder(Map<String, String> adminEndpointCredentials,
                                                              List<AdminResource> resources) {
@@ -26,6 +26,8 @@ import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.cache.CoreCacheService;
+import org.prebid.server.cache.LocalCreativeStore;
+import org.prebid.server.cache.utils.CacheServiceUtil;
 import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.cookie.CookieSyncService;
 import org.prebid.server.cookie.UidsCookieService;
@@ -34,6 +36,7 @@ import org.prebid.server.handler.BidderParamHandler;
 import org.prebid.server.handler.CookieSyncHandler;
 import org.prebid.server.handler.ExceptionHandler;
 import org.prebid.server.handler.GetuidsHandler;
+import org.prebid.server.handler.LocalCacheHandler;
 import org.prebid.server.handler.NoCacheHandler;
 import org.prebid.server.handler.NotificationEventHandler;
 import org.prebid.server.handler.OptoutHandler;
@@ -56,6 +59,7 @@ import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.spring.config.server.admin.AdminResourcesBinder;
+import org.prebid.server.tracing.Tracer;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.version.PrebidVersionProvider;
@@ -213,7 +217,8 @@ public class ApplicationServerConfiguration {
             Clock clock,
             HttpInteractionLogger httpInteractionLogger,
             PrebidVersionProvider prebidVersionProvider,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            Tracer tracer) {
 
         return new org.prebid.server.handler.openrtb2.AuctionHandler(
                 logSamplingRate,
@@ -225,7 +230,8 @@ public class ApplicationServerConfiguration {
                 clock,
                 httpInteractionLogger,
                 prebidVersionProvider,
-                mapper);
+                mapper,
+                tracer);
     }
 
     @Bean
@@ -353,6 +359,19 @@ public class ApplicationServerConfiguration {
         return new GetuidsHandler(uidsCookieService, mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.local-store", name = "enabled", havingValue = "true")
+    LocalCacheHandler localCacheHandler(
+            @Value("${cache.scheme}") String scheme,
+            @Value("${cache.host}") String host,
+            @Value("${cache.path}") String path,
+            LocalCreativeStore localCreativeStore) {
+
+        return new LocalCacheHandler(
+                localCreativeStore,
+                CacheServiceUtil.getCacheEndpointUrl(scheme, host, path).toString());
+    }
+
     @Bean
     VtrackHandler vtrackHandler(
             @Value("${vtrack.default-timeout-ms}") int defaultTimeoutMs,
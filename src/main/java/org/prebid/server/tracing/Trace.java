@@ -0,0 +1,136 @@
+package org.prebid.server.tracing;
+
+import org.prebid.server.tracing.model.Span;
+import org.prebid.server.tracing.model.SpanStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects spans of a single request.
+ * <p>
+ * Spans follow the OpenTelemetry span model and are children of the root span, which covers the whole request
+ * and is added when the trace is finished by {@link Tracer}. Requests that are not sampled get the no-op trace,
+ * which does not record anything.
+ */
+public class Trace {
+
+    private static final Trace NOOP = new Trace(null, null, null, 0L);
+
+    private final String traceId;
+    private final String rootSpanId;
+    private final String parentSpanId;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final Queue<Span> spans;
+
+    private Trace(String traceId, String rootSpanId, String parentSpanId, long startEpochMillis) {
+        this.traceId = traceId;
+        this.rootSpanId = rootSpanId;
+        this.parentSpanId = parentSpanId;
+        this.startEpochNanos = TimeUnit.MILLISECONDS.toNanos(startEpochMillis);
+        this.startNanoTime = System.nanoTime();
+        this.spans = traceId != null ? new ConcurrentLinkedQueue<>() : null;
+    }
+
+    public static Trace noop() {
+        return NOOP;
+    }
+
+    static Trace start(String traceId, String parentSpanId, long startEpochMillis) {
+        return new Trace(traceId != null ? traceId : newTraceId(), newSpanId(), parentSpanId, startEpochMillis);
+    }
+
+    public boolean isSampled() {
+        return traceId != null;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Returns identifier for the span to be added later, or null if trace is not sampled.
+     */
+    public String nextSpanId() {
+        return isSampled() ? newSpanId() : null;
+    }
+
+    /**
+     * Returns W3C trace context header value which makes the given span a parent of the downstream one.
+     */
+    public String traceparent(String spanId) {
+        return "00-%s-%s-01".formatted(traceId, spanId);
+    }
+
+    /**
+     * Adds span started at the given {@link System#nanoTime()} and ended now.
+     */
+    public void addSpan(String name, long startNanoTime, Map<String, String> attributes, boolean failed) {
+        if (isSampled()) {
+            addSpan(newSpanId(), name, startNanoTime, attributes, failed);
+        }
+    }
+
+    public void addSpan(String spanId,
+                        String name,
+                        long startNanoTime,
+                        Map<String, String> attributes,
+                        boolean failed) {
+
+        if (isSampled()) {
+            spans.add(span(spanId, rootSpanId, name, startNanoTime, attributes, failed));
+        }
+    }
+
+    List<Span> finish(String name, Map<String, String> attributes, boolean failed) {
+        if (!isSampled()) {
+            return Collections.emptyList();
+        }
+
+        final List<Span> allSpans = new ArrayList<>(spans);
+        allSpans.add(span(rootSpanId, parentSpanId, name, startNanoTime, attributes, failed));
+        allSpans.sort(Comparator.comparingLong(Span::getStartTimeUnixNano));
+
+        return allSpans;
+    }
+
+    private Span span(String spanId,
+                      String parentId,
+                      String name,
+                      long spanStartNanoTime,
+                      Map<String, String> attributes,
+                      boolean failed) {
+
+        return Span.builder()
+                .traceId(traceId)
+                .spanId(spanId)
+                .parentSpanId(parentId)
+                .name(name)
+                .startTimeUnixNano(toEpochNanos(spanStartNanoTime))
+                .endTimeUnixNano(toEpochNanos(System.nanoTime()))
+                .attributes(attributes)
+                .status(failed ? SpanStatus.error : SpanStatus.ok)
+                .build();
+    }
+
+    private long toEpochNanos(long nanoTime) {
+        return startEpochNanos + nanoTime - startNanoTime;
+    }
+
+    private static String newTraceId() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return "%016x%016x".formatted(random.nextLong(), random.nextLong());
+    }
+
+    private static String newSpanId() {
+        return "%016x".formatted(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -0,0 +1,105 @@
+package org.prebid.server.tracing;
+
+import org.prebid.server.tracing.model.CompletedTrace;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Starts traces of sampled requests and keeps the most recent completed ones in memory,
+ * so they could be viewed without any external tracing backend.
+ * <p>
+ * Requests are sampled with the configured rate only, so clients can't make server trace more than that.
+ * Sampled request continues the upstream trace if its W3C trace context header says that one is sampled.
+ */
+public class Tracer {
+
+    private static final Pattern TRACEPARENT_PATTERN =
+            Pattern.compile("00-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})");
+    private static final String INVALID_TRACE_ID = "0".repeat(32);
+
+    private final boolean enabled;
+    private final double samplingRate;
+    private final Clock clock;
+
+    private final AtomicReferenceArray<CompletedTrace> completedTraces;
+    private final AtomicLong completedTracesCount = new AtomicLong();
+
+    public Tracer(boolean enabled, double samplingRate, int bufferSize, Clock clock) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Tracing buffer size must be positive");
+        }
+
+        this.enabled = enabled;
+        this.samplingRate = samplingRate;
+        this.clock = Objects.requireNonNull(clock);
+
+        completedTraces = new AtomicReferenceArray<>(bufferSize);
+    }
+
+    /**
+     * Starts trace of the request with the given W3C trace context header, which may be null.
+     */
+    public Trace start(String traceparent) {
+        if (!enabled) {
+            return Trace.noop();
+        }
+
+        if (ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            return Trace.noop();
+        }
+
+        final Matcher matcher = traceparent != null ? TRACEPARENT_PATTERN.matcher(traceparent) : null;
+        if (matcher != null && matcher.matches() && isSampled(matcher.group(3))
+                && !matcher.group(1).equals(INVALID_TRACE_ID)) {
+
+            return Trace.start(matcher.group(1), matcher.group(2), clock.millis());
+        }
+
+        return Trace.start(null, null, clock.millis());
+    }
+
+    private static boolean isSampled(String traceFlags) {
+        return (Integer.parseInt(traceFlags, 16) & 1) == 1;
+    }
+
+    /**
+     * Completes the root span of the given trace and stores the trace, replacing the oldest one.
+     */
+    public void finish(Trace trace, String name, Map<String, String> attributes, boolean failed) {
+        if (!trace.isSampled()) {
+            return;
+        }
+
+        final CompletedTrace completedTrace = CompletedTrace.of(
+                trace.getTraceId(), trace.finish(name, attributes, failed));
+        final long position = completedTracesCount.getAndIncrement();
+        completedTraces.set((int) (position % completedTraces.length()), completedTrace);
+    }
+
+    /**
+     * Returns up to limit completed traces, the most recent first.
+     */
+    public List<CompletedTrace> recentTraces(int limit) {
+        final long count = completedTracesCount.get();
+        final int size = (int) Math.min(Math.min(count, completedTraces.length()), limit);
+
+        final List<CompletedTrace> result = new ArrayList<>(size);
+        for (long position = count - 1; position >= count - size; position--) {
+            final CompletedTrace completedTrace = completedTraces.get((int) (position % completedTraces.length()));
+            if (completedTrace != null) {
+                result.add(completedTrace);
+            }
+        }
+
+        return result;
+    }
+}
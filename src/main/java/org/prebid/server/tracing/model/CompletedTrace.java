@@ -0,0 +1,13 @@
+package org.prebid.server.tracing.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value(staticConstructor = "of")
+public class CompletedTrace {
+
+    String traceId;
+
+    List<Span> spans;
+}
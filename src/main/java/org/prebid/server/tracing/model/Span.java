@@ -0,0 +1,27 @@
+package org.prebid.server.tracing.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+@Builder
+@Value
+public class Span {
+
+    String traceId;
+
+    String spanId;
+
+    String parentSpanId;
+
+    String name;
+
+    long startTimeUnixNano;
+
+    long endTimeUnixNano;
+
+    Map<String, String> attributes;
+
+    SpanStatus status;
+}
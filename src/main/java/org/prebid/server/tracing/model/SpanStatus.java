@@ -0,0 +1,6 @@
+package org.prebid.server.tracing.model;
+
+public enum SpanStatus {
+
+    ok, error
+}
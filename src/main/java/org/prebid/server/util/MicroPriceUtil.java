@@ -0,0 +1,125 @@
+package org.prebid.server.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point price arithmetic on a whole number of millionths of the currency unit (micros) kept in a long.
+ * <p>
+ * Operations give exactly the same results as the corresponding {@link BigDecimal} arithmetic with the same
+ * rounding, but need neither intermediate {@link BigDecimal} nor {@link java.math.BigInteger} values. Values
+ * which cannot be represented exactly and operations which could overflow give {@link #NOT_REPRESENTABLE},
+ * so the caller falls back to {@link BigDecimal}.
+ */
+public class MicroPriceUtil {
+
+    public static final int SCALE = 6;
+
+    /**
+     * Marks value or result which cannot be represented in micros.
+     */
+    public static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    // values are limited to 10^12 currency units, so intermediate results of supported operations fit into long
+    private static final int MAX_INTEGER_DIGITS = 12;
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private MicroPriceUtil() {
+    }
+
+    /**
+     * Returns value in micros, or {@link #NOT_REPRESENTABLE} if it has more than six decimal places
+     * or more than twelve integer digits.
+     */
+    public static long toMicros(BigDecimal value) {
+        final int scale = value.scale();
+        if (scale < 0 || scale > SCALE || value.precision() - scale > MAX_INTEGER_DIGITS) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return value.unscaledValue().longValue() * POWERS_OF_TEN[SCALE - scale];
+    }
+
+    /**
+     * Returns value given in micros as {@link BigDecimal} of the given scale.
+     *
+     * @throws ArithmeticException if the value has more decimal places than the given scale
+     */
+    public static BigDecimal toBigDecimal(long micros, int scale) {
+        if (scale < 0 || scale >= SCALE) {
+            return BigDecimal.valueOf(micros, SCALE).setScale(scale, RoundingMode.UNNECESSARY);
+        }
+
+        final long divisor = POWERS_OF_TEN[SCALE - scale];
+        if (micros % divisor != 0) {
+            throw new ArithmeticException("Rounding necessary");
+        }
+
+        return BigDecimal.valueOf(micros / divisor, scale);
+    }
+
+    /**
+     * Multiplies value given in micros by the given multiplier and rounds result to the given number of decimal
+     * places the same way as {@code value.multiply(multiplier).setScale(scale, RoundingMode.HALF_EVEN)} does.
+     * <p>
+     * Returns {@link #NOT_REPRESENTABLE} if the result cannot be calculated exactly with long arithmetic.
+     */
+    public static long multiplyHalfEven(long micros, BigDecimal multiplier, int scale) {
+        final int multiplierScale = multiplier.scale();
+        if (scale < 0 || scale > SCALE || multiplierScale < 0 || multiplier.precision() > MAX_LONG_DIGITS) {
+            return NOT_REPRESENTABLE;
+        }
+
+        // product has as many decimal places as both multipliers together
+        final int droppedDigits = SCALE + multiplierScale - scale;
+        if (droppedDigits > MAX_LONG_DIGITS) {
+            return NOT_REPRESENTABLE;
+        }
+
+        final long multiplierUnscaled = multiplier.unscaledValue().longValue();
+        final long product = micros * multiplierUnscaled;
+        if (Math.multiplyHigh(micros, multiplierUnscaled) != product >> 63) {
+            return NOT_REPRESENTABLE;
+        }
+
+        final long rounded = divideHalfEven(product, POWERS_OF_TEN[droppedDigits]);
+        final long scaleMultiplier = POWERS_OF_TEN[SCALE - scale];
+        if (Math.abs(rounded) > Long.MAX_VALUE / scaleMultiplier) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return rounded * scaleMultiplier;
+    }
+
+    /**
+     * Rounds value given in micros down to the closest value of {@code min + n * increment}, where n is a whole
+     * number, the same way as {@code value.subtract(min).divide(increment, 0, RoundingMode.FLOOR)
+     * .multiply(increment).add(min)} does. All arguments are values returned by {@link #toMicros(BigDecimal)},
+     * and increment should be positive.
+     */
+    public static long floorToIncrement(long micros, long minMicros, long incrementMicros) {
+        return Math.floorDiv(micros - minMicros, incrementMicros) * incrementMicros + minMicros;
+    }
+
+    private static long divideHalfEven(long dividend, long divisor) {
+        final long quotient = dividend / divisor;
+        final long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        // divisor does not exceed 10^18, so doubled remainder does not overflow
+        final long doubledRemainder = Math.abs(remainder) * 2;
+        final boolean roundAway = doubledRemainder > divisor || (doubledRemainder == divisor && (quotient & 1) != 0);
+        return roundAway ? quotient + Long.signum(dividend) : quotient;
+    }
+}
@@ -1,6 +1,8 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
@@ -12,6 +14,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
@@ -24,6 +28,9 @@ import java.util.stream.Collectors;
 /**
  * This Component aimed to validate <i>bidrequest.imp[i].ext.{bidder}</i> portion of bidRequest. It relies on
  * JSON schemas that need to be located as resources on classpath.
+ * <p>
+ * Validation results can be cached by bidder and params, since the same params (e.g. coming from stored imps)
+ * are usually validated over and over again.
  */
 public class BidderParamValidator {
 
@@ -31,21 +38,57 @@ public class BidderParamValidator {
     private static final String JSON_FILE_EXT = ".json";
     private static final String FILE_SEP = "/";
 
-    private final Map<String, JsonSchema> bidderSchemas;
+    private final Map<String, BidderSchema> bidderSchemas;
     private final String schemas;
+    private final Cache<ValidationKey, Set<String>> resultCache;
+    private final Metrics metrics;
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
-        this.bidderSchemas = bidderSchemas;
+    private BidderParamValidator(Map<String, JsonNode> bidderRawSchemas,
+                                 String schemas,
+                                 boolean lazyCompilation,
+                                 int resultCacheSize,
+                                 Metrics metrics) {
+
+        this.bidderSchemas = toBidderSchemas(bidderRawSchemas);
         this.schemas = schemas;
+        this.resultCache = resultCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(resultCacheSize).build()
+                : null;
+        this.metrics = metrics;
+
+        if (!lazyCompilation) {
+            bidderSchemas.values().forEach(BidderSchema::get);
+        }
     }
 
     /**
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
-        return bidderSchemas.get(bidder).validate(jsonNode).stream()
-                .map(ValidationMessage::getMessage)
-                .collect(Collectors.toSet());
+        final BidderSchema bidderSchema = bidderSchemas.get(bidder);
+
+        final long startTime = System.nanoTime();
+        final Set<String> messages = resultCache != null
+                ? validateCached(bidderSchema, jsonNode)
+                : bidderSchema.validate(jsonNode);
+        metrics.updateAdapterParamsValidationTime(bidderSchema.bidder, System.nanoTime() - startTime);
+
+        return messages;
+    }
+
+    private Set<String> validateCached(BidderSchema bidderSchema, JsonNode jsonNode) {
+        final Set<String> cachedMessages = resultCache.getIfPresent(new ValidationKey(bidderSchema, jsonNode));
+        if (cachedMessages != null) {
+            metrics.updateAdapterParamsValidationCacheMetric(
+                    bidderSchema.bidder, MetricName.params_validation_cache_hit);
+            return cachedMessages;
+        }
+
+        metrics.updateAdapterParamsValidationCacheMetric(bidderSchema.bidder, MetricName.params_validation_cache_miss);
+        final Set<String> messages = bidderSchema.validate(jsonNode);
+        // params node may be modified after validation, so cache its copy
+        resultCache.put(new ValidationKey(bidderSchema, jsonNode.deepCopy()), messages);
+        return messages;
     }
 
     /**
@@ -79,25 +122,44 @@ public class BidderParamValidator {
      */
     public static BidderParamValidator create(BidderCatalog bidderCatalog,
                                               String schemaDirectory,
-                                              JacksonMapper mapper) {
+                                              JacksonMapper mapper,
+                                              Metrics metrics) {
+
+        return create(bidderCatalog, schemaDirectory, mapper, false, 0, metrics);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} the same way as
+     * {@link #create(BidderCatalog, String, JacksonMapper, Metrics)} does, but allows to postpone compilation
+     * of each bidder schema until the first validation of its params and to cache up to given number
+     * of validation results (disabled if not positive).
+     */
+    public static BidderParamValidator create(BidderCatalog bidderCatalog,
+                                              String schemaDirectory,
+                                              JacksonMapper mapper,
+                                              boolean lazyCompilation,
+                                              int resultCacheSize,
+                                              Metrics metrics) {
 
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
+        Objects.requireNonNull(metrics);
 
         final Map<String, JsonNode> bidderRawSchemas = new LinkedHashMap<>();
 
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(
+                bidderRawSchemas, toSchemas(bidderRawSchemas, mapper), lazyCompilation, resultCacheSize, metrics);
     }
 
-    private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
+    private static Map<String, BidderSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
         return bidderRawSchemas.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        e -> toBidderSchema(e.getValue(), e.getKey()),
+                        e -> new BidderSchema(e.getKey(), e.getValue()),
                         (first, second) -> second,
                         CaseInsensitiveMap::new));
     }
@@ -152,4 +214,42 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    /**
+     * Holds raw bidder schema and compiles it on the first access.
+     */
+    private static class BidderSchema {
+
+        private final String bidder;
+        private final JsonNode rawSchema;
+        private volatile JsonSchema schema;
+
+        BidderSchema(String bidder, JsonNode rawSchema) {
+            this.bidder = bidder;
+            this.rawSchema = rawSchema;
+        }
+
+        JsonSchema get() {
+            JsonSchema result = schema;
+            if (result == null) {
+                synchronized (this) {
+                    result = schema;
+                    if (result == null) {
+                        result = toBidderSchema(rawSchema, bidder);
+                        schema = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        Set<String> validate(JsonNode jsonNode) {
+            return get().validate(jsonNode).stream()
+                    .map(ValidationMessage::getMessage)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    private record ValidationKey(BidderSchema bidderSchema, JsonNode params) {
+    }
 }
@@ -2,6 +2,7 @@ package org.prebid.server.vertx.httpclient;
 
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
@@ -16,6 +17,9 @@ public interface HttpClient {
     Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
                                        byte[] body, long timeoutMs, long maxResponseSize);
 
+    Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                       Buffer body, long timeoutMs, long maxResponseSize);
+
     default Future<HttpClientResponse> request(HttpMethod method, String url,
                                                MultiMap headers, String body, long timeoutMs) {
         return request(method, url, headers, body, timeoutMs, Long.MAX_VALUE);
@@ -26,6 +30,11 @@ public interface HttpClient {
         return request(method, url, headers, body, timeoutMs, Long.MAX_VALUE);
     }
 
+    default Future<HttpClientResponse> request(HttpMethod method, String url,
+                                               MultiMap headers, Buffer body, long timeoutMs) {
+        return request(method, url, headers, body, timeoutMs, Long.MAX_VALUE);
+    }
+
     default Future<HttpClientResponse> get(String url, long timeoutMs, long maxResponseSize) {
         return request(HttpMethod.GET, url, null, (String) null, timeoutMs, maxResponseSize);
     }
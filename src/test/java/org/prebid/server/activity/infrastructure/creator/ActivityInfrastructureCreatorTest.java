@@ -35,6 +35,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,7 +57,7 @@ public class ActivityInfrastructureCreatorTest {
 
     @BeforeEach
     public void setUp() {
-        creator = new ActivityInfrastructureCreator(activityRuleFactory, null, metrics, jacksonMapper);
+        creator = new ActivityInfrastructureCreator(activityRuleFactory, null, true, metrics, jacksonMapper);
     }
 
     @Test
@@ -96,6 +97,9 @@ public class ActivityInfrastructureCreatorTest {
                         .build())
                 .build();
 
+        given(activityRuleFactory.from(any(), any()))
+                .willReturn(context -> TestRule.allowIfMatches(payload -> true));
+
         // when
         creator.parse(account, null, debug);
 
@@ -121,8 +125,10 @@ public class ActivityInfrastructureCreatorTest {
 
         given(activityRuleFactory.from(
                 same(account.getPrivacy().getActivities().get(Activity.TRANSMIT_UFPD).getRules().getFirst()),
-                argThat(arg -> arg.getGppContext() == gppContext)))
-                .willReturn(TestRule.disallowIfMatches(payload -> true));
+                argThat(arg -> arg.getActivity() == Activity.TRANSMIT_UFPD)))
+                .willReturn(context -> context == gppContext
+                        ? TestRule.disallowIfMatches(payload -> true)
+                        : TestRule.allowIfMatches(payload -> true));
 
         // when
         final Map<Activity, ActivityController> controllers = creator.parse(account, gppContext, debug);
@@ -183,4 +189,52 @@ public class ActivityInfrastructureCreatorTest {
         assertThat(controllers.get(Activity.TRANSMIT_UFPD).isAllowed(null)).isEqualTo(false);
         assertThat(controllers.get(Activity.TRANSMIT_EIDS).isAllowed(null)).isEqualTo(false);
     }
+
+    @Test
+    public void parseShouldReuseCompiledRulesForSameAccountPrivacyConfig() {
+        // given
+        final Account account = Account.builder()
+                .privacy(AccountPrivacyConfig.builder()
+                        .activities(Map.of(Activity.TRANSMIT_UFPD, AccountActivityConfiguration.of(true, singletonList(
+                                AccountActivityConditionsRuleConfig.of(null, null)))))
+                        .build())
+                .build();
+        final GppContext gppContext = GppContextCreator.from(null, null).build().getGppContext();
+
+        given(activityRuleFactory.from(any(), any()))
+                .willReturn(context -> TestRule.disallowIfMatches(payload -> true));
+
+        // when
+        creator.parse(account, gppContext, debug);
+        final Map<Activity, ActivityController> controllers = creator.parse(
+                account.toBuilder().id("accountId").build(), gppContext, debug);
+
+        // then
+        verify(activityRuleFactory).from(any(), any());
+        assertThat(controllers.get(Activity.TRANSMIT_UFPD).isAllowed(null)).isEqualTo(false);
+    }
+
+    @Test
+    public void parseShouldCompileRulesForEachAccountIfCachingIsDisabled() {
+        // given
+        creator = new ActivityInfrastructureCreator(activityRuleFactory, null, false, metrics, jacksonMapper);
+
+        final Account account = Account.builder()
+                .privacy(AccountPrivacyConfig.builder()
+                        .activities(Map.of(Activity.TRANSMIT_UFPD, AccountActivityConfiguration.of(true, singletonList(
+                                AccountActivityConditionsRuleConfig.of(null, null)))))
+                        .build())
+                .build();
+        final GppContext gppContext = GppContextCreator.from(null, null).build().getGppContext();
+
+        given(activityRuleFactory.from(any(), any()))
+                .willReturn(context -> TestRule.disallowIfMatches(payload -> true));
+
+        // when
+        creator.parse(account, gppContext, debug);
+        creator.parse(account, gppContext, debug);
+
+        // then
+        verify(activityRuleFactory, times(2)).from(any(), any());
+    }
 }
@@ -29,10 +29,10 @@ public class ConditionsRuleCreatorTest {
         // given
         final AccountActivityConditionsRuleConfig config = AccountActivityConditionsRuleConfig.of(null, null);
         final GppContext gppContext = GppContextCreator.from(null, null).build().getGppContext();
-        final ActivityControllerCreationContext creationContext = creationContext(gppContext);
+        final ActivityControllerCreationContext creationContext = ActivityControllerCreationContext.of(null, null);
 
         // when
-        final Rule rule = target.from(config, creationContext);
+        final Rule rule = target.from(config, creationContext).bind(gppContext);
 
         // then
         assertThat(rule.proceed(null)).isEqualTo(Rule.Result.ALLOW);
@@ -50,10 +50,10 @@ public class ConditionsRuleCreatorTest {
                         "2"),
                 false);
         final GppContext gppContext = GppContextCreator.from(null, asList(2, 3)).build().getGppContext();
-        final ActivityControllerCreationContext creationContext = creationContext(gppContext);
+        final ActivityControllerCreationContext creationContext = ActivityControllerCreationContext.of(null, null);
 
         // when
-        final Rule rule = target.from(config, creationContext);
+        final Rule rule = target.from(config, creationContext).bind(gppContext);
 
         // then
         final ActivityInvocationPayload payload1 = BidRequestActivityInvocationPayload.of(
@@ -77,14 +77,29 @@ public class ConditionsRuleCreatorTest {
         assertThat(rule.proceed(payload4)).isEqualTo(Rule.Result.DISALLOW);
     }
 
+    @Test
+    public void fromShouldCreateRuleThatDependsOnBoundGppSids() {
+        // given
+        final AccountActivityConditionsRuleConfig config = AccountActivityConditionsRuleConfig.of(
+                AccountActivityConditionsRuleConfig.Condition.of(null, null, asList(1, 2), null, null),
+                false);
+        final ActivityControllerCreationContext creationContext = ActivityControllerCreationContext.of(null, null);
+
+        // when
+        final CompiledRule compiledRule = target.from(config, creationContext);
+
+        // then
+        final GppContext matchedGppContext = GppContextCreator.from(null, asList(2, 3)).build().getGppContext();
+        assertThat(compiledRule.bind(matchedGppContext).proceed(null)).isEqualTo(Rule.Result.DISALLOW);
+
+        final GppContext notMatchedGppContext = GppContextCreator.from(null, asList(3, 4)).build().getGppContext();
+        assertThat(compiledRule.bind(notMatchedGppContext).proceed(null)).isEqualTo(Rule.Result.ABSTAIN);
+    }
+
     private static BidRequest givenBidRequest(String country, String region, String gpc) {
         return BidRequest.builder()
                 .device(Device.builder().geo(Geo.builder().country(country).region(region).build()).build())
                 .regs(Regs.builder().ext(ExtRegs.of(null, null, gpc, null)).build())
                 .build();
     }
-
-    private static ActivityControllerCreationContext creationContext(GppContext gppContext) {
-        return ActivityControllerCreationContext.of(null, null, gppContext);
-    }
 }
@@ -44,7 +44,7 @@ public class PrivacyModulesRuleCreatorTest {
         final AccountActivityPrivacyModulesRuleConfig config = AccountActivityPrivacyModulesRuleConfig.of(null);
 
         // when
-        final Rule rule = target.from(config, creationContext(null));
+        final Rule rule = target.from(config, creationContext(null)).bind(null);
 
         // then
         assertThat(rule.proceed(null)).isEqualTo(Rule.Result.ABSTAIN);
@@ -59,7 +59,7 @@ public class PrivacyModulesRuleCreatorTest {
                 PrivacyModuleQualifier.US_NAT, AccountUSNatModuleConfig.of(null, null)));
 
         // when
-        final Rule rule = target.from(config, creationContext);
+        final Rule rule = target.from(config, creationContext).bind(null);
 
         // then
         assertThat(rule.proceed(null)).isEqualTo(Rule.Result.ABSTAIN);
@@ -78,7 +78,7 @@ public class PrivacyModulesRuleCreatorTest {
                 .willReturn(TestPrivacyModule.of(Rule.Result.ALLOW));
 
         // when
-        final Rule rule = target.from(config, creationContext);
+        final Rule rule = target.from(config, creationContext).bind(null);
 
         // then
         assertThat(rule.proceed(null)).isEqualTo(Rule.Result.ALLOW);
@@ -97,7 +97,7 @@ public class PrivacyModulesRuleCreatorTest {
                 .willReturn(TestPrivacyModule.of(Rule.Result.ALLOW));
 
         // when
-        final Rule rule = target.from(config, creationContext);
+        final Rule rule = target.from(config, creationContext).bind(null);
 
         // then
         assertThat(rule.proceed(null)).isEqualTo(Rule.Result.ALLOW);
@@ -116,7 +116,7 @@ public class PrivacyModulesRuleCreatorTest {
                 .willReturn(TestPrivacyModule.of(Rule.Result.ALLOW));
 
         // when
-        final Rule rule = target.from(config, creationContext);
+        final Rule rule = target.from(config, creationContext).bind(null);
 
         // then
         assertThat(rule.proceed(null)).isEqualTo(Rule.Result.ALLOW);
@@ -133,7 +133,7 @@ public class PrivacyModulesRuleCreatorTest {
         creationContext.use(PrivacyModuleQualifier.US_NAT);
 
         // when
-        final Rule rule = target.from(config, creationContext);
+        final Rule rule = target.from(config, creationContext).bind(null);
 
         // then
         assertThat(rule.proceed(null)).isEqualTo(Rule.Result.ABSTAIN);
@@ -148,7 +148,7 @@ public class PrivacyModulesRuleCreatorTest {
                 PrivacyModuleQualifier.US_NAT, AccountUSNatModuleConfig.of(false, null)));
 
         // when
-        final Rule rule = target.from(config, creationContext);
+        final Rule rule = target.from(config, creationContext).bind(null);
 
         // then
         assertThat(rule.proceed(null)).isEqualTo(Rule.Result.ABSTAIN);
@@ -165,7 +165,7 @@ public class PrivacyModulesRuleCreatorTest {
                 PrivacyModuleQualifier.US_NAT, AccountUSNatModuleConfig.of(null, null)));
 
         // when
-        final Rule rule = target.from(config, creationContext);
+        final Rule rule = target.from(config, creationContext).bind(null);
 
         // then
         assertThat(rule.proceed(null)).isEqualTo(Rule.Result.ABSTAIN);
@@ -174,6 +174,6 @@ public class PrivacyModulesRuleCreatorTest {
     private static ActivityControllerCreationContext creationContext(
             Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs) {
 
-        return ActivityControllerCreationContext.of(null, modulesConfigs, null);
+        return ActivityControllerCreationContext.of(null, modulesConfigs);
     }
 }
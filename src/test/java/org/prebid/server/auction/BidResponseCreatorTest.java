@@ -70,6 +70,8 @@ import org.prebid.server.hooks.execution.v1.bidder.AllProcessedBidResponsesPaylo
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.identity.IdGenerator;
 import org.prebid.server.identity.IdGeneratorType;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.ExtIncludeBrandCategory;
 import org.prebid.server.proto.openrtb.ext.request.ExtDeal;
 import org.prebid.server.proto.openrtb.ext.request.ExtDealLine;
@@ -143,6 +145,7 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -190,6 +193,8 @@ public class BidResponseCreatorTest extends VertxTest {
     private ActivityInfrastructure activityInfrastructure;
     @Mock(strictness = LENIENT)
     private CacheTtl mediaTypeCacheTtl;
+    @Mock
+    private Metrics metrics;
 
     @Spy
     private WinningBidComparatorFactory winningBidComparatorFactory;
@@ -450,6 +455,31 @@ public class BidResponseCreatorTest extends VertxTest {
                 });
     }
 
+    @Test
+    public void shouldUpdateAuctionStageMetrics() {
+        // given
+        final Bid bid = Bid.builder().id("bidId").impid("impId").price(BigDecimal.valueOf(5.67)).build();
+        final List<BidderResponse> bidderResponses = singletonList(
+                BidderResponse.of("bidder1", givenSeatBid(BidderBid.of(bid, banner, "USD")), 100));
+
+        final AuctionContext auctionContext = givenAuctionContext(givenBidRequest(givenImp("impId")))
+                .with(toAuctionParticipant(bidderResponses));
+
+        final BidRequestCacheInfo cacheInfo = BidRequestCacheInfo.builder()
+                .doCaching(true)
+                .shouldCacheBids(true)
+                .build();
+
+        givenCacheServiceResult(singletonList(CacheInfo.empty()));
+
+        // when
+        target.create(auctionContext, cacheInfo, MULTI_BIDS);
+
+        // then
+        verify(metrics).updateAuctionStageTime(eq(MetricName.cache), anyLong());
+        verify(metrics).updateAuctionStageTime(eq(MetricName.response_creation), anyLong());
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void shouldRequestCacheServiceWithWinningBidsOnlyWhenWinningonlyIsTrue() {
@@ -1640,7 +1670,8 @@ public class BidResponseCreatorTest extends VertxTest {
                 20,
                 clock,
                 jacksonMapper,
-                mediaTypeCacheTtl);
+                mediaTypeCacheTtl,
+                metrics);
 
         // when
         final BidResponse bidResponse = target.create(auctionContext, CACHE_INFO, MULTI_BIDS).result();
@@ -4576,7 +4607,8 @@ public class BidResponseCreatorTest extends VertxTest {
                 truncateAttrChars,
                 clock,
                 jacksonMapper,
-                mediaTypeCacheTtl);
+                mediaTypeCacheTtl,
+                metrics);
     }
 
     private static String toTargetingByKey(Bid bid, String targetingKey) {
@@ -0,0 +1,93 @@
+package org.prebid.server.auction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.bidder.BidderCatalog;
+
+import java.util.BitSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class BidderRegistryTest {
+
+    @Mock
+    private BidderCatalog bidderCatalog;
+
+    @Test
+    public void ofShouldAssignDenseIdsInBiddersOrder() {
+        // given
+        final BidderAliases aliases = BidderAliases.of(null, null, bidderCatalog);
+
+        // when
+        final BidderRegistry registry = BidderRegistry.of(asList("bidder1", "bidder2", "bidder3"), aliases);
+
+        // then
+        assertThat(registry.size()).isEqualTo(3);
+        assertThat(registry.id("bidder1")).isEqualTo(0);
+        assertThat(registry.id("bidder3")).isEqualTo(2);
+        assertThat(registry.bidder(1)).isEqualTo("bidder2");
+    }
+
+    @Test
+    public void idShouldReturnMinusOneForUnknownBidder() {
+        // given
+        final BidderRegistry registry = BidderRegistry.of(
+                asList("bidder1", "bidder2"), BidderAliases.of(null, null, bidderCatalog));
+
+        // when and then
+        assertThat(registry.id("unknown")).isEqualTo(-1);
+        assertThat(registry.id("BIDDER1")).isEqualTo(-1);
+    }
+
+    @Test
+    public void resolvedBidderShouldReturnBidderOfRequestAlias() {
+        // given
+        final BidderAliases aliases = BidderAliases.of(singletonMap("alias", "bidder"), null, bidderCatalog);
+
+        // when
+        final BidderRegistry registry = BidderRegistry.of(asList("alias", "other"), aliases);
+
+        // then
+        assertThat(registry.resolvedBidder(0)).isEqualTo("bidder");
+        assertThat(registry.resolvedBidder(1)).isEqualTo("other");
+    }
+
+    @Test
+    public void idsShouldMatchBiddersCaseInsensitively() {
+        // given
+        final BidderRegistry registry = BidderRegistry.of(
+                asList("bidder1", "Bidder2", "bidder3"), BidderAliases.of(null, null, bidderCatalog));
+
+        // when
+        final BitSet result = registry.ids(asList("BIDDER1", "bidder2", "unknown", null));
+
+        // then
+        assertThat(result.stream()).containsExactly(0, 1);
+    }
+
+    @Test
+    public void idsShouldReturnEmptySetForEmptyNames() {
+        // given
+        final BidderRegistry registry = BidderRegistry.of(
+                asList("bidder1", "bidder2"), BidderAliases.of(null, null, bidderCatalog));
+
+        // when and then
+        assertThat(registry.ids(emptyList()).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void allIdsShouldReturnIdsOfAllBidders() {
+        // given
+        final BidderRegistry registry = BidderRegistry.of(
+                asList("bidder1", "bidder2", "bidder3"), BidderAliases.of(null, null, bidderCatalog));
+
+        // when and then
+        assertThat(registry.allIds().stream()).containsExactly(0, 1, 2);
+    }
+}
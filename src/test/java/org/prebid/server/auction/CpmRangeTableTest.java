@@ -0,0 +1,122 @@
+package org.prebid.server.auction;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CpmRangeTableTest {
+
+    @Test
+    public void fromCpmShouldReturnSameResultAsCpmRangeForNamedGranularities() {
+        for (String name : List.of("low", "medium", "med", "high", "auto", "dense")) {
+            // given
+            final PriceGranularity priceGranularity = PriceGranularity.createFromString(name);
+            final CpmRangeTable target = CpmRangeTable.of(priceGranularity);
+
+            for (int cents = -100; cents <= 2500; cents++) {
+                final BigDecimal cpm = BigDecimal.valueOf(cents, 2);
+
+                // when and then
+                assertSameAsCpmRange(target, cpm, priceGranularity);
+                assertSameAsCpmRange(target, cpm.add(BigDecimal.valueOf(37, 4)), priceGranularity);
+            }
+        }
+    }
+
+    @Test
+    public void createShouldBuildTableWithSameResultAsCpmRangeForRandomCustomGranularities() {
+        // given
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 200; i++) {
+            final List<ExtGranularityRange> ranges = new ArrayList<>();
+            final int rangesCount = 1 + random.nextInt(4);
+            for (int j = 0; j < rangesCount; j++) {
+                ranges.add(ExtGranularityRange.of(
+                        BigDecimal.valueOf(1 + random.nextInt(3000), random.nextInt(3)),
+                        BigDecimal.valueOf(1 + random.nextInt(100), 1 + random.nextInt(3))));
+            }
+            final PriceGranularity priceGranularity = PriceGranularity.createFromRanges(random.nextInt(4), ranges);
+            final CpmRangeTable target = CpmRangeTable.create(priceGranularity);
+
+            for (int j = 0; j < 200; j++) {
+                final BigDecimal cpm = BigDecimal.valueOf(random.nextInt(40000) - 1000, random.nextInt(5));
+
+                // when and then
+                assertSameAsCpmRange(target, cpm, priceGranularity);
+            }
+        }
+    }
+
+    @Test
+    public void fromCpmShouldReturnExpectedValues() {
+        // given
+        final CpmRangeTable target = CpmRangeTable.of(PriceGranularity.createFromString("dense"));
+
+        // when and then
+        assertThat(target.fromCpm(BigDecimal.valueOf(2.999))).isEqualTo("2.99");
+        assertThat(target.fromCpm(BigDecimal.valueOf(3))).isEqualTo("3.00");
+        assertThat(target.fromCpm(BigDecimal.valueOf(3.07))).isEqualTo("3.05");
+        assertThat(target.fromCpm(BigDecimal.valueOf(8.49))).isEqualTo("8.00");
+        assertThat(target.fromCpm(BigDecimal.valueOf(25))).isEqualTo("20.00");
+        assertThat(target.fromCpm(BigDecimal.ZERO)).isEmpty();
+        assertThat(target.fromCpmAsNumber(BigDecimal.ZERO)).isNull();
+    }
+
+    @Test
+    public void ofShouldReturnNamedTableForCustomGranularityWithSameRanges() {
+        // given
+        final PriceGranularity named = PriceGranularity.createFromString("auto");
+        final PriceGranularity custom = PriceGranularity.createFromRanges(
+                named.getPrecision(), new ArrayList<>(named.getRanges()));
+
+        // when and then
+        assertThat(CpmRangeTable.of(custom)).isSameAs(CpmRangeTable.of(named));
+        assertThat(CpmRangeTable.of(PriceGranularity.createFromString("medium")))
+                .isSameAs(CpmRangeTable.of(PriceGranularity.createFromString("med")));
+    }
+
+    @Test
+    public void ofShouldNotBuildTableForOtherCustomGranularity() {
+        // given
+        final PriceGranularity priceGranularity = PriceGranularity.createFromRanges(4, singletonList(
+                ExtGranularityRange.of(BigDecimal.valueOf(1000), BigDecimal.valueOf(0.0001))));
+
+        // when
+        final CpmRangeTable target = CpmRangeTable.of(priceGranularity);
+
+        // then
+        assertThat(target).isNotSameAs(CpmRangeTable.of(priceGranularity));
+        assertSameAsCpmRange(target, BigDecimal.valueOf(123.45678), priceGranularity);
+    }
+
+    @Test
+    public void fromCpmShouldReturnSameResultAsCpmRangeIfIncrementIsMissing() {
+        // given
+        final PriceGranularity priceGranularity = PriceGranularity.createFromRanges(2, asList(
+                ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.1)),
+                ExtGranularityRange.of(BigDecimal.valueOf(10), null)));
+        final CpmRangeTable target = CpmRangeTable.of(priceGranularity);
+
+        // when and then
+        assertThat(target.fromCpm(BigDecimal.valueOf(2.55))).isEqualTo("2.50");
+        assertSameAsCpmRange(target, BigDecimal.valueOf(7), priceGranularity);
+    }
+
+    private static void assertSameAsCpmRange(CpmRangeTable table, BigDecimal cpm, PriceGranularity priceGranularity) {
+        assertThat(table.fromCpm(cpm))
+                .describedAs("cpm %s", cpm)
+                .isEqualTo(CpmRange.fromCpm(cpm, priceGranularity));
+        assertThat(table.fromCpmAsNumber(cpm))
+                .describedAs("cpm %s", cpm)
+                .isEqualTo(CpmRange.fromCpmAsNumber(cpm, priceGranularity));
+    }
+}
@@ -6,6 +6,9 @@ import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -150,4 +153,47 @@ public class CpmRangeTest {
         // then
         assertThat(result).isNull();
     }
+
+    @Test
+    public void fromCpmAsNumberShouldGiveTheSameResultAsBigDecimalArithmetic() {
+        final Random random = new Random(42L);
+        for (int i = 0; i < 10_000; i++) {
+            // given
+            final PriceGranularity priceGranularity = PriceGranularity.createFromRanges(2, List.of(
+                    givenRange(random, 1_000L),
+                    givenRange(random, 10_000L),
+                    givenRange(random, 100_000L)));
+            final BigDecimal cpm = BigDecimal.valueOf(random.nextLong(1, 200_000_000L), random.nextInt(9));
+
+            // when
+            final BigDecimal result = CpmRange.fromCpmAsNumber(cpm, priceGranularity);
+
+            // then
+            assertThat(result).isEqualTo(expectedCpmAsNumber(cpm, priceGranularity));
+        }
+    }
+
+    private static ExtGranularityRange givenRange(Random random, long maxBound) {
+        return ExtGranularityRange.of(
+                BigDecimal.valueOf(random.nextLong(1, maxBound), random.nextInt(4)),
+                BigDecimal.valueOf(random.nextLong(1, 1_000L), random.nextInt(4)));
+    }
+
+    private static BigDecimal expectedCpmAsNumber(BigDecimal cpm, PriceGranularity priceGranularity) {
+        if (cpm.compareTo(priceGranularity.getRangesMax()) > 0) {
+            return priceGranularity.getRangesMax();
+        }
+
+        BigDecimal min = BigDecimal.ZERO;
+        for (ExtGranularityRange range : priceGranularity.getRanges()) {
+            if (cpm.compareTo(range.getMax()) <= 0) {
+                return cpm.subtract(min)
+                        .divide(range.getIncrement(), 0, RoundingMode.FLOOR)
+                        .multiply(range.getIncrement())
+                        .add(min);
+            }
+            min = range.getMax();
+        }
+        return null;
+    }
 }
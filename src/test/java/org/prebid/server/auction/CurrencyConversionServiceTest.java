@@ -16,6 +16,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.currency.proto.CurrencyConversionRates;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestCurrency;
@@ -310,6 +311,46 @@ public class CurrencyConversionServiceTest extends VertxTest {
                 .withMessage("Unable to convert from currency USD to desired ad server currency EUR");
     }
 
+    @Test
+    public void convertCurrencyShouldUpdateExternalConversionsMetric() {
+        // when
+        currencyService.convertCurrency(BigDecimal.ONE, givenBidRequestWithCurrencies(null, true), GBP, EUR);
+
+        // then
+        verify(metrics).updateCurrencyConversionMetric(MetricName.external_conversions);
+    }
+
+    @Test
+    public void convertCurrencyShouldUpdateRequestConversionsMetricWhenExternalRatesHaveNoRate() {
+        // given
+        final Map<String, Map<String, BigDecimal>> requestConversionRates = singletonMap(USD,
+                singletonMap(AUD, BigDecimal.valueOf(1.5)));
+
+        // when
+        currencyService.convertCurrency(BigDecimal.ONE,
+                givenBidRequestWithCurrencies(requestConversionRates, true), USD, AUD);
+
+        // then
+        verify(metrics).updateCurrencyConversionMetric(MetricName.request_conversions);
+    }
+
+    @Test
+    public void convertCurrencyShouldUpdateFailedConversionsMetric() {
+        // when
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> currencyService.convertCurrency(BigDecimal.ONE,
+                        givenBidRequestWithCurrencies(null, true), USD, AUD));
+
+        // then
+        verify(metrics).updateCurrencyConversionMetric(MetricName.failed_conversions);
+    }
+
+    @Test
+    public void initializeShouldUpdateCurrencyRatesUpdateTimeMetric() {
+        // then
+        verify(metrics).updateCurrencyRatesUpdateTime(anyLong());
+    }
+
     @Test
     public void convertCurrencyShouldThrowPrebidExceptionIfMultiplierWasNotFoundFromBothRates() {
         // given
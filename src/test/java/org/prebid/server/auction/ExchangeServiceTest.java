@@ -595,6 +595,139 @@ public class ExchangeServiceTest extends VertxTest {
                 .element(0).returns(2, imp -> imp.getExt().get("bidder").asInt());
     }
 
+    @Test
+    public void shouldShareSameSiteBetweenBiddersWithSameFirstPartyData() {
+        // given
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(
+                singletonList(givenImp(doubleMap("bidder1", 1, "bidder2", 2), identity())),
+                builder -> builder
+                        .site(Site.builder().ext(ExtSite.of(0, mapper.createObjectNode().put("data", 1))).build())
+                        .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                                .data(ExtRequestPrebidData.of(singletonList("otherBidder"), null))
+                                .build())));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester)
+                .requestBids(same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester)
+                .requestBids(same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean());
+
+        final Site site1 = bidRequest1Captor.getValue().getBidRequest().getSite();
+        assertThat(site1.getExt()).isEqualTo(ExtSite.of(0, null));
+        assertThat(bidRequest2Captor.getValue().getBidRequest().getSite()).isSameAs(site1);
+    }
+
+    @Test
+    public void shouldShareSameUserExtBetweenBiddersWithFirstPartyData() {
+        // given
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        final ObjectNode dataNode = mapper.createObjectNode().put("data", "value");
+        final BidRequest bidRequest = givenBidRequest(
+                singletonList(givenImp(doubleMap("bidder1", 1, "bidder2", 2), identity())),
+                builder -> builder.user(User.builder()
+                        .ext(ExtUser.builder().prebid(ExtUserPrebid.of(emptyMap())).data(dataNode).build())
+                        .build()));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester)
+                .requestBids(same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester)
+                .requestBids(same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean());
+
+        final ExtUser extUser1 = bidRequest1Captor.getValue().getBidRequest().getUser().getExt();
+        assertThat(extUser1).isEqualTo(ExtUser.builder().data(dataNode).build());
+        assertThat(bidRequest2Captor.getValue().getBidRequest().getUser().getExt()).isSameAs(extUser1);
+    }
+
+    @Test
+    public void shouldResolveUserFirstPartyDataOnceForBiddersWithSameBidderConfig() {
+        // given
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        given(uidUpdater.updateUid(eq("bidder1"), any(), any())).willReturn(UpdateResult.updated("buyeruid1"));
+        given(uidUpdater.updateUid(eq("bidder2"), any(), any())).willReturn(UpdateResult.updated("buyeruid2"));
+
+        final ObjectNode bidderConfigUser = mapper.valueToTree(User.builder().keywords("keywords").build());
+        final ExtRequestPrebidBidderConfig allFpdConfig = ExtRequestPrebidBidderConfig.of(singletonList("*"),
+                ExtBidderConfig.of(null, ExtBidderConfigOrtb.of(null, null, null, bidderConfigUser)));
+        final BidRequest bidRequest = givenBidRequest(
+                singletonList(givenImp(doubleMap("bidder1", 1, "bidder2", 2), identity())),
+                builder -> builder
+                        .user(User.builder().id("userId").build())
+                        .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                                .bidderconfig(singletonList(allFpdConfig))
+                                .build())));
+
+        given(fpdResolver.resolveUser(any(), any())).willAnswer(invocation -> invocation.<User>getArgument(0)
+                .toBuilder()
+                .keywords("keywords")
+                .build());
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(fpdResolver).resolveUser(any(), same(bidderConfigUser));
+
+        final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester)
+                .requestBids(same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean());
+        final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester)
+                .requestBids(same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean());
+
+        assertThat(bidRequest1Captor.getValue().getBidRequest().getUser())
+                .isEqualTo(User.builder().id("userId").buyeruid("buyeruid1").keywords("keywords").build());
+        assertThat(bidRequest2Captor.getValue().getBidRequest().getUser())
+                .isEqualTo(User.builder().id("userId").buyeruid("buyeruid2").keywords("keywords").build());
+    }
+
+    @Test
+    public void shouldNotCopyParamsOfOtherBiddersToBidderImpExt() {
+        // given
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(singletonList(
+                givenImp(doubleMap("bidder1", 1, "bidder2", 2), identity())));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
+        verify(httpBidderRequester)
+                .requestBids(same(bidder1), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+        assertThat(bidRequestCaptor.getValue().getBidRequest().getImp())
+                .extracting(Imp::getExt)
+                .containsExactly(mapper.createObjectNode().put("bidder", 1));
+        assertThat(bidRequest.getImp().getFirst().getExt().at("/prebid/bidder"))
+                .isEqualTo(mapper.createObjectNode().put("bidder1", 1).put("bidder2", 2));
+    }
+
     @Test
     public void shouldSkipBidderWhenRejectedByBidderRequestHooks() {
         // given
@@ -2989,6 +3122,20 @@ public class ExchangeServiceTest extends VertxTest {
                 eq("someBidder"), any(), eq(10000L), eq(false), eq("banner"));
     }
 
+    @Test
+    public void shouldUpdateBidderRequestsAuctionStageMetric() {
+        // given
+        givenBidder(givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(metrics).updateAuctionStageTime(eq(MetricName.bidder_requests), anyLong());
+    }
+
     @Test
     public void shouldCallUpdateCookieMetricsWithExpectedValue() {
         // given
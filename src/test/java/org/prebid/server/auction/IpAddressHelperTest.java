@@ -1,9 +1,17 @@
 package org.prebid.server.auction;
 
+import inet.ipaddr.AddressStringException;
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import org.apache.http.conn.util.InetAddressUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.auction.model.IpAddress;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -138,4 +146,119 @@ public class IpAddressHelperTest {
         assertThat(ipAddressHelper.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334"))
                 .isEqualTo(IpAddress.of("2001:1db8:85a3:a5b7::", IpAddress.IP.v6));
     }
+
+    @Test
+    public void shouldReturnSameResultsAsIpAddressLibrary() {
+        // given
+        final List<String> localNetworks = asList("::1/128", "fc00::/7", "fe80::/10", "2001:db8::/32", "100.64.0.0/10");
+        final IpAddressHelper target = new IpAddressHelper(64, 56, localNetworks);
+        final List<IPAddress> networks = localNetworks.stream().map(IpAddressHelperTest::toAddress).toList();
+        final IPAddress alwaysMask = toAddress("::/64").getNetworkMask();
+        final IPAddress anonLeftMask = toAddress("::/56").getNetworkMask();
+
+        final Random random = new Random(42);
+        final List<String> ips = new ArrayList<>(asList(
+                "0.0.0.0", "0.1.2.3", "01.2.3.4", "1.2.3", "1.2.3.4 ", "256.1.1.1", "100.64.0.1", "172.31.255.255",
+                "::", "::1", "::2", "1::", "::ffff:1.2.3.4", "fe80::1%eth0", "1::2::3", "1:2:3:4:5:6:7", ":1::",
+                "1:2:3:4:5:6:7::", "::2:3:4:5:6:7:8", "1::2:3:4:5:6:7:8", "12345::", "2001:DB8::1", "fec0::1",
+                "ff02::1", "1:0:0:1:0:0:1:1", "0:0:1:0:0:1:0:0", "", "abc", "1"));
+        for (int i = 0; i < 2000; i++) {
+            ips.add(randomIpv4(random));
+            ips.add(randomIpv6(random));
+        }
+
+        for (String ip : ips) {
+            // when and then
+            assertThat(target.toIpAddress(ip))
+                    .describedAs(ip)
+                    .isEqualTo(libraryToIpAddress(ip, alwaysMask, networks));
+            assertThat(target.anonymizeIpv6(ip))
+                    .describedAs(ip)
+                    .isEqualTo(libraryAnonymizeIpv6(ip, anonLeftMask));
+            assertThat(target.maskIpv4(ip))
+                    .describedAs(ip)
+                    .isEqualTo(libraryMaskIpv4(ip));
+        }
+    }
+
+    private static String randomIpv4(Random random) {
+        final int[] firstOctets = {0, 10, 100, 127, 169, 172, 192, 224, 239, 255, 1 + random.nextInt(255)};
+        final int[] secondOctets = {0, 16, 31, 64, 168, 254, 255, random.nextInt(256)};
+        return "%d.%d.%d.%d".formatted(
+                firstOctets[random.nextInt(firstOctets.length)],
+                secondOctets[random.nextInt(secondOctets.length)],
+                random.nextInt(256),
+                random.nextInt(3) == 0 ? 255 : random.nextInt(256));
+    }
+
+    private static String randomIpv6(Random random) {
+        final int[] firstSegments = {0, 0x2001, 0xfc00, 0xfd12, 0xfe80, 0xfebf, 0xfec0, 0xff02, 0xffff,
+                random.nextInt(0x10000)};
+        final String[] segments = new String[8];
+        for (int i = 0; i < segments.length; i++) {
+            final int value = i == 0
+                    ? firstSegments[random.nextInt(firstSegments.length)]
+                    : random.nextInt(3) == 0 ? 0 : random.nextInt(0x10000);
+            final String segment = Integer.toHexString(value);
+            segments[i] = random.nextBoolean() ? segment : "0".repeat(4 - segment.length()) + segment.toUpperCase();
+        }
+
+        final String ip = String.join(":", segments);
+        if (random.nextBoolean()) {
+            return ip;
+        }
+
+        // compress random run of segments, zero or not, making some strings invalid
+        final int start = random.nextInt(8);
+        final int end = start + 1 + random.nextInt(8 - start);
+        return String.join(":", asList(segments).subList(0, start))
+                + "::"
+                + String.join(":", asList(segments).subList(end, 8));
+    }
+
+    private static IpAddress libraryToIpAddress(String ip, IPAddress alwaysMask, List<IPAddress> networks) {
+        final IPAddress address;
+        try {
+            address = new IPAddressString(ip, IPAddressString.DEFAULT_VALIDATION_OPTIONS.toBuilder()
+                    .allowSingleSegment(false)
+                    .allowEmpty(false)
+                    .toParams()).toAddress();
+        } catch (AddressStringException e) {
+            return null;
+        }
+
+        final boolean isPublic = address != null && !address.isLocal() && !address.isLoopback()
+                && !address.isMulticast() && !address.isMax()
+                && networks.stream().noneMatch(network -> network.contains(address));
+        if (!isPublic) {
+            return null;
+        }
+
+        return address.isIPv4()
+                ? IpAddress.of(ip, IpAddress.IP.v4)
+                : IpAddress.of(address.mask(alwaysMask).toCanonicalString(), IpAddress.IP.v6);
+    }
+
+    private static String libraryAnonymizeIpv6(String ip, IPAddress anonLeftMask) {
+        try {
+            final IPAddressString ipAddressString = new IPAddressString(ip);
+            return ipAddressString.isIPv6()
+                    ? ipAddressString.toAddress().mask(anonLeftMask).toCanonicalString()
+                    : null;
+        } catch (AddressStringException e) {
+            return null;
+        }
+    }
+
+    private static String libraryMaskIpv4(String ip) {
+        return InetAddressUtils.isIPv4Address(ip) ? ip.substring(0, ip.lastIndexOf('.')) + ".0" : ip;
+    }
+
+    private static IPAddress toAddress(String address) {
+        try {
+            return new IPAddressString(address).toAddress();
+        } catch (AddressStringException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
 }
@@ -18,6 +18,7 @@ import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.gpp.model.privacy.UspV1Privacy;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.TraceLevel;
 
 import java.util.ArrayList;
@@ -38,11 +39,14 @@ public class AmpGppServiceTest {
     @Mock
     private GppService gppService;
 
+    @Mock
+    private Metrics metrics;
+
     private AmpGppService ampGppService;
 
     @BeforeEach
     public void setUp() {
-        ampGppService = new AmpGppService(gppService);
+        ampGppService = new AmpGppService(gppService, new GppModelCache(null, null, metrics));
     }
 
     @Test
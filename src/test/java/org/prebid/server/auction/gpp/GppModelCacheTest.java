@@ -0,0 +1,112 @@
+package org.prebid.server.auction.gpp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.auction.gpp.model.GppScopeWrapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class GppModelCacheTest {
+
+    private static final String GPP = "DBABTA~1YN-";
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void scopeFromShouldReturnCachedScopeForSameGppAndGppSid() {
+        // given
+        final GppModelCache target = new GppModelCache(60, 100, metrics);
+
+        // when
+        final GppScopeWrapper first = target.scopeFrom(GPP, List.of(6));
+        final GppScopeWrapper second = target.scopeFrom(GPP, List.of(6));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getScope().getGppModel().getUspV1Section().getNotice()).isEqualTo('Y');
+        assertThat(second.getScope().getSectionsIds()).containsExactly(6);
+        assertThat(second.getErrors()).isEmpty();
+
+        verify(metrics).updatePrivacyGppCacheMetric(MetricName.miss);
+        verify(metrics).updatePrivacyGppCacheMetric(MetricName.hit);
+        verify(metrics).updatePrivacyGppDecodeTime(anyLong());
+    }
+
+    @Test
+    public void scopeFromShouldDecodeAgainForDifferentGppSid() {
+        // given
+        final GppModelCache target = new GppModelCache(60, 100, metrics);
+
+        // when
+        final GppScopeWrapper first = target.scopeFrom(GPP, List.of(6));
+        final GppScopeWrapper second = target.scopeFrom(GPP, List.of(2, 6));
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getScope().getSectionsIds()).containsExactlyInAnyOrder(2, 6);
+
+        verify(metrics, times(2)).updatePrivacyGppCacheMetric(MetricName.miss);
+        verify(metrics, never()).updatePrivacyGppCacheMetric(MetricName.hit);
+    }
+
+    @Test
+    public void scopeFromShouldCacheErrorsForInvalidGpp() {
+        // given
+        final GppModelCache target = new GppModelCache(60, 100, metrics);
+
+        // when
+        target.scopeFrom("invalid", null);
+        final GppScopeWrapper result = target.scopeFrom("invalid", null);
+
+        // then
+        assertThat(result.getScope().getGppModel()).isNull();
+        assertThat(result.getErrors()).containsExactly("GPP string invalid: Unable to decode 'invalid'");
+
+        verify(metrics).updatePrivacyGppCacheMetric(MetricName.hit);
+    }
+
+    @Test
+    public void scopeFromShouldDecodeEveryTimeWhenCacheIsDisabled() {
+        // given
+        final GppModelCache target = new GppModelCache(null, null, metrics);
+
+        // when
+        final GppScopeWrapper first = target.scopeFrom(GPP, null);
+        final GppScopeWrapper second = target.scopeFrom(GPP, null);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+
+        verify(metrics, never()).updatePrivacyGppCacheMetric(any());
+        verify(metrics, times(2)).updatePrivacyGppDecodeTime(anyLong());
+    }
+
+    @Test
+    public void scopeFromShouldNotDecodeEmptyGpp() {
+        // given
+        final GppModelCache target = new GppModelCache(60, 100, metrics);
+
+        // when
+        final GppScopeWrapper result = target.scopeFrom(null, null);
+
+        // then
+        assertThat(result.getScope().getGppModel()).isNull();
+        assertThat(result.getErrors()).isEmpty();
+
+        verifyNoInteractions(metrics);
+    }
+}
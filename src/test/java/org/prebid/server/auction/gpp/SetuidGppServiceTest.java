@@ -13,6 +13,7 @@ import org.prebid.server.auction.gpp.model.GppContextCreator;
 import org.prebid.server.auction.gpp.model.GppContextWrapper;
 import org.prebid.server.auction.gpp.model.privacy.TcfEuV2Privacy;
 import org.prebid.server.auction.model.SetuidContext;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.model.Privacy;
 import org.prebid.server.privacy.model.PrivacyContext;
 
@@ -31,11 +32,14 @@ public class SetuidGppServiceTest {
     @Mock
     private GppService gppService;
 
+    @Mock
+    private Metrics metrics;
+
     private SetuidGppService target;
 
     @BeforeEach
     public void setUp() {
-        target = new SetuidGppService(gppService);
+        target = new SetuidGppService(gppService, new GppModelCache(null, null, metrics));
     }
 
     @Test
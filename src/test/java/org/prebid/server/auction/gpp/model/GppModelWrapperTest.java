@@ -48,6 +48,22 @@ public class GppModelWrapperTest {
         assertThat(wrappedGpp.encodeSection(UspV1.ID)).isEqualTo(originalGpp.encodeSection(UspV1.ID));
     }
 
+    @Test
+    public void decodeAllSectionsShouldKeepSectionValues() {
+        // given
+        final GppModel originalGpp = new GppModel(GPP_STRING);
+        final GppModelWrapper wrappedGpp = new GppModelWrapper(GPP_STRING);
+
+        // when
+        wrappedGpp.decodeAllSections();
+
+        // then
+        assertThat(wrappedGpp.getTcfEuV2Section().getVendorConsents())
+                .isEqualTo(originalGpp.getTcfEuV2Section().getVendorConsents());
+        assertThat(wrappedGpp.getUspV1Section().getOptOutSale())
+                .isEqualTo(originalGpp.getUspV1Section().getOptOutSale());
+    }
+
     public static String normalizeEncodedTcfEuV2Section(String encodedSection) {
         try {
             final GppModel normalizer = new GppModel();
@@ -15,11 +15,14 @@ import org.prebid.server.auction.privacy.enforcement.mask.UserFpdActivityMask;
 
 import java.util.List;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ActivityEnforcementTest {
@@ -67,6 +70,38 @@ public class ActivityEnforcementTest {
         });
     }
 
+    @Test
+    public void enforceShouldMaskOnceForBiddersWithSameUserDeviceAndDecisions() {
+        // given
+        given(activityInfrastructure.isAllowed(any(), any())).willReturn(false);
+        given(userFpdActivityMask.maskUser(any(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> User.builder().id("maskedUser").build());
+        given(userFpdActivityMask.maskDevice(any(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> Device.builder().ip("maskedDevice").build());
+
+        final User user = User.builder().id("originalUser").build();
+        final Device device = Device.builder().ip("originalDevice").build();
+        final List<BidderPrivacyResult> bidderPrivacyResults = asList(
+                BidderPrivacyResult.builder().requestBidder("bidder1").user(user).device(device).build(),
+                BidderPrivacyResult.builder().requestBidder("bidder2").user(user).device(device).build(),
+                BidderPrivacyResult.builder()
+                        .requestBidder("bidder3")
+                        .user(User.builder().id("originalUser").build())
+                        .device(device)
+                        .build());
+
+        // when
+        final List<BidderPrivacyResult> result = target.enforce(bidderPrivacyResults, givenAuctionContext()).result();
+
+        // then
+        assertThat(result.get(0).getUser()).isSameAs(result.get(1).getUser());
+        assertThat(result.get(0).getUser()).isNotSameAs(result.get(2).getUser());
+        assertThat(result).extracting(BidderPrivacyResult::getDevice).containsOnly(result.get(0).getDevice());
+
+        verify(userFpdActivityMask, times(2)).maskUser(any(), anyBoolean(), anyBoolean());
+        verify(userFpdActivityMask).maskDevice(any(), anyBoolean(), anyBoolean());
+    }
+
     private AuctionContext givenAuctionContext() {
         return AuctionContext.builder()
                 .bidRequest(BidRequest.builder().build())
@@ -32,6 +32,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
@@ -44,6 +46,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -361,6 +364,44 @@ public class TcfEnforcementTest {
                         .build());
     }
 
+    @Test
+    public void enforceShouldMaskOnceForBiddersWithSameMasking() {
+        // give
+        given(userFpdTcfMask.maskUser(any(), anyBoolean(), anyBoolean(), anySet()))
+                .willAnswer(invocation -> User.builder().id("maskedUser").build());
+        given(userFpdTcfMask.maskDevice(any(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> Device.builder().ip("maskedDevice").build());
+
+        givenPrivacyEnforcementActions(Map.of(
+                "bidder0", givenEnforcementAction(PrivacyEnforcementAction::setMaskGeo),
+                "bidder1", givenEnforcementAction(PrivacyEnforcementAction::setMaskGeo),
+                "bidder2", givenEnforcementAction(),
+                "bidder3", givenEnforcementAction(PrivacyEnforcementAction::setBlockBidderRequest)));
+
+        final AuctionContext context = givenAuctionContext(givenDeviceWithNoPrivacyData());
+        final User user = givenUserWithPrivacyData();
+        final Map<String, User> bidderToUser = Map.of(
+                "bidder0", user,
+                "bidder1", user,
+                "bidder2", user,
+                "bidder3", user);
+        final Set<String> bidders = Set.of("bidder0", "bidder1", "bidder2", "bidder3");
+
+        // when
+        final Map<String, BidderPrivacyResult> result = target.enforce(context, bidderToUser, bidders, aliases)
+                .result().stream()
+                .collect(Collectors.toMap(BidderPrivacyResult::getRequestBidder, Function.identity()));
+
+        // then
+        assertThat(result.get("bidder0").getUser()).isSameAs(result.get("bidder1").getUser());
+        assertThat(result.get("bidder0").getDevice()).isSameAs(result.get("bidder1").getDevice());
+        assertThat(result.get("bidder0").getDevice()).isNotSameAs(result.get("bidder2").getDevice());
+
+        verify(userFpdTcfMask, times(2)).maskUser(any(), anyBoolean(), anyBoolean(), anySet());
+        verify(userFpdTcfMask, times(2)).maskDevice(any(), anyBoolean(), anyBoolean(), anyBoolean());
+        verify(metrics).updatePrivacyTcfMaskingClassesMetric(3);
+    }
+
     private void givenPrivacyEnforcementActions(Map<String, PrivacyEnforcementAction> actions) {
         given(tcfDefinerService.resultForBidderNames(any(), any(), any(), any()))
                 .willReturn(Future.succeededFuture(TcfResponse.of(null, actions, null)));
@@ -40,6 +40,7 @@ import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestBody;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.ccpa.Ccpa;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
@@ -1773,12 +1774,12 @@ public class AmpRequestFactoryTest extends VertxTest {
         return invocationOnMock -> invocationOnMock.getArguments()[0];
     }
 
-    private static Future<HttpRequestContext> toHttpRequest(RoutingContext routingContext, String body) {
+    private static Future<HttpRequestContext> toHttpRequest(RoutingContext routingContext, HttpRequestBody body) {
         return Future.succeededFuture(HttpRequestContext.builder()
                 .absoluteUri(routingContext.request().absoluteURI())
                 .queryParams(toCaseInsensitiveMultiMap(routingContext.queryParams()))
                 .headers(toCaseInsensitiveMultiMap(routingContext.request().headers()))
-                .body(body)
+                .requestBody(body)
                 .scheme(routingContext.request().scheme())
                 .remoteHost(routingContext.request().remoteAddress().host())
                 .build());
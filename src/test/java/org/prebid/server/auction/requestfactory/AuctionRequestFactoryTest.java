@@ -14,8 +14,12 @@ import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Source;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
+import io.vertx.ext.web.MIMEHeader;
+import io.vertx.ext.web.ParsedHeaderValues;
+import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,7 +47,9 @@ import org.prebid.server.cookie.CookieDeprecationService;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.HttpRequestBody;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.ccpa.Ccpa;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
@@ -77,6 +83,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.assertion.FutureAssertion.assertThat;
 
@@ -111,12 +118,16 @@ public class AuctionRequestFactoryTest extends VertxTest {
     private GeoLocationServiceWrapper geoLocationServiceWrapper;
     @Mock(strictness = LENIENT)
     private BidAdjustmentsRetriever bidAdjustmentsRetriever;
+    @Mock
+    private Metrics metrics;
 
     private AuctionRequestFactory target;
 
     @Mock(strictness = LENIENT)
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
+    private RequestBody requestBody;
+    @Mock(strictness = LENIENT)
     private HttpServerRequest httpRequest;
 
     private Account defaultAccount;
@@ -153,6 +164,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .willAnswer(invocation -> invocation.getArgument(0));
 
         given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.body()).willReturn(requestBody);
         given(routingContext.queryParams()).willReturn(MultiMap.caseInsensitiveMultiMap());
         given(httpRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
         given(httpRequest.remoteAddress()).willReturn(new SocketAddressImpl(1234, "host"));
@@ -214,13 +226,14 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 debugResolver,
                 jacksonMapper,
                 geoLocationServiceWrapper,
-                bidAdjustmentsRetriever);
+                bidAdjustmentsRetriever,
+                metrics);
     }
 
     @Test
     public void shouldReturnFailedFutureIfRequestBodyIsMissing() {
         // given
-        given(routingContext.getBody()).willReturn(null);
+        given(requestBody.buffer()).willReturn(null);
 
         // when
         final Future<?> future = target.parseRequest(routingContext, 0L);
@@ -250,9 +263,10 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 debugResolver,
                 jacksonMapper,
                 geoLocationServiceWrapper,
-                bidAdjustmentsRetriever);
+                bidAdjustmentsRetriever,
+                metrics);
 
-        given(routingContext.getBodyAsString()).willReturn("body");
+        given(requestBody.buffer()).willReturn(Buffer.buffer("body"));
 
         // when
         final Future<?> future = target.parseRequest(routingContext, 0L);
@@ -267,7 +281,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsed() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("body");
+        given(requestBody.buffer()).willReturn(Buffer.buffer("body"));
 
         // when
         final Future<?> future = target.parseRequest(routingContext, 0L);
@@ -371,6 +385,22 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 DebugContext.of(true, true, null));
     }
 
+    @Test
+    public void enrichAuctionContextShouldUpdateAuctionStageMetrics() {
+        // given
+        givenValidBidRequest();
+
+        // when
+        target.enrichAuctionContext(defaultActionContext);
+
+        // then
+        verify(metrics).updateAuctionStageTime(eq(MetricName.raw_request_hooks), anyLong());
+        verify(metrics).updateAuctionStageTime(eq(MetricName.processed_request_hooks), anyLong());
+        verify(metrics).updateAuctionStageTime(eq(MetricName.stored_request), anyLong());
+        verify(metrics).updateAuctionStageTime(eq(MetricName.privacy), anyLong());
+        verify(metrics).updateAuctionStageTime(eq(MetricName.request_factory), anyLong());
+    }
+
     @Test
     public void shouldUseBidRequestModifiedByRawAuctionRequestHooks() {
         // given
@@ -483,7 +513,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putObject("data")
                 .set("eidpermissions", eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        given(requestBody.buffer()).willReturn(Buffer.buffer(requestNode.toString()));
 
         // when
         final Future<?> result = target.parseRequest(routingContext, 0L);
@@ -496,6 +526,73 @@ public class AuctionRequestFactoryTest extends VertxTest {
                         assertThat(message).startsWith("Error decoding bidRequest: Cannot deserialize value"));
     }
 
+    @Test
+    public void shouldParseBidRequestFromBodyBufferAndUpdateParseTimeMetric() {
+        // given
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{\"id\":\"buffer\"}"));
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue().getId()).isEqualTo("buffer");
+
+        verify(metrics).updateAuctionStageTime(eq(MetricName.request_parse), anyLong());
+    }
+
+    @Test
+    public void shouldUpdateParseTimeMetricIfRequestBodyCouldNotBeParsed() {
+        // given
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{\"id\":"));
+
+        // when
+        final Future<?> future = target.parseRequest(routingContext, 0L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(((InvalidRequestException) future.cause()).getMessages()).hasSize(1)
+                .element(0).asString().startsWith("Error decoding bidRequest: Unexpected end-of-input");
+        verify(metrics).updateAuctionStageTime(eq(MetricName.request_parse), anyLong());
+    }
+
+    @Test
+    public void shouldParseBidRequestFromBodyDecodedWithCharsetOfContentType() {
+        // given
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{\"id\":\"caf\u00e9\"}", "ISO-8859-1"));
+
+        final ParsedHeaderValues parsedHeaders = mock(ParsedHeaderValues.class);
+        final MIMEHeader contentType = mock(MIMEHeader.class);
+        given(routingContext.parsedHeaders()).willReturn(parsedHeaders);
+        given(parsedHeaders.contentType()).willReturn(contentType);
+        given(contentType.parameter("charset")).willReturn("ISO-8859-1");
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue().getId()).isEqualTo("caf\u00e9");
+    }
+
+    @Test
+    public void shouldParseBidRequestFromBodyStringIfEntrypointHooksChangedIt() {
+        // given
+        given(requestBody.buffer()).willReturn(Buffer.buffer("{\"id\":\"buffer\"}"));
+        doAnswer(invocation -> toHttpRequest(invocation.getArgument(0), HttpRequestBody.of("{\"id\":\"hook\"}")))
+                .when(ortb2RequestFactory).executeEntrypointHooks(any(), any(), any());
+
+        // when
+        target.parseRequest(routingContext, 0L);
+
+        // then
+        final ArgumentCaptor<BidRequest> captor = ArgumentCaptor.forClass(BidRequest.class);
+        verify(ortb2RequestFactory).enrichAuctionContext(any(), any(), captor.capture(), anyLong());
+        assertThat(captor.getValue().getId()).isEqualTo("hook");
+    }
+
     @Test
     public void shouldReturnFailedFutureIfEidsPermissionsBiddersContainsWrongDataType() {
         // given
@@ -519,7 +616,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putArray("eidpermissions");
         arrayNode.add(eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        given(requestBody.buffer()).willReturn(Buffer.buffer(requestNode.toString()));
 
         // when
         final Future<?> result = target.parseRequest(routingContext, 0L);
@@ -793,7 +890,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
 
     private void givenBidRequest(BidRequest bidRequest) {
         try {
-            given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(bidRequest));
+            given(requestBody.buffer()).willReturn(Buffer.buffer(mapper.writeValueAsString(bidRequest)));
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -830,12 +927,12 @@ public class AuctionRequestFactoryTest extends VertxTest {
         }
     }
 
-    private static Future<HttpRequestContext> toHttpRequest(RoutingContext routingContext, String body) {
+    private static Future<HttpRequestContext> toHttpRequest(RoutingContext routingContext, HttpRequestBody body) {
         return Future.succeededFuture(HttpRequestContext.builder()
                 .absoluteUri(routingContext.request().absoluteURI())
                 .queryParams(toCaseInsensitiveMultiMap(routingContext.queryParams()))
                 .headers(toCaseInsensitiveMultiMap(routingContext.request().headers()))
-                .body(body)
+                .requestBody(body)
                 .scheme(routingContext.request().scheme())
                 .remoteHost(routingContext.request().remoteAddress().host())
                 .build());
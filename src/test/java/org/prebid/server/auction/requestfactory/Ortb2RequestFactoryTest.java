@@ -52,6 +52,7 @@ import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestBody;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.privacy.ccpa.Ccpa;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
@@ -147,7 +148,7 @@ public class Ortb2RequestFactoryTest extends VertxTest {
         given(hookStageExecutor.executeEntrypointStage(any(), any(), any(), any()))
                 .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
                         false,
-                        EntrypointPayloadImpl.of(
+                        EntrypointPayloadImpl.ofRequestBody(
                                 invocation.getArgument(0),
                                 invocation.getArgument(1),
                                 invocation.getArgument(2)))));
@@ -1102,7 +1103,8 @@ public class Ortb2RequestFactoryTest extends VertxTest {
                 AuctionContext.builder().hookExecutionContext(hookExecutionContext).build();
 
         // when
-        final Future<HttpRequestContext> result = target.executeEntrypointHooks(routingContext, "", auctionContext);
+        final Future<HttpRequestContext> result = target.executeEntrypointHooks(
+                routingContext, HttpRequestBody.of(""), auctionContext);
 
         // then
         final HttpRequestContext httpRequest = result.result();
@@ -1131,7 +1133,7 @@ public class Ortb2RequestFactoryTest extends VertxTest {
                 AuctionContext.builder().hookExecutionContext(hookExecutionContext).build();
 
         // when
-        final Future<?> result = target.executeEntrypointHooks(routingContext, "", auctionContext);
+        final Future<?> result = target.executeEntrypointHooks(routingContext, HttpRequestBody.of(""), auctionContext);
 
         // then
         assertThat(result).isFailed();
@@ -12,8 +12,15 @@ import org.prebid.server.bidder.model.Price;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestBidAdjustmentsRule;
 import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+import org.prebid.server.util.dsl.config.PrebidConfigParameter;
+import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
+import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
+import org.prebid.server.util.dsl.config.impl.SimpleParameters;
+import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -218,6 +225,49 @@ public class BidAdjustmentsResolverTest extends VertxTest {
         verifyNoInteractions(currencyService);
     }
 
+    @Test
+    public void resolveShouldPickRulesInTheSameOrderAsMostAccurateCombinationStrategy() {
+        // given
+        final List<String> allRules = List.of(
+                "banner|bidderName|dealId", "banner|bidderName|*", "banner|*|dealId", "*|bidderName|dealId",
+                "banner|*|*", "*|bidderName|*", "*|*|dealId", "*|*|*");
+        final MostAccurateCombinationStrategy strategy = new MostAccurateCombinationStrategy();
+
+        for (int subset = 1; subset < 1 << allRules.size(); subset++) {
+            final Map<String, List<ExtRequestBidAdjustmentsRule>> rules = new HashMap<>();
+            for (int i = 0; i < allRules.size(); i++) {
+                if ((subset & 1 << i) != 0) {
+                    rules.put(allRules.get(i), List.of(givenStatic(String.valueOf(i), "USD")));
+                }
+            }
+            final BidAdjustments givenBidAdjustments = BidAdjustments.of(rules);
+
+            for (String dealId : Arrays.asList("dealId", null)) {
+                final String expectedRule = strategy.match(
+                        SimpleSource.of("*", "|", rules.keySet()),
+                        SimpleParameters.of(List.of(
+                                SimpleDirectParameter.of("banner"),
+                                SimpleDirectParameter.of("bidderName"),
+                                dealId != null ? SimpleDirectParameter.of(dealId) : PrebidConfigParameter.wildcard())));
+
+                // when
+                final Price actual = target.resolve(
+                        Price.of("EUR", new BigDecimal("-1")),
+                        BidRequest.builder().build(),
+                        givenBidAdjustments,
+                        ImpMediaType.banner,
+                        "bidderName",
+                        dealId);
+
+                // then
+                final Price expected = expectedRule != null
+                        ? Price.of("USD", new BigDecimal(allRules.indexOf(expectedRule)))
+                        : Price.of("EUR", new BigDecimal("-1"));
+                assertThat(actual).isEqualTo(expected);
+            }
+        }
+    }
+
     private static ExtRequestBidAdjustmentsRule givenStatic(String value, String currency) {
         return ExtRequestBidAdjustmentsRule.builder()
                 .adjType(STATIC)
@@ -376,6 +376,85 @@ public class BidAdjustmentsRetrieverTest extends VertxTest {
         assertThat(debugMessages).isEmpty();
     }
 
+    @Test
+    public void retrieveShouldReuseBidAdjustmentsOfTheSameAccountWhenRequestAdjustmentsAreAbsent()
+            throws JsonProcessingException {
+
+        // given
+        final String accountAdjustments = """
+                {
+                  "mediatype": {
+                    "banner": {
+                      "*": {
+                        "*": [
+                          {
+                            "adjtype": "cpm",
+                            "value": 0.1,
+                            "currency": "USD"
+                          }
+                        ]
+                      }
+                    }
+                  }
+                }
+                """;
+
+        final ObjectNode givenAccountAdjustments = (ObjectNode) mapper.readTree(accountAdjustments);
+
+        // when
+        final BidAdjustments first = target.retrieve(givenAuctionContext(
+                null, givenAccountAdjustments, new ArrayList<>(), true));
+        final BidAdjustments second = target.retrieve(givenAuctionContext(
+                mapper.createObjectNode(), givenAccountAdjustments, new ArrayList<>(), true));
+        final BidAdjustments otherAccountVersion = target.retrieve(givenAuctionContext(
+                null, givenAccountAdjustments.deepCopy(), new ArrayList<>(), true));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(otherAccountVersion).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    public void retrieveShouldReportInvalidAccountAdjustmentsOnEachRequest() throws JsonProcessingException {
+        // given
+        final String accountAdjustments = """
+                {
+                  "mediatype": {
+                    "audio": {
+                      "bidder": {
+                        "*": [
+                          {
+                            "adjtype": "invalid",
+                            "value": 0.1,
+                            "currency": "USD"
+                          }
+                        ]
+                      }
+                    }
+                  }
+                }
+                """;
+
+        final ObjectNode givenAccountAdjustments = (ObjectNode) mapper.readTree(accountAdjustments);
+        final List<String> firstDebugMessages = new ArrayList<>();
+        final List<String> secondDebugMessages = new ArrayList<>();
+
+        // when
+        target.retrieve(givenAuctionContext(null, givenAccountAdjustments, firstDebugMessages, true));
+        final BidAdjustments actual = target.retrieve(givenAuctionContext(
+                null, givenAccountAdjustments, secondDebugMessages, true));
+
+        // then
+        assertThat(actual).isEqualTo(BidAdjustments.of(Collections.emptyMap()));
+        assertThat(secondDebugMessages)
+                .isEqualTo(firstDebugMessages)
+                .containsExactly(
+                        "bid adjustment from request was invalid: the found rule "
+                                + "[adjtype=UNKNOWN, value=0.1, currency=USD] in audio.bidder.* is invalid",
+                        "bid adjustment from account was invalid: the found rule "
+                                + "[adjtype=UNKNOWN, value=0.1, currency=USD] in audio.bidder.* is invalid");
+    }
+
     private static AuctionContext givenAuctionContext(ObjectNode requestBidAdjustments,
                                                       ObjectNode accountBidAdjustments,
                                                       List<String> debugWarnings,
@@ -55,6 +55,21 @@ public class BidAdjustmentsTest {
 
     }
 
+    @Test
+    public void rulesForShouldReturnRulesOfExactlyMatchingMediaTypeBidderAndDealId() {
+        // given
+        final List<ExtRequestBidAdjustmentsRule> givenRules = List.of(givenRule("1"));
+        final BidAdjustments target = BidAdjustments.of(Map.of(
+                "banner|*|dealId", givenRules,
+                "*|*|*", List.of(givenRule("2"))));
+
+        // when and then
+        assertThat(target.rulesFor("banner", "*", "dealId")).isSameAs(givenRules);
+        assertThat(target.rulesFor("banner", "bidderName", "dealId")).isNull();
+        assertThat(target.rulesFor("video", "*", "dealId")).isNull();
+        assertThat(target.rulesFor("banner", "*", "*")).isNull();
+    }
+
     private static ExtRequestBidAdjustmentsRule givenRule(String value) {
         return ExtRequestBidAdjustmentsRule.builder()
                 .adjType(CPM)
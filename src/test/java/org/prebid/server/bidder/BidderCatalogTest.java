@@ -9,7 +9,9 @@ import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +37,22 @@ public class BidderCatalogTest {
         assertThat(target.isValidName("bidDER")).isTrue();
     }
 
+    @Test
+    public void isValidNameShouldReturnTrueForKnownBidderAsConfiguredAndInLowerCase() {
+        // given
+        final BidderDeps bidderDeps = BidderDeps.of(asList(
+                BidderInstanceDeps.builder().name("BIDder").deprecatedNames(emptyList()).build(),
+                BidderInstanceDeps.builder().name("other").deprecatedNames(emptyList()).build()));
+        target = new BidderCatalog(singletonList(bidderDeps));
+
+        // when and then
+        assertThat(target.isValidName("BIDder")).isTrue();
+        assertThat(target.isValidName("bidder")).isTrue();
+        assertThat(target.isValidName("OTHER")).isTrue();
+        assertThat(target.isValidName("unknown")).isFalse();
+        assertThat(target.isValidName(null)).isFalse();
+    }
+
     @Test
     public void isValidNameShouldReturnFalseForUnknownBidder() {
         // given
@@ -346,6 +364,52 @@ public class BidderCatalogTest {
         assertThat(target.bidderByName("bidDER")).isSameAs(bidder);
     }
 
+    @Test
+    public void bidderByNameShouldReturnBidderCreatedAtStartupWhenLazyInitIsDisabled() {
+        // given
+        final AtomicInteger creations = new AtomicInteger();
+        final BidderDeps bidderDeps = BidderDeps.of(singletonList(BidderInstanceDeps.builder()
+                .name("bidder")
+                .deprecatedNames(emptyList())
+                .bidderCreator(() -> {
+                    creations.incrementAndGet();
+                    return bidder;
+                })
+                .build()));
+
+        // when
+        target = new BidderCatalog(singletonList(bidderDeps), false);
+
+        // then
+        assertThat(creations).hasValue(1);
+        assertThat(target.bidderByName("bidder")).isSameAs(bidder);
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    public void bidderByNameShouldCreateBidderOnlyOnFirstUseWhenLazyInitIsEnabled() {
+        // given
+        final AtomicInteger creations = new AtomicInteger();
+        final BidderDeps bidderDeps = BidderDeps.of(singletonList(BidderInstanceDeps.builder()
+                .name("BIDder")
+                .deprecatedNames(emptyList())
+                .bidderCreator(() -> {
+                    creations.incrementAndGet();
+                    return bidder;
+                })
+                .build()));
+
+        // when
+        target = new BidderCatalog(singletonList(bidderDeps), true);
+
+        // then
+        assertThat(creations).hasValue(0);
+        assertThat(target.isValidName("bidder")).isTrue();
+        assertThat(target.bidderByName("bidDER")).isSameAs(bidder);
+        assertThat(target.bidderByName("bidder")).isSameAs(bidder);
+        assertThat(creations).hasValue(1);
+    }
+
     @Test
     public void nameByVendorIdShouldReturnBidderNameForVendorId() {
         // given
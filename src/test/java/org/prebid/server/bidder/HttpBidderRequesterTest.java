@@ -38,6 +38,8 @@ import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
+import org.prebid.server.tracing.Trace;
+import org.prebid.server.tracing.Tracer;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
@@ -304,6 +306,69 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidRejectionTracker, never()).reject(anyList(), any());
     }
 
+    @Test
+    public void shouldSendTraceparentHeaderWhenBidderRequestIsTraced() {
+        // given
+        givenHttpClientResponse(200, null);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(
+                singletonList(givenSimpleHttpRequest(identity())),
+                emptyList()));
+
+        final Trace trace = new Tracer(true, 1.0, 1, Clock.systemUTC()).start(null);
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .trace(trace)
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        final ArgumentCaptor<MultiMap> headersCaptor = ArgumentCaptor.forClass(MultiMap.class);
+        verify(httpClient).request(any(), anyString(), headersCaptor.capture(), any(byte[].class), anyLong());
+        assertThat(headersCaptor.getValue().get(HttpUtil.TRACEPARENT_HEADER))
+                .matches("00-%s-[0-9a-f]{16}-01".formatted(trace.getTraceId()));
+    }
+
+    @Test
+    public void shouldNotSendTraceparentHeaderWhenBidderRequestIsNotTraced() {
+        // given
+        givenHttpClientResponse(200, null);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(
+                singletonList(givenSimpleHttpRequest(identity())),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        final ArgumentCaptor<MultiMap> headersCaptor = ArgumentCaptor.forClass(MultiMap.class);
+        verify(httpClient).request(any(), anyString(), headersCaptor.capture(), any(byte[].class), anyLong());
+        assertThat(headersCaptor.getValue().contains(HttpUtil.TRACEPARENT_HEADER)).isFalse();
+    }
+
     @Test
     public void shouldSendMultipleRequests() throws JsonProcessingException {
         // given
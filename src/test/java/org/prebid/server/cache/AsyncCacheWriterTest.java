@@ -0,0 +1,140 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncCacheWriterTest {
+
+    private static final String URL = "http://cache-service/cache";
+    private static final MultiMap HEADERS = MultiMap.caseInsensitiveMultiMap();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+
+    private Clock clock;
+
+    private AsyncCacheWriter target;
+
+    @BeforeEach
+    public void setUp() {
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+
+        target = new AsyncCacheWriter(
+                vertx, httpClient, 1, 1000L, 100L, FixedIntervalRetryPolicy.limited(10L, 2), metrics, clock);
+    }
+
+    @Test
+    public void writeShouldPostBodyAndUpdateMetricsOnSuccess() {
+        // given
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "{}")));
+
+        // when
+        final boolean result = target.write(URL, HEADERS, Buffer.buffer("body"), "accountId");
+
+        // then
+        assertThat(result).isTrue();
+        verify(httpClient).request(eq(HttpMethod.POST), eq(URL), any(), eq(Buffer.buffer("body")), eq(1000L));
+        verify(metrics).updateCacheRequestSuccessTime(eq("accountId"), anyLong());
+        verify(metrics).updateCacheAsyncWriteMetric(MetricName.ok);
+    }
+
+    @Test
+    public void writeShouldRetryFailedWriteAccordingToRetryPolicy() {
+        // given
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(503, null, null)));
+        given(vertx.setTimer(eq(10L), any())).willAnswer(withReturnObjectAndPassObjectToHandler(0L, 1L, 1));
+
+        // when
+        final boolean result = target.write(URL, HEADERS, Buffer.buffer("body"), "accountId");
+
+        // then
+        assertThat(result).isTrue();
+        verify(httpClient, times(3))
+                .request(eq(HttpMethod.POST), eq(URL), any(), eq(Buffer.buffer("body")), eq(1000L));
+        verify(metrics, times(2)).updateCacheAsyncWriteMetric(MetricName.retry);
+        verify(metrics).updateCacheRequestFailedTime(eq("accountId"), anyLong());
+        verify(metrics).updateCacheAsyncWriteMetric(MetricName.err);
+    }
+
+    @Test
+    public void writeShouldRejectWriteWhenMaxInFlightWritesIsReached() {
+        // given
+        final Promise<HttpClientResponse> pendingResponse = Promise.promise();
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
+                .willReturn(pendingResponse.future());
+
+        // when
+        final boolean firstResult = target.write(URL, HEADERS, Buffer.buffer("body1"), "accountId");
+        final boolean secondResult = target.write(URL, HEADERS, Buffer.buffer("body2"), "accountId");
+
+        // then
+        assertThat(firstResult).isTrue();
+        assertThat(secondResult).isFalse();
+        verify(httpClient, never())
+                .request(eq(HttpMethod.POST), anyString(), any(), eq(Buffer.buffer("body2")), anyLong());
+        verify(metrics).updateCacheAsyncWriteMetric(MetricName.dropped);
+    }
+
+    @Test
+    public void writeShouldAcceptNewWriteWhenPreviousWriteIsCompleted() {
+        // given
+        final Promise<HttpClientResponse> pendingResponse = Promise.promise();
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
+                .willReturn(pendingResponse.future());
+
+        // when
+        target.write(URL, HEADERS, Buffer.buffer("body1"), "accountId");
+        pendingResponse.complete(HttpClientResponse.of(200, null, "{}"));
+        final boolean result = target.write(URL, HEADERS, Buffer.buffer("body2"), "accountId");
+
+        // then
+        assertThat(result).isTrue();
+        verify(metrics, never()).updateCacheAsyncWriteMetric(MetricName.dropped);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, V> Answer<Object> withReturnObjectAndPassObjectToHandler(T obj, V ret, int index) {
+        return inv -> {
+            // invoking handler right away passing mock to it
+            ((Handler<T>) inv.getArgument(index)).handle(obj);
+            return ret;
+        };
+    }
+}
@@ -0,0 +1,182 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.model.CachePutResponse;
+import org.prebid.server.cache.model.EncodedBidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchingCacheClientTest extends VertxTest {
+
+    private static final String URL = "http://cache-service/cache";
+
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void putShouldMergeConcurrentPutsAndSplitResponse() throws Exception {
+        // given
+        final BatchingCacheClient target = givenBatchingCacheClient(10, 20L);
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
+                .willReturn(Future.succeededFuture(
+                HttpClientResponse.of(200, null, mapper.writeValueAsString(BidCacheResponse.of(List.of(
+                        CacheObject.of("uuid1"), CacheObject.of("uuid2"), CacheObject.of("uuid3")))))));
+
+        // when
+        final CompletableFuture<List<CachePutResponse>> responses = new CompletableFuture<>();
+        vertx.runOnContext(ignored -> Future.all(
+                        target.put(givenEncodedRequest(givenPutObject("1")), 1000L),
+                        target.put(givenEncodedRequest(givenPutObject("2"), givenPutObject("3")), 1000L))
+                .map(result -> List.<CachePutResponse>of(result.resultAt(0), result.resultAt(1)))
+                .onComplete(result -> responses.complete(result.result())));
+
+        // then
+        final List<CachePutResponse> result = responses.get(5, TimeUnit.SECONDS);
+        assertThat(toUuids(result.get(0))).containsExactly("uuid1");
+        assertThat(toUuids(result.get(1))).containsExactly("uuid2", "uuid3");
+
+        final ArgumentCaptor<Buffer> bodyCaptor = ArgumentCaptor.forClass(Buffer.class);
+        verify(httpClient).request(eq(HttpMethod.POST), eq(URL), any(), bodyCaptor.capture(), anyLong());
+        assertThat(mapper.readValue(bodyCaptor.getValue().toString(), BidCacheRequest.class).getPuts())
+                .extracting(BidPutObject::getAid)
+                .containsExactly("1", "2", "3");
+
+        verify(metrics).updateCacheBatchSize(2, 3);
+    }
+
+    @Test
+    public void putShouldSendBatchWithoutWaitingWhenMaxSizeIsReached() throws Exception {
+        // given
+        final BatchingCacheClient target = givenBatchingCacheClient(1, 60000L);
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
+                .willReturn(Future.succeededFuture(
+                HttpClientResponse.of(200, null, mapper.writeValueAsString(
+                        BidCacheResponse.of(List.of(CacheObject.of("uuid1")))))));
+
+        // when
+        final CompletableFuture<CachePutResponse> response = new CompletableFuture<>();
+        vertx.runOnContext(ignored -> target.put(givenEncodedRequest(givenPutObject("1")), 1000L)
+                .onSuccess(response::complete));
+
+        // then
+        assertThat(toUuids(response.get(5, TimeUnit.SECONDS))).containsExactly("uuid1");
+        verify(metrics).updateCacheBatchSize(1, 1);
+    }
+
+    @Test
+    public void putShouldPassWholeResponseWhenItCouldNotBeSplit() throws Exception {
+        // given
+        final BatchingCacheClient target = givenBatchingCacheClient(1, 20L);
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(503, null, "unavailable")));
+
+        // when
+        final CompletableFuture<CachePutResponse> response = new CompletableFuture<>();
+        vertx.runOnContext(ignored -> target.put(givenEncodedRequest(givenPutObject("1")), 1000L)
+                .onSuccess(response::complete));
+
+        // then
+        final CachePutResponse result = response.get(5, TimeUnit.SECONDS);
+        assertThat(result.getStatusCode()).isEqualTo(503);
+        assertThat(result.getBody()).isEqualTo("unavailable");
+        assertThat(result.getBidCacheResponse()).isNull();
+    }
+
+    @Test
+    public void putShouldFailAllMergedPutsWhenRequestFails() throws Exception {
+        // given
+        final BatchingCacheClient target = givenBatchingCacheClient(10, 20L);
+        final Promise<HttpClientResponse> httpResponse = Promise.promise();
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
+                .willReturn(httpResponse.future());
+
+        // when
+        final CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        vertx.runOnContext(ignored -> {
+            target.put(givenEncodedRequest(givenPutObject("1")), 1000L);
+            target.put(givenEncodedRequest(givenPutObject("2")), 1000L).onFailure(failure::complete);
+        });
+        vertx.setTimer(100L, ignored -> httpResponse.fail("connection refused"));
+
+        // then
+        assertThat(failure.get(5, TimeUnit.SECONDS)).hasMessage("connection refused");
+        verify(metrics, times(2)).updateCacheBatchQueueTime(anyLong());
+        verify(metrics).updateCacheBatchSize(eq(2), anyInt());
+    }
+
+    private BatchingCacheClient givenBatchingCacheClient(int maxBatchSize, long maxBatchDelayMs) {
+        return new BatchingCacheClient(
+                vertx,
+                httpClient,
+                URL,
+                MultiMap.caseInsensitiveMultiMap(),
+                maxBatchSize,
+                maxBatchDelayMs,
+                jacksonMapper,
+                metrics,
+                Clock.systemUTC());
+    }
+
+    private EncodedBidCacheRequest givenEncodedRequest(BidPutObject... putObjects) {
+        return new BidCacheRequestEncoder(jacksonMapper).encode(List.of(putObjects));
+    }
+
+    private static BidPutObject givenPutObject(String aid) {
+        return BidPutObject.builder().type("json").aid(aid).build();
+    }
+
+    private static List<String> toUuids(CachePutResponse response) {
+        assertThat(response.getBody()).isNull();
+        return response.getBidCacheResponse().getResponses().stream()
+                .map(CacheObject::getUuid)
+                .toList();
+    }
+}
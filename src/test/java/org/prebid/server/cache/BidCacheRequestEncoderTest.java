@@ -0,0 +1,108 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.model.EncodedBidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BidCacheRequestEncoderTest extends VertxTest {
+
+    private final BidCacheRequestEncoder target = new BidCacheRequestEncoder(jacksonMapper);
+
+    @Test
+    public void encodeShouldProduceSameJsonAsBidCacheRequestSerialization() {
+        // given
+        final List<BidPutObject> putObjects = List.of(
+                BidPutObject.builder()
+                        .type("json")
+                        .value(mapper.createObjectNode().put("adm", "<div>\"ad\"</div>").put("price", 1.5))
+                        .expiry(10)
+                        .ttlseconds(20)
+                        .aid("auctionId")
+                        .key("key")
+                        .bidid("bidId")
+                        .bidder("bidder")
+                        .timestamp(1000L)
+                        .build(),
+                BidPutObject.builder()
+                        .type("xml")
+                        .value(new TextNode("<VAST version=\"3.0\">ünïcode</VAST>"))
+                        .build());
+
+        // when
+        final EncodedBidCacheRequest result = target.encode(putObjects);
+
+        // then
+        assertThat(result.getBody().toString())
+                .isEqualTo(jacksonMapper.encodeToString(BidCacheRequest.of(putObjects)));
+    }
+
+    @Test
+    public void encodeShouldReturnNumberOfPutObjects() {
+        // given
+        final List<BidPutObject> putObjects = List.of(
+                BidPutObject.builder().type("json").value(mapper.createObjectNode().put("a", "b")).build(),
+                BidPutObject.builder().type("xml").value(new TextNode("<a href=\"ü\"/>")).build());
+
+        // when
+        final EncodedBidCacheRequest result = target.encode(putObjects);
+
+        // then
+        assertThat(result.getPutObjectsCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void mergeShouldCombinePutObjectsOfAllEncodedRequests() {
+        // given
+        final BidPutObject putObject1 = BidPutObject.builder().type("json").aid("1").build();
+        final BidPutObject putObject2 = BidPutObject.builder().type("json").aid("2").build();
+        final BidPutObject putObject3 = BidPutObject.builder().type("xml").aid("3").build();
+
+        final List<Buffer> bodies = List.of(
+                target.encode(List.of(putObject1)).getBody(),
+                target.encode(emptyList()).getBody(),
+                target.encode(List.of(putObject2, putObject3)).getBody());
+
+        // when
+        final Buffer result = target.merge(bodies);
+
+        // then
+        assertThat(result.toString())
+                .isEqualTo(jacksonMapper.encodeToString(
+                        BidCacheRequest.of(List.of(putObject1, putObject2, putObject3))));
+    }
+
+    @Test
+    public void mergeShouldReturnSameBufferWhenOnlyOneRequestIsGiven() {
+        // given
+        final Buffer body = target.encode(List.of(BidPutObject.builder().type("json").build())).getBody();
+
+        // when
+        final Buffer result = target.merge(List.of(body));
+
+        // then
+        assertThat(result).isSameAs(body);
+    }
+
+    @Test
+    public void mergeShouldFailWhenBodyIsNotEncodedRequest() {
+        // given
+        final List<Buffer> bodies = List.of(
+                target.encode(List.of(BidPutObject.builder().type("json").build())).getBody(),
+                Buffer.buffer("{\"puts\":{}}"));
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.merge(bodies))
+                .withMessage("Cache request body is not an encoded list of put objects");
+    }
+}
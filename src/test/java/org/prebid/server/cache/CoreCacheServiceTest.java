@@ -9,6 +9,8 @@ import com.iab.openrtb.request.Video;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,9 +22,11 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
 import org.prebid.server.cache.model.CacheInfo;
+import org.prebid.server.cache.model.CachePutResponse;
 import org.prebid.server.cache.model.CacheServiceResult;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cache.proto.request.bid.BidCacheRequest;
@@ -89,6 +93,12 @@ public class CoreCacheServiceTest extends VertxTest {
     private Metrics metrics;
     @Mock
     private UUIDIdGenerator idGenerator;
+    @Mock
+    private AsyncCacheWriter asyncCacheWriter;
+    @Mock
+    private LocalCreativeStore localCreativeStore;
+    @Mock
+    private BatchingCacheClient batchingCacheClient;
 
     private Clock clock;
 
@@ -116,7 +126,10 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null,
+                null);
 
         eventsContext = EventsContext.builder().auctionId("auctionId").build();
 
@@ -125,7 +138,8 @@ public class CoreCacheServiceTest extends VertxTest {
 
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
-        given(httpClient.post(anyString(), any(), any(), anyLong())).willReturn(Future.succeededFuture(
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
+                .willReturn(Future.succeededFuture(
                 HttpClientResponse.of(200, null, mapper.writeValueAsString(
                         BidCacheResponse.of(singletonList(CacheObject.of("uuid1")))))));
     }
@@ -160,7 +174,7 @@ public class CoreCacheServiceTest extends VertxTest {
                 eventsContext);
 
         // then
-        verify(httpClient).post(anyString(), any(), any(), eq(500L));
+        verify(httpClient).request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), eq(500L));
     }
 
     @Test
@@ -390,7 +404,10 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null,
+                null);
         final BidInfo bidinfo = givenBidInfo(builder -> builder.id("bidId1"));
 
         // when
@@ -429,6 +446,22 @@ public class CoreCacheServiceTest extends VertxTest {
                 .containsEntry(bidinfo.getBid(), CacheInfo.of("uuid1", null, null, null));
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldNotIncludeRequestBodyInHttpCallWhenDebugIsDisabled() {
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(identity())),
+                givenAuctionContext().toBuilder().debugContext(DebugContext.empty()).build(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getHttpCall().getRequestBody()).isNull();
+        assertThat(future.result().getHttpCall().getResponseBody()).isNotNull();
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldPerformHttpRequestWithExpectedBody() throws IOException {
         // given
@@ -619,6 +652,146 @@ public class CoreCacheServiceTest extends VertxTest {
                         entry(bidInfo2.getBid(), CacheInfo.of("uuid2", null, null, null)));
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldReturnGeneratedUuidsWithoutWaitingForCacheWhenAsyncWriteIsEnabled()
+            throws MalformedURLException {
+
+        // given
+        target = givenCoreCacheServiceWithAsyncWrite();
+        given(asyncCacheWriter.write(anyString(), any(), any(Buffer.class), anyString())).willReturn(true);
+        given(idGenerator.generateId()).willReturn("generatedUuid1", "generatedUuid2");
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"), BidType.video, "bidder1");
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .shouldCacheVideoBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("generatedUuid1", "generatedUuid2", null, null)));
+        assertThat(future.result().getHttpCall().getRequestBody())
+                .contains("\"key\":\"generatedUuid1\"", "\"key\":\"generatedUuid2\"");
+
+        verify(asyncCacheWriter).write(eq("http://cache-service/cache"), any(), any(Buffer.class), eq("accountId"));
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldFallbackToSynchronousCacheCallWhenAsyncWriteIsRejected()
+            throws IOException {
+
+        // given
+        target = givenCoreCacheServiceWithAsyncWrite();
+        given(asyncCacheWriter.write(anyString(), any(), any(Buffer.class), anyString())).willReturn(false);
+        given(idGenerator.generateId()).willReturn("generatedUuid1");
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("uuid1", null, null, null)));
+        assertThat(captureBidCacheRequest().getPuts())
+                .extracting(BidPutObject::getKey)
+                .containsExactly("generatedUuid1");
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldStoreCachedCreativesInLocalStoreWithReturnedUuids()
+            throws MalformedURLException {
+
+        // given
+        target = new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                null,
+                false,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                null,
+                localCreativeStore,
+                null);
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+
+        // when
+        target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        final ArgumentCaptor<BidPutObject> putObjectCaptor = ArgumentCaptor.forClass(BidPutObject.class);
+        verify(localCreativeStore).put(eq("uuid1"), putObjectCaptor.capture());
+        assertThat(putObjectCaptor.getValue().getType()).isEqualTo("json");
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldSendPutObjectsThroughBatchingClientWhenConfigured()
+            throws MalformedURLException, JsonProcessingException {
+
+        // given
+        target = new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                null,
+                false,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                null,
+                null,
+                batchingCacheClient);
+
+        given(batchingCacheClient.put(any(), anyLong())).willReturn(Future.succeededFuture(CachePutResponse.of(
+                BidCacheResponse.of(singletonList(CacheObject.of("batchedUuid1"))))));
+
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("batchedUuid1", null, null, null)));
+        verifyNoInteractions(httpClient);
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldUpdateVastXmlPutObjectWithKeyWhenBidHasCategoryDuration() throws IOException {
         // given
@@ -815,7 +988,10 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null,
+                null);
 
         final BidPutObject firstBidPutObject = BidPutObject.builder()
                 .type("json")
@@ -839,6 +1015,25 @@ public class CoreCacheServiceTest extends VertxTest {
                 .isEqualTo("ApiKey");
     }
 
+    private CoreCacheService givenCoreCacheServiceWithAsyncWrite() throws MalformedURLException {
+        return new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                null,
+                false,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                asyncCacheWriter,
+                null,
+                null);
+    }
+
     private AuctionContext givenAuctionContext(UnaryOperator<Account.AccountBuilder> accountCustomizer,
                                                UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
 
@@ -851,6 +1046,7 @@ public class CoreCacheServiceTest extends VertxTest {
                 .account(accountCustomizer.apply(accountBuilder).build())
                 .bidRequest(bidRequestCustomizer.apply(bidRequestBuilder).build())
                 .timeoutContext(TimeoutContext.of(0, timeout, 0))
+                .debugContext(DebugContext.of(true, false, null))
                 .build();
     }
 
@@ -912,24 +1108,24 @@ public class CoreCacheServiceTest extends VertxTest {
 
     private void givenHttpClientReturnsResponse(int statusCode, String response) {
         final HttpClientResponse httpClientResponse = HttpClientResponse.of(statusCode, null, response);
-        given(httpClient.post(anyString(), any(), any(), anyLong()))
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
                 .willReturn(Future.succeededFuture(httpClientResponse));
     }
 
     private void givenHttpClientProducesException(Throwable throwable) {
-        given(httpClient.post(anyString(), any(), any(), anyLong()))
+        given(httpClient.request(eq(HttpMethod.POST), anyString(), any(), any(Buffer.class), anyLong()))
                 .willReturn(Future.failedFuture(throwable));
     }
 
     private BidCacheRequest captureBidCacheRequest() throws IOException {
-        final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        verify(httpClient).post(anyString(), any(), captor.capture(), anyLong());
-        return mapper.readValue(captor.getValue(), BidCacheRequest.class);
+        final ArgumentCaptor<Buffer> captor = ArgumentCaptor.forClass(Buffer.class);
+        verify(httpClient).request(eq(HttpMethod.POST), anyString(), any(), captor.capture(), anyLong());
+        return mapper.readValue(captor.getValue().toString(), BidCacheRequest.class);
     }
 
     private MultiMap captureBidCacheRequestHeaders() {
         final ArgumentCaptor<MultiMap> captor = ArgumentCaptor.forClass(MultiMap.class);
-        verify(httpClient).post(anyString(), captor.capture(), anyString(), anyLong());
+        verify(httpClient).request(eq(HttpMethod.POST), anyString(), captor.capture(), any(Buffer.class), anyLong());
         return captor.getValue();
     }
 
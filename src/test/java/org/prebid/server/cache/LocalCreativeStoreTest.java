@@ -0,0 +1,84 @@
+package org.prebid.server.cache;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cache.model.CacheTtl;
+import org.prebid.server.cache.model.LocalCreative;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LocalCreativeStoreTest extends VertxTest {
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void getShouldReturnStoredCreative() {
+        // given
+        final LocalCreativeStore target = new LocalCreativeStore(1024, 300, CacheTtl.empty(), metrics);
+        target.put("uuid1", BidPutObject.builder().type("xml").value(new TextNode("<VAST/>")).ttlseconds(60).build());
+
+        // when
+        final LocalCreative result = target.get("uuid1");
+
+        // then
+        assertThat(result.getType()).isEqualTo("xml");
+        assertThat(new String(result.getValue(), StandardCharsets.UTF_8)).isEqualTo("<VAST/>");
+        assertThat(result.getTtlSeconds()).isEqualTo(60);
+        verify(metrics).updateCacheLocalStoreMetric(MetricName.hit);
+    }
+
+    @Test
+    public void putShouldStoreJsonCreativeAsJson() {
+        // given
+        final LocalCreativeStore target = new LocalCreativeStore(1024, 300, CacheTtl.empty(), metrics);
+
+        // when
+        target.put("uuid1", BidPutObject.builder()
+                .type("json")
+                .value(mapper.createObjectNode().put("adm", "adm1"))
+                .build());
+
+        // then
+        assertThat(new String(target.get("uuid1").getValue(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"adm\":\"adm1\"}");
+    }
+
+    @Test
+    public void putShouldResolveTtlFromDefaultCacheTtlAndCapItWithMaxTtl() {
+        // given
+        final LocalCreativeStore target = new LocalCreativeStore(1024, 100, CacheTtl.of(50, 500), metrics);
+
+        // when
+        target.put("banner", BidPutObject.builder().type("json").value(new TextNode("banner")).build());
+        target.put("video", BidPutObject.builder().type("xml").value(new TextNode("video")).build());
+
+        // then
+        assertThat(target.get("banner").getTtlSeconds()).isEqualTo(50);
+        assertThat(target.get("video").getTtlSeconds()).isEqualTo(100);
+    }
+
+    @Test
+    public void getShouldReturnNullAndUpdateMissMetricForUnknownUuid() {
+        // given
+        final LocalCreativeStore target = new LocalCreativeStore(1024, 300, CacheTtl.empty(), metrics);
+
+        // when
+        final LocalCreative result = target.get("unknown");
+
+        // then
+        assertThat(result).isNull();
+        verify(metrics).updateCacheLocalStoreMetric(MetricName.miss);
+    }
+}
@@ -0,0 +1,71 @@
+package org.prebid.server.currency;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CurrencyRateMatrixTest {
+
+    private static final Map<String, Map<String, BigDecimal>> RATES = Map.of(
+            "USD", Map.of("EUR", new BigDecimal("0.91"), "GBP", new BigDecimal("0.79")),
+            "JPY", Map.of("EUR", new BigDecimal("0.0062")),
+            "CHF", Map.of("GBP", new BigDecimal("0.88"), "SEK", new BigDecimal("11.9")));
+
+    @Test
+    public void getRateShouldReturnStraightRate() {
+        assertThat(CurrencyRateMatrix.of(RATES).getRate("USD", "EUR")).isEqualTo(new BigDecimal("0.91"));
+    }
+
+    @Test
+    public void getRateShouldReturnReverseRate() {
+        assertThat(CurrencyRateMatrix.of(RATES).getRate("EUR", "USD")).isEqualTo(new BigDecimal("1.099"));
+    }
+
+    @Test
+    public void getRateShouldReturnIntermediateRate() {
+        // USD : GBP - 0.79 and CHF : GBP - 0.88
+        assertThat(CurrencyRateMatrix.of(RATES).getRate("USD", "CHF")).isEqualTo(new BigDecimal("0.898"));
+    }
+
+    @Test
+    public void getRateShouldReturnCrossRate() {
+        // USD : EUR - 0.91 and USD : GBP - 0.79
+        assertThat(CurrencyRateMatrix.of(RATES).getRate("EUR", "GBP")).isEqualTo(new BigDecimal("0.868"));
+    }
+
+    @Test
+    public void getRateShouldReturnNullIfRateCannotBeResolved() {
+        // given
+        final CurrencyRateMatrix target = CurrencyRateMatrix.of(RATES);
+
+        // when and then
+        assertThat(target.getRate("JPY", "SEK")).isNull();
+        assertThat(target.getRate("USD", "AUD")).isNull();
+        assertThat(target.getRate("AUD", "USD")).isNull();
+    }
+
+    @Test
+    public void getRateShouldReturnSameRatesAsResolvedOnEachUse() {
+        // given
+        final CurrencyRateMatrix target = CurrencyRateMatrix.of(RATES);
+        final List<String> currencies = List.of("USD", "EUR", "GBP", "JPY", "CHF", "SEK", "AUD");
+
+        // when and then
+        for (String fromCurrency : currencies) {
+            for (String toCurrency : currencies) {
+                assertThat(target.getRate(fromCurrency, toCurrency))
+                        .describedAs("%s to %s", fromCurrency, toCurrency)
+                        .isEqualTo(CurrencyRateMatrix.resolveRate(RATES, fromCurrency, toCurrency));
+            }
+        }
+    }
+
+    @Test
+    public void getRateShouldReturnNullForEmptyRates() {
+        assertThat(CurrencyRateMatrix.of(Map.of()).getRate("USD", "EUR")).isNull();
+    }
+}
@@ -0,0 +1,122 @@
+package org.prebid.server.geolocation;
+
+import io.vertx.core.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.auction.IpAddressHelper;
+import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingGeoLocationServiceTest {
+
+    private static final String IP = "80.215.195.122";
+    private static final String MASKED_IP = "80.215.195.0";
+
+    @Mock
+    private GeoLocationService wrappedGeoLocationService;
+    @Mock
+    private Metrics metrics;
+
+    private CachingGeoLocationService target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new CachingGeoLocationService(
+                wrappedGeoLocationService,
+                60,
+                100,
+                new IpAddressHelper(64, 56, singletonList("fe80::/10")),
+                metrics);
+    }
+
+    @Test
+    public void lookupShouldReturnCachedGeoInfoForSameIp() {
+        // given
+        final GeoInfo geoInfo = GeoInfo.builder().vendor("vendor").country("fr").build();
+        given(wrappedGeoLocationService.lookup(eq(MASKED_IP), any())).willReturn(Future.succeededFuture(geoInfo));
+
+        // when
+        target.lookup(IP, null);
+        final Future<GeoInfo> result = target.lookup(IP, null);
+
+        // then
+        assertThat(result.result()).isSameAs(geoInfo);
+        verify(wrappedGeoLocationService).lookup(eq(MASKED_IP), any());
+        verify(metrics).updateGeoLocationCacheMetric(false);
+        verify(metrics).updateGeoLocationCacheMetric(true);
+    }
+
+    @Test
+    public void lookupShouldNotCacheFailedLookup() {
+        // given
+        given(wrappedGeoLocationService.lookup(eq(MASKED_IP), any())).willReturn(Future.failedFuture("error"));
+
+        // when
+        target.lookup(IP, null);
+        final Future<GeoInfo> result = target.lookup(IP, null);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        verify(wrappedGeoLocationService, times(2)).lookup(eq(MASKED_IP), any());
+        verify(metrics, times(2)).updateGeoLocationCacheMetric(false);
+    }
+
+    @Test
+    public void lookupShouldReturnCachedGeoInfoForIpv4AddressFromSameNetwork() {
+        // given
+        final GeoInfo geoInfo = GeoInfo.builder().vendor("vendor").country("fr").build();
+        given(wrappedGeoLocationService.lookup(eq(MASKED_IP), any())).willReturn(Future.succeededFuture(geoInfo));
+
+        // when
+        target.lookup(IP, null);
+        final Future<GeoInfo> result = target.lookup("80.215.195.7", null);
+
+        // then
+        assertThat(result.result()).isSameAs(geoInfo);
+        verify(wrappedGeoLocationService).lookup(eq(MASKED_IP), any());
+    }
+
+    @Test
+    public void lookupShouldReturnCachedGeoInfoForIpv6AddressFromSameNetwork() {
+        // given
+        final GeoInfo geoInfo = GeoInfo.builder().vendor("vendor").country("fr").build();
+        given(wrappedGeoLocationService.lookup(eq("2001:db8:85a3:1200::"), any()))
+                .willReturn(Future.succeededFuture(geoInfo));
+
+        // when
+        target.lookup("2001:db8:85a3:1234:5678:8a2e:370:7334", null);
+        final Future<GeoInfo> result = target.lookup("2001:db8:85a3:12ff::1", null);
+
+        // then
+        assertThat(result.result()).isSameAs(geoInfo);
+        verify(wrappedGeoLocationService).lookup(eq("2001:db8:85a3:1200::"), any());
+    }
+
+    @Test
+    public void lookupShouldDelegateNullIpWithoutCacheMetric() {
+        // given
+        given(wrappedGeoLocationService.lookup(any(), any())).willReturn(Future.failedFuture("error"));
+
+        // when
+        final Future<GeoInfo> result = target.lookup(null, null);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        verify(wrappedGeoLocationService).lookup(eq(null), any());
+        verify(metrics, never()).updateGeoLocationCacheMetric(anyBoolean());
+    }
+}
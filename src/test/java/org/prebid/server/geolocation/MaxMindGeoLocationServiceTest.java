@@ -9,14 +9,21 @@ import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
 import io.vertx.core.Future;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
 import org.prebid.server.geolocation.model.GeoInfo;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.zip.GZIPOutputStream;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -58,6 +65,37 @@ public class MaxMindGeoLocationServiceTest {
                 .hasMessageStartingWith("IO Exception occurred while trying to read an archive/db file: no_file");
     }
 
+    @Test
+    public void setDataPathShouldExtractDatabaseFileNextToArchive(@TempDir Path tempDir) throws IOException {
+        // given
+        final Path archive = tempDir.resolve("GeoLite2-City.tar.gz");
+        givenArchive(archive, "GeoLite2-City/GeoLite2-City.mmdb", "invalid database");
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archive.toString());
+
+        // then
+        assertTrue(result.failed());
+        assertThat(tempDir.resolve("GeoLite2-City.mmdb")).hasContent("invalid database");
+        assertThat(tempDir).isDirectoryNotContaining("glob:**.tmp");
+    }
+
+    @Test
+    public void setDataPathShouldReturnFailedFutureIfDatabaseFileNotFoundInArchive(@TempDir Path tempDir)
+            throws IOException {
+
+        // given
+        final Path archive = tempDir.resolve("GeoLite2-City.tar.gz");
+        givenArchive(archive, "README.txt", "readme");
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archive.toString());
+
+        // then
+        assertTrue(result.failed());
+        assertThat(result.cause()).hasMessageStartingWith("Database file GeoLite2-City.mmdb not found in");
+    }
+
     @Test
     public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws NoSuchFieldException, IOException,
             GeoIp2Exception, IllegalAccessException {
@@ -112,4 +150,17 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    private static void givenArchive(Path archive, String entryName, String content) throws IOException {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        try (TarArchiveOutputStream tarOutput = new TarArchiveOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(archive)))) {
+
+            final TarArchiveEntry entry = new TarArchiveEntry(entryName);
+            entry.setSize(bytes.length);
+            tarOutput.putArchiveEntry(entry);
+            tarOutput.write(bytes);
+            tarOutput.closeArchiveEntry();
+        }
+    }
 }
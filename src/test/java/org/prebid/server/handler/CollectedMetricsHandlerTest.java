@@ -99,4 +99,31 @@ public class CollectedMetricsHandlerTest extends VertxTest {
         verify(httpResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE);
         verify(httpResponse).end(expectedResponse.toString());
     }
+
+    @Test
+    public void handleShouldRespondWithPercentilesOfAuctionStageTimersInMillis() {
+        // given
+        given(metricRegistry.getTimers())
+                .willReturn(new TreeMap<>(Collections.singletonMap("auction.stage.cache.duration", timer)));
+        given(timer.getSnapshot()).willReturn(snapshot);
+        given(snapshot.getValue(0.5)).willReturn(1_000_000.0);
+        given(snapshot.getValue(0.99)).willReturn(2_500_000.0);
+        given(snapshot.getValue(0.999)).willReturn(4_000_000.0);
+
+        // when
+        metricsHandler.handle(routingContext);
+
+        // then
+        final ObjectNode expectedResponse = mapper.createObjectNode()
+                .put("auction.stage.cache.duration", 0)
+                .put("auction.stage.cache.duration.p50", 1.0)
+                .put("auction.stage.cache.duration.p99", 2.5)
+                .put("auction.stage.cache.duration.p999", 4.0)
+                .put("counter", 0)
+                .put("gauge", 0)
+                .put("histogram", 0.0)
+                .put("meter", 0);
+
+        verify(httpResponse).end(expectedResponse.toString());
+    }
 }
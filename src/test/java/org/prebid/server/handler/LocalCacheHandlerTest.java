@@ -0,0 +1,95 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.cache.LocalCreativeStore;
+import org.prebid.server.cache.model.LocalCreative;
+import org.prebid.server.util.HttpUtil;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class LocalCacheHandlerTest {
+
+    @Mock
+    private LocalCreativeStore localCreativeStore;
+    @Mock(strictness = LENIENT)
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerRequest httpServerRequest;
+    @Mock(strictness = LENIENT)
+    private HttpServerResponse httpServerResponse;
+
+    private LocalCacheHandler target;
+
+    @BeforeEach
+    public void setUp() {
+        given(routingContext.request()).willReturn(httpServerRequest);
+        given(routingContext.response()).willReturn(httpServerResponse);
+
+        given(httpServerResponse.putHeader(any(CharSequence.class), any(CharSequence.class)))
+                .willReturn(httpServerResponse);
+        given(httpServerResponse.setStatusCode(anyInt())).willReturn(httpServerResponse);
+
+        target = new LocalCacheHandler(localCreativeStore, "http://cache-service/cache");
+    }
+
+    @Test
+    public void handleShouldRespondWithStoredCreative() {
+        // given
+        given(httpServerRequest.getParam("uuid")).willReturn("uuid1");
+        given(localCreativeStore.get("uuid1"))
+                .willReturn(LocalCreative.of("xml", "<VAST/>".getBytes(StandardCharsets.UTF_8), 300));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpServerResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, "application/xml");
+
+        final ArgumentCaptor<Buffer> bodyCaptor = ArgumentCaptor.forClass(Buffer.class);
+        verify(httpServerResponse).end(bodyCaptor.capture());
+        assertThat(bodyCaptor.getValue().toString()).isEqualTo("<VAST/>");
+    }
+
+    @Test
+    public void handleShouldRedirectToExternalCacheWhenCreativeIsMissing() {
+        // given
+        given(httpServerRequest.getParam("uuid")).willReturn("uuid1");
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpServerResponse).setStatusCode(302);
+        verify(httpServerResponse).putHeader(HttpUtil.LOCATION_HEADER, "http://cache-service/cache?uuid=uuid1");
+        verify(httpServerResponse).end();
+    }
+
+    @Test
+    public void handleShouldRespondWithBadRequestWhenUuidIsMissing() {
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpServerResponse).setStatusCode(400);
+        verify(httpServerResponse).end("Missing required parameter: uuid");
+        verifyNoInteractions(localCreativeStore);
+    }
+}
@@ -0,0 +1,130 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.handler.admin.TracesHandler;
+import org.prebid.server.tracing.Trace;
+import org.prebid.server.tracing.Tracer;
+
+import java.time.Clock;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TracesHandlerTest extends VertxTest {
+
+    @Mock
+    private RoutingContext routingContext;
+    @Mock(strictness = LENIENT)
+    private HttpServerResponse httpResponse;
+    @Mock
+    private HttpServerRequest httpRequest;
+
+    private Tracer tracer;
+
+    private TracesHandler target;
+
+    @BeforeEach
+    public void setUp() {
+        given(routingContext.response()).willReturn(httpResponse);
+        given(routingContext.request()).willReturn(httpRequest);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+        given(httpResponse.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(httpResponse);
+
+        tracer = new Tracer(true, 1.0, 10, Clock.systemUTC());
+
+        target = new TracesHandler(tracer, jacksonMapper, "/traces");
+    }
+
+    @Test
+    public void handleShouldRespondWithRecentTracesLimitedByParameter() {
+        // given
+        final Trace first = givenFinishedTrace();
+        final Trace second = givenFinishedTrace();
+        givenFinishedTrace();
+
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap().add("limit", "2"));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        final String body = captureResponseBody();
+        assertThat(body).doesNotContain(first.getTraceId()).contains(second.getTraceId());
+    }
+
+    @Test
+    public void handleShouldRespondWithTraceOfRequestedId() {
+        // given
+        final Trace trace = givenFinishedTrace();
+        final Trace otherTrace = givenFinishedTrace();
+
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap().add("traceId", trace.getTraceId()));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        final String body = captureResponseBody();
+        assertThat(body).contains(trace.getTraceId()).doesNotContain(otherTrace.getTraceId());
+    }
+
+    @Test
+    public void handleShouldApplyLimitToTracesOfRequestedId() {
+        // given
+        final Trace trace = givenFinishedTrace();
+        givenFinishedTrace();
+
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("traceId", trace.getTraceId())
+                .add("limit", "1"));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        final String body = captureResponseBody();
+        assertThat(body).contains(trace.getTraceId());
+    }
+
+    @Test
+    public void handleShouldRespondWithBadRequestWhenLimitIsInvalid() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap().add("limit", "invalid"));
+
+        // when
+        target.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(eq(400));
+        verify(httpResponse).end(eq("Invalid 'limit' parameter value"));
+    }
+
+    private Trace givenFinishedTrace() {
+        final Trace trace = tracer.start(null);
+        tracer.finish(trace, "auction", Map.of(), false);
+        return trace;
+    }
+
+    private String captureResponseBody() {
+        final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(httpResponse).end(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -46,6 +46,10 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidResponse;
 import org.prebid.server.proto.openrtb.ext.response.ExtResponseDebug;
+import org.prebid.server.tracing.Trace;
+import org.prebid.server.tracing.Tracer;
+import org.prebid.server.tracing.model.CompletedTrace;
+import org.prebid.server.tracing.model.Span;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.version.PrebidVersionProvider;
 
@@ -106,6 +110,8 @@ public class AuctionHandlerTest extends VertxTest {
 
     private Timeout timeout;
 
+    private Tracer tracer;
+
     @BeforeEach
     public void setUp() {
         given(routingContext.request()).willReturn(httpRequest);
@@ -126,6 +132,8 @@ public class AuctionHandlerTest extends VertxTest {
 
         timeout = new TimeoutFactory(clock).create(2000L);
 
+        tracer = new Tracer(true, 0.0, 10, clock);
+
         auctionHandler = new AuctionHandler(
                 0.01,
                 auctionRequestFactory,
@@ -136,7 +144,8 @@ public class AuctionHandlerTest extends VertxTest {
                 clock,
                 httpInteractionLogger,
                 prebidVersionProvider,
-                jacksonMapper);
+                jacksonMapper,
+                tracer);
     }
 
     @Test
@@ -831,6 +840,64 @@ public class AuctionHandlerTest extends VertxTest {
         verify(httpResponse).end("{}");
     }
 
+    @Test
+    public void shouldNotTraceRequestWhenItIsNotSampled() {
+        // given
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+        given(auctionRequestFactory.enrichAuctionContext(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+
+        givenHoldAuction(BidResponse.builder().build());
+
+        // when
+        auctionHandler.handle(routingContext);
+
+        // then
+        assertThat(captureAuctionContext().getTrace()).isSameAs(Trace.noop());
+        assertThat(tracer.recentTraces(10)).isEmpty();
+    }
+
+    @Test
+    public void shouldContinueUpstreamTraceWhenSampledRequestHasSampledTraceparentHeader() {
+        // given
+        tracer = new Tracer(true, 1.0, 10, clock);
+        auctionHandler = new AuctionHandler(
+                0.01,
+                auctionRequestFactory,
+                exchangeService,
+                skippedAuctionService,
+                analyticsReporterDelegator,
+                metrics,
+                clock,
+                httpInteractionLogger,
+                prebidVersionProvider,
+                jacksonMapper,
+                tracer);
+
+        given(auctionRequestFactory.parseRequest(any(), anyLong()))
+                .willReturn(Future.succeededFuture(givenAuctionContext(identity())));
+        given(auctionRequestFactory.enrichAuctionContext(any()))
+                .willAnswer(invocation -> Future.succeededFuture(invocation.getArgument(0)));
+
+        httpRequest.headers().add(
+                HttpUtil.TRACEPARENT_HEADER, "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+        givenHoldAuction(BidResponse.builder().build());
+
+        // when
+        auctionHandler.handle(routingContext);
+
+        // then
+        assertThat(captureAuctionContext().getTrace().getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+        assertThat(tracer.recentTraces(10))
+                .extracting(CompletedTrace::getTraceId)
+                .containsExactly("0af7651916cd43dd8448eb211c80319c");
+        final List<Span> spans = tracer.recentTraces(10).getFirst().getSpans();
+        assertThat(spans).extracting(Span::getName).containsExactly("auction", "request-parsing");
+        assertThat(spans.getFirst().getParentSpanId()).isEqualTo("b7ad6b7169203331");
+        assertThat(spans.get(1).getParentSpanId()).isEqualTo(spans.getFirst().getSpanId());
+    }
+
     private AuctionContext captureAuctionContext() {
         final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
         verify(exchangeService).holdAuction(captor.capture());
@@ -77,6 +77,7 @@ import org.prebid.server.hooks.v1.entrypoint.EntrypointHook;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestBody;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountHooksConfiguration;
@@ -191,7 +192,7 @@ public class HookStageExecutorTest extends VertxTest {
 
         final CaseInsensitiveMultiMap queryParams = CaseInsensitiveMultiMap.empty();
         final CaseInsensitiveMultiMap headers = CaseInsensitiveMultiMap.empty();
-        final String body = "body";
+        final HttpRequestBody body = HttpRequestBody.of("body");
 
         // when
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
@@ -203,7 +204,7 @@ public class HookStageExecutorTest extends VertxTest {
         final EntrypointPayload payload = future.result().getPayload();
         assertThat(payload.queryParams()).isSameAs(queryParams);
         assertThat(payload.headers()).isSameAs(headers);
-        assertThat(payload.body()).isSameAs(body);
+        assertThat(payload.body()).isSameAs(body.value());
     }
 
     @Test
@@ -270,7 +271,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -352,7 +353,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -384,7 +385,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -442,7 +443,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -554,7 +555,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -653,7 +654,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -741,7 +742,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -818,7 +819,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -918,7 +919,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -1012,7 +1013,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -1066,7 +1067,7 @@ public class HookStageExecutorTest extends VertxTest {
         final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
                 CaseInsensitiveMultiMap.empty(),
                 CaseInsensitiveMultiMap.empty(),
-                "body",
+                HttpRequestBody.of("body"),
                 hookExecutionContext);
 
         // then
@@ -0,0 +1,130 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class BucketedReservoirTest {
+
+    @Mock
+    private Clock clock;
+
+    private BucketedReservoir target;
+
+    @BeforeEach
+    public void setUp() {
+        given(clock.millis()).willReturn(0L);
+
+        target = new BucketedReservoir(1000L, clock);
+    }
+
+    @Test
+    public void bucketValueShouldBeExactForSmallValues() {
+        for (long value = 0; value < 128; value++) {
+            assertThat(BucketedReservoir.bucketValue(BucketedReservoir.bucketIndex(value))).isEqualTo(value);
+        }
+    }
+
+    @Test
+    public void bucketValueShouldBeWithinOnePercentOfGreaterValues() {
+        for (long value = 128; value < 100_000_000_000L; value = value * 3 / 2 + 7) {
+            final long bucketValue = BucketedReservoir.bucketValue(BucketedReservoir.bucketIndex(value));
+            assertThat((double) bucketValue).isCloseTo(value, within(value * 0.01));
+        }
+    }
+
+    @Test
+    public void bucketIndexShouldGrowWithValue() {
+        int previousIndex = -1;
+        for (long value = 0; value < 1_000_000; value++) {
+            final int index = BucketedReservoir.bucketIndex(value);
+            assertThat(index).isBetween(previousIndex, previousIndex + 1);
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    public void getSnapshotShouldReturnAccurateTailPercentiles() {
+        // given
+        for (int i = 0; i < 9_990; i++) {
+            target.update(10);
+        }
+        for (int i = 0; i < 10; i++) {
+            target.update(100);
+        }
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(10_000);
+        assertThat(snapshot.getMedian()).isEqualTo(10);
+        assertThat(snapshot.get99thPercentile()).isEqualTo(10);
+        assertThat(snapshot.getValue(0.9995)).isEqualTo(100);
+        assertThat(snapshot.getMin()).isEqualTo(10);
+        assertThat(snapshot.getMax()).isEqualTo(100);
+        assertThat(snapshot.getMean()).isCloseTo(10.09, within(0.001));
+    }
+
+    @Test
+    public void getSnapshotShouldReturnEmptySnapshotWhenNoValuesRecorded() {
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.getMedian()).isZero();
+        assertThat(snapshot.getMax()).isZero();
+        assertThat(snapshot.getMean()).isZero();
+        assertThat(snapshot.getStdDev()).isZero();
+        assertThat(snapshot.getValues()).isEmpty();
+    }
+
+    @Test
+    public void getSnapshotShouldIncludeValuesOfCurrentAndPreviousWindowsOnly() {
+        // given
+        target.update(1);
+
+        given(clock.millis()).willReturn(1000L);
+        target.update(2);
+
+        given(clock.millis()).willReturn(2000L);
+        target.update(3);
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.getValues()).containsExactly(2, 3);
+    }
+
+    @Test
+    public void getSnapshotShouldDropAllValuesWhenNothingWasRecordedDuringWholeWindow() {
+        // given
+        target.update(1);
+
+        given(clock.millis()).willReturn(5000L);
+
+        // when
+        final Snapshot snapshot = target.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+    }
+
+    @Test
+    public void getValueShouldFailOnInvalidQuantile() {
+        assertThatIllegalArgumentException().isThrownBy(() -> target.getSnapshot().getValue(1.5));
+    }
+}
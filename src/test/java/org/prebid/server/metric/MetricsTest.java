@@ -518,6 +518,32 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("account.accountId.adapter.conversant.request_time").getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterParamsValidationMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterParamsValidationTime(RUBICON, 1500L);
+        metrics.updateAdapterParamsValidationCacheMetric(RUBICON, MetricName.params_validation_cache_hit);
+        metrics.updateAdapterParamsValidationCacheMetric(CONVERSANT, MetricName.params_validation_cache_miss);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.params_validation_time").getCount()).isOne();
+        assertThat(metricRegistry.counter("adapter.rubicon.params_validation_cache_hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("adapter.conversant.params_validation_cache_miss").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAuctionStageTimeShouldUpdateMetrics() {
+        // when
+        metrics.updateAuctionStageTime(MetricName.bidder_requests, 1_500_000L);
+        metrics.updateAuctionStageTime(MetricName.bidder_requests, 2_500_000L);
+        metrics.updateAuctionStageTime(MetricName.cache, 1_000_000L);
+
+        // then
+        assertThat(metricRegistry.timer("auction.stage.bidder-requests.duration").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.timer("auction.stage.cache.duration").getSnapshot().getValues())
+                .containsExactly(BucketedReservoir.bucketValue(BucketedReservoir.bucketIndex(1_000_000L)));
+    }
+
     @Test
     public void updateAdapterRequestNobidMetricsShouldIncrementMetrics() {
         // when
@@ -910,6 +936,44 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.v1.vendorlist.fallback").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updatePrivacyTcfCacheMetricShouldIncrementMetric() {
+        // when
+        metrics.updatePrivacyTcfCacheMetric(MetricName.consent, MetricName.hit);
+        metrics.updatePrivacyTcfCacheMetric(MetricName.vendor_permission, MetricName.miss);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.cache.consent.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("privacy.tcf.cache.vendor-permission.miss").getCount()).isOne();
+    }
+
+    @Test
+    public void updatePrivacyTcfMaskingClassesMetricShouldUpdateHistogram() {
+        // when
+        metrics.updatePrivacyTcfMaskingClassesMetric(3);
+
+        // then
+        assertThat(metricRegistry.histogram("privacy.tcf.masking-classes").getCount()).isOne();
+    }
+
+    @Test
+    public void updatePrivacyGppCacheMetricShouldIncrementMetric() {
+        // when
+        metrics.updatePrivacyGppCacheMetric(MetricName.hit);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.gpp.cache.hit").getCount()).isOne();
+    }
+
+    @Test
+    public void updatePrivacyGppDecodeTimeShouldUpdateTimer() {
+        // when
+        metrics.updatePrivacyGppDecodeTime(1500L);
+
+        // then
+        assertThat(metricRegistry.timer("privacy.gpp.decode_time").getCount()).isOne();
+    }
+
     @Test
     public void shouldNotUpdateAccountMetricsIfVerbosityIsNone() {
         // given
@@ -1029,6 +1093,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("geolocation_fail").getCount()).isOne();
     }
 
+    @Test
+    public void updateGeoLocationCacheMetricShouldIncrementHitOrMissMetric() {
+        // when
+        metrics.updateGeoLocationCacheMetric(true);
+        metrics.updateGeoLocationCacheMetric(false);
+        metrics.updateGeoLocationCacheMetric(true);
+
+        // then
+        assertThat(metricRegistry.counter("geolocation_cache_hit").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("geolocation_cache_miss").getCount()).isOne();
+    }
+
     @Test
     public void shouldAlwaysIncrementGeoLocationRequestsMetricAndEitherSuccessfulOrFailMetricDependingOnFlag() {
         // when
@@ -1126,6 +1202,29 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("currency-rates.stale.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateCurrencyConversionMetricShouldIncrementMetric() {
+        // when
+        metrics.updateCurrencyConversionMetric(MetricName.request_conversions);
+        metrics.updateCurrencyConversionMetric(MetricName.external_conversions);
+        metrics.updateCurrencyConversionMetric(MetricName.external_conversions);
+        metrics.updateCurrencyConversionMetric(MetricName.failed_conversions);
+
+        // then
+        assertThat(metricRegistry.counter("currency-rates.conversions.request").getCount()).isOne();
+        assertThat(metricRegistry.counter("currency-rates.conversions.external").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("currency-rates.conversions.failed").getCount()).isOne();
+    }
+
+    @Test
+    public void updateCurrencyRatesUpdateTimeShouldUpdateTimer() {
+        // when
+        metrics.updateCurrencyRatesUpdateTime(123L);
+
+        // then
+        assertThat(metricRegistry.timer("currency-rates.update-time").getCount()).isOne();
+    }
+
     @Test
     public void updateSettingsCacheRefreshTimeShouldUpdateTimer() {
         // when
@@ -13,6 +13,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +58,21 @@ public class UpdatableMetricsTest {
         verify(nameCreator).apply(eq(MetricName.requests));
     }
 
+    @Test
+    public void incCounterShouldLookupMetricInRegistryOnlyOnceOnSuccessiveCalls() {
+        // given
+        metricRegistry = spy(new MetricRegistry());
+        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.flushingCounter, MetricName::toString);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests, 5);
+        updatableMetrics.incCounter(MetricName.requests, 6);
+
+        // then
+        verify(metricRegistry).counter(eq("requests"), any());
+        assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(11);
+    }
+
     @Test
     public void incCounterShouldIncrementByOne() {
         // given
@@ -99,6 +115,21 @@ public class UpdatableMetricsTest {
         verify(nameCreator).apply(eq(MetricName.request_time));
     }
 
+    @Test
+    public void updateTimerShouldLookupMetricInRegistryOnlyOnceOnSuccessiveCalls() {
+        // given
+        metricRegistry = spy(new MetricRegistry());
+        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, MetricName::toString);
+
+        // when
+        updatableMetrics.updateTimer(MetricName.request_time, 1000L);
+        updatableMetrics.updateTimer(MetricName.request_time, 2000L);
+
+        // then
+        verify(metricRegistry).timer(eq("request_time"), any());
+        assertThat(metricRegistry.timer("request_time").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updateTimerShouldConvertToNanos() {
         // given
@@ -184,6 +215,20 @@ public class UpdatableMetricsTest {
         assertThat(metricRegistry.getGauges()).doesNotContainKey("opened");
     }
 
+    @Test
+    public void incCounterShouldRegisterMetricAgainAfterItWasRemoved() {
+        // given
+        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, MetricName::toString);
+        updatableMetrics.incCounter(MetricName.requests);
+
+        // when
+        updatableMetrics.removeMetric(MetricName.requests);
+        updatableMetrics.incCounter(MetricName.requests);
+
+        // then
+        assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(1);
+    }
+
     private UpdatableMetrics givenUpdatableMetricsWith(CounterType counterType) {
         return new UpdatableMetrics(metricRegistry, counterType, MetricName::toString);
     }
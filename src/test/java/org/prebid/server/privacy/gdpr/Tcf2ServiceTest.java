@@ -10,6 +10,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
 import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
@@ -19,6 +21,7 @@ import org.prebid.server.privacy.gdpr.vendorlist.VersionedVendorListService;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 import org.prebid.server.settings.model.AccountGdprConfig;
 import org.prebid.server.settings.model.EnforcePurpose;
+import org.prebid.server.settings.model.GdprConsentCacheConfig;
 import org.prebid.server.settings.model.GdprConfig;
 import org.prebid.server.settings.model.Purpose;
 import org.prebid.server.settings.model.PurposeEid;
@@ -78,6 +81,8 @@ public class Tcf2ServiceTest extends VertxTest {
     private TCString tcString;
     @Mock(strictness = LENIENT)
     private VendorIdResolver vendorIdResolver;
+    @Mock
+    private Metrics metrics;
 
     private Tcf2Service target;
 
@@ -130,7 +135,8 @@ public class Tcf2ServiceTest extends VertxTest {
                 purposeStrategies,
                 specialFeaturesStrategies,
                 vendorListService,
-                bidderCatalog);
+                bidderCatalog,
+                metrics);
     }
 
     private void initPurposes() {
@@ -215,6 +221,82 @@ public class Tcf2ServiceTest extends VertxTest {
         verify(vendorListService).forConsent(any());
     }
 
+    @Test
+    public void permissionsForShouldReturnCachedPermissionsForSameConsent() {
+        // given
+        gdprConfig.setConsentCache(GdprConsentCacheConfig.of(60, 100));
+        target = new Tcf2Service(
+                gdprConfig,
+                purposeStrategies,
+                specialFeaturesStrategies,
+                vendorListService,
+                bidderCatalog,
+                metrics);
+
+        given(bidderCatalog.nameByVendorId(any())).willReturn("rubicon");
+
+        // when
+        target.permissionsFor(singleton(1), tcString);
+        final Future<Collection<VendorPermission>> result = target.permissionsFor(singleton(1), tcString);
+
+        // then
+        assertThat(result).succeededWith(singletonList(VendorPermission.of(1, "rubicon", restrictAll())));
+
+        verify(vendorListService).forConsent(any());
+        verify(metrics).updatePrivacyTcfCacheMetric(MetricName.vendor_permission, MetricName.miss);
+        verify(metrics).updatePrivacyTcfCacheMetric(MetricName.vendor_permission, MetricName.hit);
+    }
+
+    @Test
+    public void permissionsForShouldPreserveOrderWhenOnlySomePermissionsAreCached() {
+        // given
+        gdprConfig.setConsentCache(GdprConsentCacheConfig.of(60, 100));
+        target = new Tcf2Service(
+                gdprConfig,
+                purposeStrategies,
+                specialFeaturesStrategies,
+                vendorListService,
+                bidderCatalog,
+                metrics);
+
+        given(bidderCatalog.nameByVendorId(1)).willReturn("rubicon");
+        given(bidderCatalog.nameByVendorId(2)).willReturn("appnexus");
+
+        // when
+        target.permissionsFor(singleton(2), tcString);
+        final Future<Collection<VendorPermission>> result =
+                target.permissionsFor(new TreeSet<>(asList(1, 2)), tcString);
+
+        // then
+        assertThat(result).succeededWith(asList(
+                VendorPermission.of(1, "rubicon", restrictAll()),
+                VendorPermission.of(2, "appnexus", restrictAll())));
+    }
+
+    @Test
+    public void permissionsForShouldNotCachePermissionsCalculatedWithoutVendorList() {
+        // given
+        gdprConfig.setConsentCache(GdprConsentCacheConfig.of(60, 100));
+        target = new Tcf2Service(
+                gdprConfig,
+                purposeStrategies,
+                specialFeaturesStrategies,
+                vendorListService,
+                bidderCatalog,
+                metrics);
+
+        given(vendorListService.forConsent(any())).willReturn(Future.failedFuture("Bad version"));
+        given(bidderCatalog.nameByVendorId(any())).willReturn("rubicon");
+
+        // when
+        target.permissionsFor(singleton(1), tcString);
+        target.permissionsFor(singleton(1), tcString);
+
+        // then
+        verify(vendorListService, times(2)).forConsent(any());
+        verify(metrics, times(2)).updatePrivacyTcfCacheMetric(MetricName.vendor_permission, MetricName.miss);
+    }
+
     @Test
     public void permissionsForShouldMergeAccountPurposes() {
         // given
@@ -25,6 +25,7 @@ import org.prebid.server.settings.model.AccountGdprConfig;
 import org.prebid.server.settings.model.EnabledForRequestType;
 import org.prebid.server.settings.model.EnforcePurpose;
 import org.prebid.server.settings.model.GdprConfig;
+import org.prebid.server.settings.model.GdprConsentCacheConfig;
 import org.prebid.server.settings.model.Purpose;
 import org.prebid.server.settings.model.Purposes;
 
@@ -316,6 +317,42 @@ public class TcfDefinerServiceTest {
         verify(metrics).updatePrivacyTcfGeoMetric(2, null);
     }
 
+    @Test
+    public void resolveTcfContextShouldReuseDecodedConsentWhenConsentCacheIsEnabled() {
+        // given
+        final GdprConfig gdprConfig = GdprConfig.builder()
+                .enabled(true)
+                .consentStringMeansInScope(true)
+                .consentCache(GdprConsentCacheConfig.of(60, 100))
+                .build();
+
+        target = new TcfDefinerService(
+                gdprConfig,
+                singleton(EEA_COUNTRY),
+                tcf2Service,
+                geoLocationServiceWrapper,
+                bidderCatalog,
+                ipAddressHelper,
+                metrics,
+                0.01);
+
+        final Privacy privacy = Privacy.builder()
+                .consentString("CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA")
+                .build();
+
+        // when
+        final Future<TcfContext> first = target.resolveTcfContext(privacy, null, null, null, null, null);
+        final Future<TcfContext> second = target.resolveTcfContext(privacy, null, null, null, null, null);
+
+        // then
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded();
+        assertThat(second.result().getConsent()).isSameAs(first.result().getConsent());
+
+        verify(metrics).updatePrivacyTcfCacheMetric(MetricName.consent, MetricName.miss);
+        verify(metrics).updatePrivacyTcfCacheMetric(MetricName.consent, MetricName.hit);
+    }
+
     @Test
     public void resolveTcfContextShouldUseEeaListFromAccountConfig() {
         // given
@@ -0,0 +1,145 @@
+package org.prebid.server.tracing;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.tracing.model.CompletedTrace;
+import org.prebid.server.tracing.model.Span;
+import org.prebid.server.tracing.model.SpanStatus;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TracerTest {
+
+    private static final String TRACEPARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+    @Test
+    public void creationShouldFailOnNonPositiveBufferSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new Tracer(true, 1.0, 0, Clock.systemUTC()));
+    }
+
+    @Test
+    public void startShouldReturnNoopTraceWhenTracingIsDisabled() {
+        // given
+        final Tracer target = new Tracer(false, 1.0, 10, Clock.systemUTC());
+
+        // when and then
+        assertThat(target.start(TRACEPARENT)).isSameAs(Trace.noop());
+    }
+
+    @Test
+    public void startShouldSampleRequestsWithConfiguredRate() {
+        assertThat(new Tracer(true, 1.0, 10, Clock.systemUTC()).start(null).isSampled()).isTrue();
+        assertThat(new Tracer(true, 0.0, 10, Clock.systemUTC()).start(null).isSampled()).isFalse();
+    }
+
+    @Test
+    public void startShouldContinueSampledUpstreamTrace() {
+        // given
+        final Tracer target = new Tracer(true, 1.0, 10, Clock.systemUTC());
+
+        // when
+        final Trace trace = target.start(TRACEPARENT);
+
+        // then
+        assertThat(trace.getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+    }
+
+    @Test
+    public void startShouldNotSampleUpstreamSampledTraceBeyondConfiguredRate() {
+        // given
+        final Tracer target = new Tracer(true, 0.0, 10, Clock.systemUTC());
+
+        // when and then
+        assertThat(target.start(TRACEPARENT).isSampled()).isFalse();
+    }
+
+    @Test
+    public void startShouldStartNewTraceForNotSampledOrInvalidUpstreamTrace() {
+        // given
+        final Tracer target = new Tracer(true, 1.0, 10, Clock.systemUTC());
+
+        // when and then
+        assertThat(target.start("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-00").getTraceId())
+                .isNotEqualTo("0af7651916cd43dd8448eb211c80319c");
+        assertThat(target.start("00-00000000000000000000000000000000-b7ad6b7169203331-01").getTraceId())
+                .isNotEqualTo("00000000000000000000000000000000");
+        assertThat(target.start("invalid").isSampled()).isTrue();
+    }
+
+    @Test
+    public void finishShouldAddRootSpanAsParentOfOtherSpans() {
+        // given
+        final Tracer target = new Tracer(true, 1.0, 10, Clock.systemUTC());
+        final Trace trace = target.start(TRACEPARENT);
+        trace.addSpan("stage", System.nanoTime(), Map.of("key", "value"), true);
+
+        // when
+        target.finish(trace, "auction", Map.of(), false);
+
+        // then
+        final List<Span> spans = target.recentTraces(1).getFirst().getSpans();
+        assertThat(spans).hasSize(2);
+
+        final Span root = spans.getFirst();
+        assertThat(root.getName()).isEqualTo("auction");
+        assertThat(root.getParentSpanId()).isEqualTo("b7ad6b7169203331");
+        assertThat(root.getStatus()).isEqualTo(SpanStatus.ok);
+
+        final Span stage = spans.get(1);
+        assertThat(stage.getParentSpanId()).isEqualTo(root.getSpanId());
+        assertThat(stage.getAttributes()).containsEntry("key", "value");
+        assertThat(stage.getStatus()).isEqualTo(SpanStatus.error);
+        assertThat(stage.getStartTimeUnixNano()).isBetween(root.getStartTimeUnixNano(), root.getEndTimeUnixNano());
+    }
+
+    @Test
+    public void traceparentShouldMakeGivenSpanParentOfDownstreamOne() {
+        // given
+        final Trace trace = new Tracer(true, 1.0, 10, Clock.systemUTC()).start(null);
+
+        // when
+        final String spanId = trace.nextSpanId();
+
+        // then
+        assertThat(trace.traceparent(spanId)).isEqualTo("00-%s-%s-01".formatted(trace.getTraceId(), spanId));
+    }
+
+    @Test
+    public void noopTraceShouldNotRecordAnything() {
+        // given
+        final Tracer target = new Tracer(true, 1.0, 10, Clock.systemUTC());
+
+        // when
+        Trace.noop().addSpan("stage", System.nanoTime(), Map.of(), false);
+        target.finish(Trace.noop(), "auction", Map.of(), false);
+
+        // then
+        assertThat(Trace.noop().nextSpanId()).isNull();
+        assertThat(target.recentTraces(10)).isEmpty();
+    }
+
+    @Test
+    public void recentTracesShouldReturnMostRecentTracesFirstAndDropOldest() {
+        // given
+        final Tracer target = new Tracer(true, 1.0, 2, Clock.systemUTC());
+        final List<String> traceIds = List.of(finish(target), finish(target), finish(target));
+
+        // when and then
+        assertThat(target.recentTraces(10))
+                .extracting(CompletedTrace::getTraceId)
+                .containsExactly(traceIds.get(2), traceIds.get(1));
+        assertThat(target.recentTraces(1))
+                .extracting(CompletedTrace::getTraceId)
+                .containsExactly(traceIds.get(2));
+    }
+
+    private static String finish(Tracer tracer) {
+        final Trace trace = tracer.start(null);
+        tracer.finish(trace, "auction", Map.of(), false);
+        return trace.getTraceId();
+    }
+}
@@ -0,0 +1,114 @@
+package org.prebid.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class MicroPriceUtilTest {
+
+    private static final int SAMPLES = 100_000;
+
+    private final Random random = new Random(42L);
+
+    @Test
+    public void toMicrosShouldRepresentValuesWithUpToSixDecimalPlacesExactly() {
+        for (int i = 0; i < SAMPLES; i++) {
+            // given
+            final BigDecimal value = givenValue(random.nextInt(7));
+
+            // when
+            final long result = MicroPriceUtil.toMicros(value);
+
+            // then
+            assertThat(MicroPriceUtil.toBigDecimal(result, value.scale())).isEqualTo(value);
+        }
+    }
+
+    @Test
+    public void toMicrosShouldReturnNotRepresentableForValuesThatCannotBeRepresentedExactly() {
+        assertThat(MicroPriceUtil.toMicros(new BigDecimal("1.0000001"))).isEqualTo(MicroPriceUtil.NOT_REPRESENTABLE);
+        assertThat(MicroPriceUtil.toMicros(new BigDecimal("1.00000000"))).isEqualTo(MicroPriceUtil.NOT_REPRESENTABLE);
+        assertThat(MicroPriceUtil.toMicros(new BigDecimal("1E+3"))).isEqualTo(MicroPriceUtil.NOT_REPRESENTABLE);
+        assertThat(MicroPriceUtil.toMicros(new BigDecimal("1000000000000")))
+                .isEqualTo(MicroPriceUtil.NOT_REPRESENTABLE);
+        assertThat(MicroPriceUtil.toMicros(new BigDecimal("999999999999.999999"))).isEqualTo(999999999999999999L);
+    }
+
+    @Test
+    public void toBigDecimalShouldFailWhenRoundingIsNecessary() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> MicroPriceUtil.toBigDecimal(1_234_500L, 3));
+    }
+
+    @Test
+    public void multiplyHalfEvenShouldGiveTheSameResultAsBigDecimalHalfEvenRounding() {
+        for (int i = 0; i < SAMPLES; i++) {
+            // given
+            final BigDecimal value = givenValue(random.nextInt(7));
+            final BigDecimal multiplier = BigDecimal.valueOf(
+                    random.nextLong(1, 100_000_000_000L), random.nextInt(13));
+            final int scale = random.nextInt(7);
+
+            // when
+            final long result = MicroPriceUtil.multiplyHalfEven(MicroPriceUtil.toMicros(value), multiplier, scale);
+
+            // then
+            final BigDecimal expected = value.multiply(multiplier).setScale(scale, RoundingMode.HALF_EVEN);
+            if (result != MicroPriceUtil.NOT_REPRESENTABLE) {
+                assertThat(MicroPriceUtil.toBigDecimal(result, scale)).isEqualTo(expected);
+            } else {
+                // only products not fitting into long are left to BigDecimal
+                assertThat(value.movePointRight(MicroPriceUtil.SCALE)
+                        .multiply(multiplier.movePointRight(multiplier.scale())).abs())
+                        .isGreaterThan(BigDecimal.valueOf(Long.MAX_VALUE));
+            }
+        }
+    }
+
+    @Test
+    public void multiplyHalfEvenShouldRoundTiesToEven() {
+        // given
+        final long micros = MicroPriceUtil.toMicros(new BigDecimal("1.0025"));
+
+        // when and then
+        assertThat(MicroPriceUtil.multiplyHalfEven(micros, BigDecimal.ONE, 3)).isEqualTo(1_002_000L);
+        assertThat(MicroPriceUtil.multiplyHalfEven(micros, new BigDecimal("3"), 3)).isEqualTo(3_008_000L);
+        assertThat(MicroPriceUtil.multiplyHalfEven(-1_003_500L, BigDecimal.ONE, 3)).isEqualTo(-1_004_000L);
+    }
+
+    @Test
+    public void multiplyHalfEvenShouldReturnNotRepresentableWhenMultiplierHasTooManyDigits() {
+        assertThat(MicroPriceUtil.multiplyHalfEven(1_000_000L, new BigDecimal("0.1234567890123456789"), 3))
+                .isEqualTo(MicroPriceUtil.NOT_REPRESENTABLE);
+    }
+
+    @Test
+    public void floorToIncrementShouldGiveTheSameResultAsBigDecimalFloorDivision() {
+        for (int i = 0; i < SAMPLES; i++) {
+            // given
+            final BigDecimal value = givenValue(random.nextInt(7));
+            final BigDecimal min = BigDecimal.valueOf(random.nextLong(1_000_000L), random.nextInt(4));
+            final BigDecimal increment = BigDecimal.valueOf(random.nextLong(1, 10_000L), random.nextInt(4));
+
+            // when
+            final long result = MicroPriceUtil.floorToIncrement(
+                    MicroPriceUtil.toMicros(value), MicroPriceUtil.toMicros(min), MicroPriceUtil.toMicros(increment));
+
+            // then
+            final BigDecimal expected = value.subtract(min)
+                    .divide(increment, 0, RoundingMode.FLOOR)
+                    .multiply(increment)
+                    .add(min);
+            assertThat(MicroPriceUtil.toBigDecimal(result, expected.scale())).isEqualTo(expected);
+        }
+    }
+
+    private BigDecimal givenValue(int scale) {
+        return BigDecimal.valueOf(random.nextLong(-100_000_000_000L, 100_000_000_000L), scale);
+    }
+}
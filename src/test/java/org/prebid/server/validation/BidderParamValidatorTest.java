@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,6 +10,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.adtelligent.ExtImpAdtelligent;
 import org.prebid.server.proto.openrtb.ext.request.appnexus.ExtImpAppnexus;
 import org.prebid.server.proto.openrtb.ext.request.audiencenetwork.ExtImpAudienceNetwork;
@@ -30,9 +33,13 @@ import java.util.Set;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class BidderParamValidatorTest extends VertxTest {
@@ -50,6 +57,8 @@ public class BidderParamValidatorTest extends VertxTest {
 
     @Mock
     private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
 
     private BidderParamValidator bidderParamValidator;
 
@@ -69,27 +78,89 @@ public class BidderParamValidatorTest extends VertxTest {
         given(bidderCatalog.bidderInfoByName(anyString())).willReturn(givenBidderInfo());
         given(bidderCatalog.bidderInfoByName(eq(APPNEXUS_ALIAS))).willReturn(givenBidderInfo(APPNEXUS));
 
-        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper);
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", jacksonMapper, metrics);
     }
 
     @Test
     public void createShouldFailOnInvalidSchemaPath() {
         assertThatIllegalArgumentException().isThrownBy(
-                () -> BidderParamValidator.create(bidderCatalog, "noschema", jacksonMapper));
+                () -> BidderParamValidator.create(bidderCatalog, "noschema", jacksonMapper, metrics));
+    }
+
+    @Test
+    public void createShouldFailOnNullMetrics() {
+        assertThatNullPointerException().isThrownBy(
+                () -> BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper, null));
     }
 
     @Test
     public void createShouldFailOnEmptySchemaFile() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> BidderParamValidator.create(
-                        bidderCatalog, "org/prebid/server/validation/schema/empty", jacksonMapper));
+                        bidderCatalog, "org/prebid/server/validation/schema/empty", jacksonMapper, metrics));
     }
 
     @Test
     public void createShouldFailOnInvalidSchemaFile() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> BidderParamValidator.create(
-                        bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper));
+                        bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper, metrics));
+    }
+
+    @Test
+    public void validateShouldReturnValidationMessagesWhenCompilationIsLazy() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", jacksonMapper, true, 0, metrics);
+        final ExtImpRubicon ext = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+        final JsonNode node = mapper.convertValue(ext, JsonNode.class);
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate("rubicon", node);
+
+        // then
+        assertThat(messages).hasSize(1);
+    }
+
+    @Test
+    public void validateShouldReuseCachedResultForSameParams() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", jacksonMapper, false, 100, metrics);
+        final ExtImpRubicon ext = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+
+        // when
+        final Set<String> firstMessages = bidderParamValidator.validate(
+                "rubicon", mapper.convertValue(ext, JsonNode.class));
+        final Set<String> secondMessages = bidderParamValidator.validate(
+                "RUBICON", mapper.convertValue(ext, JsonNode.class));
+
+        // then
+        assertThat(firstMessages).hasSize(1);
+        assertThat(secondMessages).isSameAs(firstMessages);
+        verify(metrics).updateAdapterParamsValidationCacheMetric(RUBICON, MetricName.params_validation_cache_miss);
+        verify(metrics).updateAdapterParamsValidationCacheMetric(RUBICON, MetricName.params_validation_cache_hit);
+        verify(metrics, times(2)).updateAdapterParamsValidationTime(eq(RUBICON), anyLong());
+    }
+
+    @Test
+    public void validateShouldNotReuseCachedResultWhenParamsWereModifiedAfterValidation() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", jacksonMapper, false, 100, metrics);
+        final ObjectNode params = mapper.valueToTree(ExtImpRubicon.builder().siteId(2).zoneId(3).build());
+
+        // when
+        final Set<String> firstMessages = bidderParamValidator.validate("rubicon", params);
+        params.put("accountId", 1);
+        final Set<String> secondMessages = bidderParamValidator.validate("rubicon", params);
+
+        // then
+        assertThat(firstMessages).hasSize(1);
+        assertThat(secondMessages).isEmpty();
+        verify(metrics, times(2))
+                .updateAdapterParamsValidationCacheMetric(RUBICON, MetricName.params_validation_cache_miss);
     }
 
     @Test
@@ -344,7 +415,7 @@ public class BidderParamValidatorTest extends VertxTest {
         given(bidderCatalog.names()).willReturn(new HashSet<>(asList("test-rubicon", "test-appnexus")));
 
         bidderParamValidator = BidderParamValidator.create(
-                bidderCatalog, "org/prebid/server/validation/schema/valid", jacksonMapper);
+                bidderCatalog, "org/prebid/server/validation/schema/valid", jacksonMapper, metrics);
 
         // when
         final String result = bidderParamValidator.schemas();